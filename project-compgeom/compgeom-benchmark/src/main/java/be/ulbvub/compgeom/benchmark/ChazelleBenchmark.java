@@ -0,0 +1,48 @@
+package be.ulbvub.compgeom.benchmark;
+
+import be.ulbvub.compgeom.generator.PolygonFamilies;
+import be.ulbvub.compgeom.decomposition.DecompositionConfig;
+import be.ulbvub.compgeom.decomposition.Decompositions;
+import be.ulbvub.compgeom.utils.CalculationResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link DecompositionConfig.ChazelleConfig#decompose()}. The pattern detection goes over all
+ * triplets of notches, so the default sizes are a lot smaller than in {@link DecompositionBenchmark}.
+ * Bigger sizes can still be requested with e.g. {@code ./gradlew jmh -PjmhArgs="ChazelleBenchmark -p size=1000"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ChazelleBenchmark {
+    private static final long SEED = 42;
+
+    @Param({"10", "20", "40"})
+    public int size;
+
+    @Param({"Saw"})
+    public PolygonFamilies family;
+
+    /**
+     * Only used by the families that allow to choose the amount of reflex vertices
+     */
+    @Param({"0.3"})
+    public float reflexRatio;
+
+    private DecompositionConfig config;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        config = Decompositions.Chazelle.config(family.generator(SEED, reflexRatio).generate(size));
+    }
+
+    @Benchmark
+    public CalculationResult decompose() {
+        return config.decompose();
+    }
+}
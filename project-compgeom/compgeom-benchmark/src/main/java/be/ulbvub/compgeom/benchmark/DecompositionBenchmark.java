@@ -0,0 +1,56 @@
+package be.ulbvub.compgeom.benchmark;
+
+import be.ulbvub.compgeom.generator.PolygonFamilies;
+import be.ulbvub.compgeom.decomposition.DecompositionConfig;
+import be.ulbvub.compgeom.decomposition.Decompositions;
+import be.ulbvub.compgeom.utils.CalculationResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end benchmark of {@link DecompositionConfig#decompose()} for every decomposition that scales
+ * to big polygons. Chazelle is benchmarked separately in {@link ChazelleBenchmark} as it cannot handle
+ * the same sizes.
+ * <p>
+ * Run with {@code ./gradlew jmh}, or e.g. {@code ./gradlew jmh -PjmhArgs="DecompositionBenchmark -p engine=Kd -p family=Star,Curl"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class DecompositionBenchmark {
+    private static final long SEED = 42;
+
+    @Param({"Triangulation", "Greedy", "Slab", "HertelMehlhorn", "Kd"})
+    public Decompositions engine;
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int size;
+
+    /**
+     * The random 2-opt family takes O(n^2) per untangling pass to generate, so avoid it for the biggest sizes
+     */
+    @Param({"Saw"})
+    public PolygonFamilies family;
+
+    /**
+     * Only used by the families that allow to choose the amount of reflex vertices
+     */
+    @Param({"0.3"})
+    public float reflexRatio;
+
+    private DecompositionConfig config;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        config = engine.config(family.generator(SEED, reflexRatio).generate(size));
+    }
+
+    @Benchmark
+    public CalculationResult decompose() {
+        return config.decompose();
+    }
+}
@@ -0,0 +1,235 @@
+package be.ulbvub.compgeom.benchmark;
+
+import be.ulbvub.compgeom.Polygon;
+import be.ulbvub.compgeom.decomposition.Decompositions;
+import be.ulbvub.compgeom.generator.PolygonFamilies;
+import be.ulbvub.compgeom.utils.CalculationResult;
+import be.ulbvub.compgeom.utils.Point;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Quality versus time report of the decompositions. Every engine decomposes a corpus of generated polygons, and for
+ * every polygon the engines that are Pareto-optimal on (number of faces, latency) are marked: no other engine gives
+ * at most as many faces in at most as much time.
+ * <p>
+ * Fewer faces make the Minkowski sums and collision tests that follow cheaper, so an engine only pays off when its
+ * extra latency buys fewer faces. The report is printed as a table and written to {@code <output>/pareto.csv}.
+ * <p>
+ * Run with {@code ./gradlew :compgeom-benchmark:paretoReport}, options can be passed with {@code -PreportArgs="..."}
+ */
+public class ParetoReport {
+    private static final String USAGE = """
+            Usage: pareto [--families <family,...>] [--sizes <n,...>] [--ratios <ratio,...>] [--runs <runs>] [--output <directory>]
+              --families  Polygon families of the corpus, among %s, defaults to all of them
+              --sizes     Number of vertices of the polygons, defaults to %s
+              --ratios    Ratios of reflex vertices for the families that allow to choose it, defaults to %s
+              --runs      Number of timed runs per polygon and engine, the fastest one is reported, defaults to %d
+              --output    Directory the CSV is written to, defaults to %s
+            """;
+    private static final String CSV_HEADER = "family;size;reflex_ratio;engine;status;faces;steiner;millis;pareto";
+    private static final long SEED = 42;
+    /**
+     * Chazelle grows as n^6, bigger polygons would take hours
+     */
+    private static final int CHAZELLE_MAX_SIZE = 32;
+
+    private List<PolygonFamilies> families = List.of(PolygonFamilies.values());
+    private int[] sizes = {16, 32, 128, 512, 2048};
+    private float[] ratios = {0.1f, 0.3f, 0.5f};
+    private int runs = 3;
+    private Path output = Path.of("reports");
+
+    /**
+     * Outcome of one engine on one polygon of the corpus
+     *
+     * @param engine          The engine that decomposed the polygon
+     * @param status          {@code ok}, {@code skipped} if the polygon is too big for the engine, or the exception
+     *                        the engine failed with
+     * @param faces           Number of faces of the decomposition
+     * @param steinerVertices Number of vertices the decomposition added to the polygon
+     * @param nanos           Fastest wall-clock time of the decomposition
+     */
+    record Measurement(Decompositions engine, String status, int faces, int steinerVertices, long nanos) {
+        boolean succeeded() {
+            return status.equals("ok");
+        }
+
+        /**
+         * @return If this measurement is at least as good as the other in faces and time, and better in one of them
+         */
+        boolean dominates(Measurement other) {
+            return faces <= other.faces && nanos <= other.nanos && (faces < other.faces || nanos < other.nanos);
+        }
+    }
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        final var report = new ParetoReport();
+        try {
+            report.parse(args);
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            System.err.printf(USAGE, Arrays.stream(PolygonFamilies.values()).map(Enum::name).toList(),
+                    Arrays.toString(report.sizes), Arrays.toString(report.ratios), report.runs, report.output);
+            System.exit(2);
+        }
+
+        try {
+            report.run(System.out);
+        } catch (IOException ex) {
+            System.err.println("Could not write the report: " + ex.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private void parse(String[] args) {
+        for (var i = 0; i < args.length; i++) {
+            final var option = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + option);
+            }
+            final var value = args[++i];
+            try {
+                switch (option) {
+                    case "--families" -> families = Arrays.stream(value.split(",")).map(ParetoReport::parseFamily).toList();
+                    case "--sizes" -> sizes = Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray();
+                    case "--ratios" -> {
+                        final var parts = value.split(",");
+                        ratios = new float[parts.length];
+                        for (var j = 0; j < parts.length; j++) {
+                            ratios[j] = Float.parseFloat(parts[j]);
+                        }
+                    }
+                    case "--runs" -> runs = Integer.parseInt(value);
+                    case "--output" -> output = Path.of(value);
+                    default -> throw new IllegalArgumentException("Unknown option: " + option);
+                }
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException("Invalid value for " + option + ": " + value);
+            }
+        }
+
+        if (runs < 1) {
+            throw new IllegalArgumentException("At least one run is needed");
+        }
+    }
+
+    private static PolygonFamilies parseFamily(String name) {
+        for (var family : PolygonFamilies.values()) {
+            if (family.name().equalsIgnoreCase(name)) {
+                return family;
+            }
+        }
+        throw new IllegalArgumentException("Unknown family: " + name);
+    }
+
+    private void run(PrintStream out) throws IOException {
+        Files.createDirectories(output);
+
+        final var csv = new ArrayList<String>();
+        csv.add(CSV_HEADER);
+        out.printf("%-12s %6s %6s  %-14s %6s %8s %10s  %s%n", "family", "size", "reflex", "engine", "faces", "steiner", "millis", "pareto");
+        for (var family : families) {
+            // Only the star family lets the reflex ratio be chosen, the others would generate the same polygon
+            final var familyRatios = family == PolygonFamilies.Star ? ratios : new float[]{0};
+            for (var size : sizes) {
+                for (var ratio : familyRatios) {
+                    final var polygon = family.generator(SEED, ratio).generate(size);
+                    final var reflexRatio = polygon.countReflexVertices() / (double) polygon.points().size();
+
+                    final var measurements = new ArrayList<Measurement>();
+                    for (var engine : Decompositions.values()) {
+                        measurements.add(measure(engine, polygon));
+                    }
+                    final var front = paretoFront(measurements);
+
+                    for (var measurement : measurements) {
+                        final var pareto = front.contains(measurement);
+                        csv.add(String.join(";",
+                                family.name(),
+                                String.valueOf(size),
+                                format(reflexRatio),
+                                measurement.engine().name(),
+                                measurement.status(),
+                                measurement.succeeded() ? String.valueOf(measurement.faces()) : "",
+                                measurement.succeeded() ? String.valueOf(measurement.steinerVertices()) : "",
+                                measurement.succeeded() ? format(measurement.nanos() / 1e6) : "",
+                                String.valueOf(pareto)));
+                        if (measurement.succeeded()) {
+                            out.printf(Locale.ROOT, "%-12s %6d %6.3f  %-14s %6d %8d %10.3f  %s%n", family.name(), size, reflexRatio,
+                                    measurement.engine().name(), measurement.faces(), measurement.steinerVertices(),
+                                    measurement.nanos() / 1e6, pareto ? "*" : "");
+                        } else {
+                            out.printf(Locale.ROOT, "%-12s %6d %6.3f  %-14s %s%n", family.name(), size, reflexRatio,
+                                    measurement.engine().name(), measurement.status());
+                        }
+                    }
+                }
+            }
+        }
+
+        final var file = output.resolve("pareto.csv");
+        Files.write(file, csv);
+        out.println("Written to " + file);
+    }
+
+    private Measurement measure(Decompositions engine, Polygon polygon) {
+        final var size = polygon.points().size();
+        if (engine == Decompositions.Chazelle && size > CHAZELLE_MAX_SIZE) {
+            return new Measurement(engine, "skipped", 0, 0, 0);
+        }
+
+        try {
+            // The first run only warms up the JIT
+            engine.config(polygon).decompose();
+
+            var fastest = Long.MAX_VALUE;
+            CalculationResult result = null;
+            for (var run = 0; run < runs; run++) {
+                final var config = engine.config(polygon);
+                final var start = System.nanoTime();
+                result = config.decompose();
+                fastest = Math.min(fastest, System.nanoTime() - start);
+            }
+            return new Measurement(engine, "ok", result.getFaceCount(), countSteinerVertices(polygon, result), fastest);
+        } catch (RuntimeException | AssertionError ex) {
+            return new Measurement(engine, "failed: " + ex.getClass().getSimpleName(), 0, 0, 0);
+        }
+    }
+
+    /**
+     * {@link CalculationResult#getVertexCount()} counts a vertex once per face for the results that are a group of
+     * polygons, so the distinct points of the faces are compared to the input instead
+     */
+    private static int countSteinerVertices(Polygon polygon, CalculationResult result) {
+        final var points = new HashSet<Point>();
+        for (var face : result.getFacePolygons()) {
+            points.addAll(face.points());
+        }
+        polygon.points().forEach(points::remove);
+        return points.size();
+    }
+
+    /**
+     * @return The successful measurements that no other successful measurement dominates
+     */
+    static List<Measurement> paretoFront(List<Measurement> measurements) {
+        final var succeeded = measurements.stream().filter(Measurement::succeeded).toList();
+        return succeeded.stream()
+                .filter(candidate -> succeeded.stream().noneMatch(other -> other.dominates(candidate)))
+                .toList();
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+}
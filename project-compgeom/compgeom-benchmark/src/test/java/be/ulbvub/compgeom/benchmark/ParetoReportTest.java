@@ -0,0 +1,34 @@
+package be.ulbvub.compgeom.benchmark;
+
+import be.ulbvub.compgeom.benchmark.ParetoReport.Measurement;
+import be.ulbvub.compgeom.decomposition.Decompositions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ParetoReportTest {
+
+    @Test
+    void testParetoFront() {
+        final var fastest = new Measurement(Decompositions.Greedy, "ok", 30, 0, 100);
+        final var fewestFaces = new Measurement(Decompositions.Chazelle, "ok", 1, 0, 10_000);
+        final var tradeoff = new Measurement(Decompositions.Slab, "ok", 15, 14, 500);
+        // As many faces as greedy, but slower
+        final var dominated = new Measurement(Decompositions.Triangulation, "ok", 30, 0, 200);
+        final var failed = new Measurement(Decompositions.Kd, "failed: NullPointerException", 0, 0, 0);
+
+        final var front = ParetoReport.paretoFront(List.of(fastest, fewestFaces, tradeoff, dominated, failed));
+
+        assertEquals(List.of(fastest, fewestFaces, tradeoff), front);
+    }
+
+    @Test
+    void testTiesAreBothOptimal() {
+        final var a = new Measurement(Decompositions.Greedy, "ok", 10, 0, 100);
+        final var b = new Measurement(Decompositions.Kd, "ok", 10, 2, 100);
+
+        assertEquals(List.of(a, b), ParetoReport.paretoFront(List.of(a, b)));
+    }
+}
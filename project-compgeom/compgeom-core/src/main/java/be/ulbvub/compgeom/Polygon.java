@@ -1,22 +1,21 @@
 package be.ulbvub.compgeom;
 
-import be.ulbvub.compgeom.ui.DrawContext;
-import be.ulbvub.compgeom.ui.Drawable;
 import be.ulbvub.compgeom.utils.Line;
+import be.ulbvub.compgeom.utils.Point;
+import be.ulbvub.compgeom.utils.SlidingIterator;
 import be.ulbvub.compgeom.utils.TurnDirection;
 import be.ulbvub.compgeom.utils.Utils;
-import processing.core.PVector;
 
 import java.util.ArrayList;
 import java.util.Iterator;
 
-public record Polygon(ArrayList<PVector> points) implements Drawable {
-    private static class ForwardIterator implements Iterator<PVector> {
+public record Polygon(ArrayList<Point> points) {
+    private static class ForwardIterator implements Iterator<Point> {
         private final int startIndex;
-        private final ArrayList<PVector> points;
+        private final ArrayList<Point> points;
         private int currentStep = 0;
 
-        public ForwardIterator(int startIndex, ArrayList<PVector> points) {
+        public ForwardIterator(int startIndex, ArrayList<Point> points) {
             this.startIndex = startIndex;
             this.points = points;
         }
@@ -27,7 +26,7 @@ public record Polygon(ArrayList<PVector> points) implements Drawable {
         }
 
         @Override
-        public PVector next() {
+        public Point next() {
             if (!hasNext()) return null;
 
             final var index = (startIndex + currentStep) % points.size();
@@ -47,12 +46,12 @@ public record Polygon(ArrayList<PVector> points) implements Drawable {
         }
     }
 
-    private static class BackwardIterator implements Iterator<PVector> {
+    private static class BackwardIterator implements Iterator<Point> {
         private final int startIndex;
-        private final ArrayList<PVector> points;
+        private final ArrayList<Point> points;
         private int currentStep = 0;
 
-        public BackwardIterator(int startIndex, ArrayList<PVector> points) {
+        public BackwardIterator(int startIndex, ArrayList<Point> points) {
             this.startIndex = startIndex;
             this.points = points;
         }
@@ -63,7 +62,7 @@ public record Polygon(ArrayList<PVector> points) implements Drawable {
         }
 
         @Override
-        public PVector next() {
+        public Point next() {
             if (!hasNext()) return null;
 
             final var index = (startIndex - currentStep + points.size()) % points.size();
@@ -83,25 +82,6 @@ public record Polygon(ArrayList<PVector> points) implements Drawable {
         }
     }
 
-    @Override
-    public void draw(DrawContext context) {
-        // claim all space by default as we do not have a fixed size on the polygon
-        context.claimRegion(context.size());
-
-        context.applyStyle();
-        final var applet = context.applet();
-
-        for (var point : points) {
-            applet.circle(point.x, point.y, context.style().getPointSize());
-        }
-
-        for (var i = 0; i < points.size(); i++) {
-            var start = points.get(i);
-            var end = points.get((i + 1) % points.size());
-            applet.line(start.x, start.y, end.x, end.y);
-        }
-    }
-
     public int getLeftMostIndex() {
         var index = 0;
         for (var i = 0; i < points.size(); i++) {
@@ -113,35 +93,34 @@ public record Polygon(ArrayList<PVector> points) implements Drawable {
         return index;
     }
 
-    public int getLeftMostAlongDirection(PVector direction) {
-        final var matrix = Utils.getDirectionMatrix(direction);
+    public int getLeftMostAlongDirection(Point direction) {
         var index = 0;
-        var leftMostTransformed = matrix.mult(points.get(0), new PVector(0, 0));
+        var leftMostTransformed = Utils.alongDirection(direction, points.get(0));
 
         for (var i = 0; i < points.size(); i++) {
-            var transformedPoint = matrix.mult(points.get(i), new PVector(0, 0));
+            var transformedPoint = Utils.alongDirection(direction, points.get(i));
             if (transformedPoint.x < leftMostTransformed.x) {
                 index = i;
-                leftMostTransformed = matrix.mult(points.get(i), new PVector(0, 0));
+                leftMostTransformed = transformedPoint;
             }
         }
 
         return index;
     }
 
-    public PVector getPreviousFromIndex(int index) {
+    public Point getPreviousFromIndex(int index) {
         return points.get((index - 1 + points.size()) % points.size());
     }
 
-    public PVector getNextFromIndex(int index) {
+    public Point getNextFromIndex(int index) {
         return points.get((index + 1) % points.size());
     }
 
-    public Iterator<PVector> iterateFrom(int index) {
+    public Iterator<Point> iterateFrom(int index) {
         return new ForwardIterator(index, points);
     }
 
-    public Iterator<PVector> iterateFromBack(int index) {
+    public Iterator<Point> iterateFromBack(int index) {
         return new BackwardIterator(index, points);
     }
 
@@ -155,10 +134,10 @@ public record Polygon(ArrayList<PVector> points) implements Drawable {
      * @param end   The last point to stop cutting
      * @return The cut polygon. If polygon has less than 3 points, no points will be cut
      */
-    public Polygon cutFromPointToPoint(PVector start, PVector end) {
+    public Polygon cutFromPointToPoint(Point start, Point end) {
         if (points.size() <= 2) return new Polygon(new ArrayList<>());
 
-        final var resultingPolygon = new ArrayList<PVector>();
+        final var resultingPolygon = new ArrayList<Point>();
         final var leftMost = getLeftMostIndex();
         final var point2 = getNextFromIndex(leftMost);
         final var pointN = getPreviousFromIndex(leftMost);
@@ -171,10 +150,10 @@ public record Polygon(ArrayList<PVector> points) implements Drawable {
             if (!hasStartPassed) {
                 if (next.equals(start)) {
                     hasStartPassed = true;
-                    resultingPolygon.add(next.copy());
+                    resultingPolygon.add(next);
                 }
             } else {
-                resultingPolygon.add(next.copy());
+                resultingPolygon.add(next);
 
                 if (next.equals(end)) {
                     break;
@@ -194,7 +173,7 @@ public record Polygon(ArrayList<PVector> points) implements Drawable {
      * @param edge     The edge on which a point will be inserted
      * @param newPoint The new point
      */
-    public void addPoint(Line edge, PVector newPoint) {
+    public void addPoint(Line edge, Point newPoint) {
         assert !edge.start().equals(edge.end());
 
         for (var currIndex = 0; currIndex < points.size(); currIndex++) {
@@ -219,7 +198,7 @@ public record Polygon(ArrayList<PVector> points) implements Drawable {
      *
      * @return An iterator that iterates in ccw order. The iterator starts at the left most-point.
      */
-    public Iterator<PVector> ccwIterator() {
+    public Iterator<Point> ccwIterator() {
         final var leftmost = getLeftMostIndex();
         final var point2 = getNextFromIndex(leftmost);
         final var pointN = getPreviousFromIndex(leftmost);
@@ -244,9 +223,27 @@ public record Polygon(ArrayList<PVector> points) implements Drawable {
         throw new IllegalStateException();
     }
 
+    /**
+     * @return The amount of reflex vertices, i.e. vertices with an interior angle larger than 180 degrees
+     */
+    public int countReflexVertices() {
+        if (points.size() < 3) return 0;
+
+        var count = 0;
+        final var iter = new SlidingIterator<>(3, ccwIterator());
+        while (iter.hasNext()) {
+            final var window = iter.next();
+            if (TurnDirection.orientation(window.get(0), window.get(1), window.get(2)) == TurnDirection.RIGHT) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     protected Object clone() {
-        return new Polygon((ArrayList<PVector>) points.clone());
+        return new Polygon((ArrayList<Point>) points.clone());
     }
 }
@@ -1,7 +1,8 @@
 package be.ulbvub.compgeom;
 
 import be.ulbvub.compgeom.chazelle.NotchFinder;
-import processing.core.PVector;
+import be.ulbvub.compgeom.utils.DecompositionStats;
+import be.ulbvub.compgeom.utils.Point;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -9,7 +10,6 @@ import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * A very simple polygon implementation for pure algorithmic purpose.
@@ -21,9 +21,9 @@ import java.util.stream.Collectors;
  *
  * @param points the points of the polygon
  */
-public record SimplePolygon(List<PVector> points) {
+public record SimplePolygon(List<Point> points) {
 
-	private PVector getNext(final int index) {
+	private Point getNext(final int index) {
 		if(points.isEmpty()) {
 			throw new IllegalArgumentException("points cannot be empty.");
 		}
@@ -34,7 +34,7 @@ public record SimplePolygon(List<PVector> points) {
 		return points.get(index + 1);
 	}
 
-	private PVector getPrevious(final int index) {
+	private Point getPrevious(final int index) {
 		if(points.isEmpty()) {
 			throw new IllegalArgumentException("points cannot be empty.");
 		}
@@ -57,32 +57,32 @@ public record SimplePolygon(List<PVector> points) {
 	 *
 	 * @return the left part polygon of the split.
 	 */
-	public SimplePolygon split(final PVector a, final PVector b) {
-		final List<PVector> subPolygonPoints = new ArrayList<>();
+	public SimplePolygon split(final Point a, final Point b) {
+		final List<Point> subPolygonPoints = new ArrayList<>();
 		boolean buildingSubPolygon = false;
 
 		if(!points.contains(a) || !points.contains(b)) {
 			throw new IllegalArgumentException("Both points must belong to the polygon.");
 		}
 
-		for (final PVector point : points) {
+		for (final Point point : points) {
 			//As soon as the first point a is visited, start building the sub polygon
 			if(point.equals(a) || point.equals(b)) {
 
 				//If the process was currently building, the last point must still be added in the polygon
 				if(buildingSubPolygon) {
-					subPolygonPoints.add(point.copy());
+					subPolygonPoints.add(point);
 				}
 				//Switch the value;
 				buildingSubPolygon = !buildingSubPolygon;
 			}
 			//Add the point only if the sub polygon is being built
 			if(buildingSubPolygon) {
-				subPolygonPoints.add(point.copy());
+				subPolygonPoints.add(point);
 			}
 		}
 		//Remove all sub polygon points from this instance, effectively splitting it into this object and this method's returned object
-		for (final PVector subPolygonPoint : subPolygonPoints) {
+		for (final Point subPolygonPoint : subPolygonPoints) {
 			//Keep the common edge
 			if(!(subPolygonPoint.equals(a) || subPolygonPoint.equals(b))) {
 				this.points.remove(subPolygonPoint);
@@ -100,17 +100,17 @@ public record SimplePolygon(List<PVector> points) {
 	 * @param nP    the number of notches in P
 	 * @return a list of points, in clockwise order, making for the range of the notch
 	 */
-	public List<PVector> getNotchRange(final PVector notch, final int nP) {
-		final List<PVector> range = new ArrayList<>();
+	public List<Point> getNotchRange(final Point notch, final int nP) {
+		final List<Point> range = new ArrayList<>();
 
 		//Immediately return the empty set if size < 4 as no notch can exist in a polygon < 4
 		if(size() < 4) {
 			return range;
 		}
 		int i = points.indexOf(notch);
-		final PVector after = getNext(i);
-		final PVector before = getPrevious(i);
-		PVector u = getNext(i);
+		final Point after = getNext(i);
+		final Point before = getPrevious(i);
+		Point u = getNext(i);
 
 		//Visit all other points until we hit the notch
 		while(!u.equals(notch)) {
@@ -124,8 +124,8 @@ public record SimplePolygon(List<PVector> points) {
 			final SimplePolygon subPolygonA = this.clone();
 			final SimplePolygon subPolygonB = subPolygonA.split(notch, u);
 
-			final List<PVector> subPolygonANotches = new NotchFinder(subPolygonA).findNotches().getNotches();
-			final List<PVector> subPolygonBNotches = new NotchFinder(subPolygonB).findNotches().getNotches();
+			final List<Point> subPolygonANotches = new NotchFinder(subPolygonA).findNotches().getNotches();
+			final List<Point> subPolygonBNotches = new NotchFinder(subPolygonB).findNotches().getNotches();
 
 			//If the subdivision of P, using u, into PA and PB reduces the number of notches -> add u in the range
 			if(subPolygonANotches.size() + subPolygonBNotches.size() == nP - 1) {
@@ -138,11 +138,11 @@ public record SimplePolygon(List<PVector> points) {
 		return range;
 	}
 
-	public List<PVector[]> getEdges() {
-		final List<PVector[]> edges = new ArrayList<>();
+	public List<Point[]> getEdges() {
+		final List<Point[]> edges = new ArrayList<>();
 
 		for(int i = 0; i < points().size(); i++) {
-			edges.add(new PVector[]{points.get(i), getNext(i)});
+			edges.add(new Point[]{points.get(i), getNext(i)});
 		}
 
 		return edges;
@@ -162,7 +162,7 @@ public record SimplePolygon(List<PVector> points) {
 	 * @param b a segment extremity
 	 * @return true if a b exists within this instance
 	 */
-	public boolean exists(final PVector a, final PVector b) {
+	public boolean exists(final Point a, final Point b) {
 		//Check if both points are in the polygon
 		if(points.contains(a) && points.contains(b)) {
 			final int index = points.indexOf(a);
@@ -174,9 +174,9 @@ public record SimplePolygon(List<PVector> points) {
 		return false;
 	}
 
-	private boolean isAtoBInside(final PVector a, final PVector b) {
+	private boolean isAtoBInside(final Point a, final Point b) {
 		//Check for notches clockwise
-		final List<PVector> notches = new NotchFinder(this).findNotches().getNotches();
+		final List<Point> notches = new NotchFinder(this).findNotches().getNotches();
 
 		//No notches mean the polygon is convex, hence a b is always inside with a and b points of P.
 		if(notches.isEmpty()) {
@@ -184,7 +184,7 @@ public record SimplePolygon(List<PVector> points) {
 		}
 		boolean inBetween = false;
 
-		for(final PVector point : points) {
+		for(final Point point : points) {
 			if(inBetween && notches.contains(point)) {
 				//Check if left turn
 				if(getTurnDirection(a, point, b) > 0) {
@@ -209,22 +209,22 @@ public record SimplePolygon(List<PVector> points) {
 	 *
 	 * @return true if v is inside tis polygon
 	 */
-	public boolean isInside(final PVector v) {
+	public boolean isInside(final Point v) {
 		if(points.contains(v)) {
 			return true;
 		}
-		final var vPrime = new PVector(v.x + 100_000, v.y);
-		final PVector[] ray = new PVector[] {v, vPrime};
+		final var vPrime = new Point(v.x + 100_000, v.y);
+		final Point[] ray = new Point[] {v, vPrime};
 		int counter = 0;
 		int intersectionsWithP = 0;
 
-		for(final PVector[] edge : getEdges()) {
+		for(final Point[] edge : getEdges()) {
 			if(doIntersect(edge, ray)) {
 				//Check if co-linear
 				if(getTurnDirection(edge[0], v, edge[1]) == 0) {
 					return onSegment(edge[0], edge[1], v);
 				}
-				final Optional<PVector> intersection = getIntersection(edge, ray);
+				final Optional<Point> intersection = getIntersection(edge, ray);
 
 				//If this evaluates to true, the counter will be incremented twice for the same coordinates
 				if(intersection.isPresent() && points.contains(intersection.get())) {
@@ -245,15 +245,15 @@ public record SimplePolygon(List<PVector> points) {
 	 * @param b an endpoint
 	 * @return true if a b is inside this polygon's instance
 	 */
-	public boolean isInside(final PVector a, final PVector b) {
+	public boolean isInside(final Point a, final Point b) {
 		//If the segment a b is a segment of this polygon, then a b is inside
 		if(exists(a, b)) {
 			return true;
 		}
 		if(points.contains(a) && points.contains(b)) {
 			//Check for any intersection occurring somewhere else than one of the endpoints of the segment to check
-			for(final PVector[] edge : getEdges()) {
-				if(getIntersection(edge, new PVector[]{a, b})
+			for(final Point[] edge : getEdges()) {
+				if(getIntersection(edge, new Point[]{a, b})
 						.map(intersection -> !(intersection.x == a.x && intersection.y == a.y) && !(intersection.x == b.x && intersection.y == b.y))
 						//No intersection -> false
 						.orElse(false))
@@ -266,21 +266,21 @@ public record SimplePolygon(List<PVector> points) {
 			//=> If FULLY outside: ALL points of ab are outside. If FULLY inside: ALL points of ab are inside
 
 			//Take a point in the middle of the segment ab (any other point in ]ab[ would work):
-			final var middlePoint = new PVector((b.x + a.x) / 2, (b.y + a.y) / 2);
+			final var middlePoint = new Point((b.x + a.x) / 2, (b.y + a.y) / 2);
 
 			return isInside(middlePoint);
 
 		} else if(points.contains(a) || points.contains(b)) {
-			final PVector v = points.contains(a) ? a : b;
-			final PVector m = points.contains(a) ? b : a;
+			final Point v = points.contains(a) ? a : b;
+			final Point m = points.contains(a) ? b : a;
 
 			//If m is not inside P, then vm cannot be inside P
 			if(!isInside(m)) {
 				return false;
 			}
 			//If m is inside P, check if vm has intersects with edges, excluding endpoints
-			for(final PVector[] edge : getEdges()) {
-				if(getIntersection(edge, new PVector[] {v, m})
+			for(final Point[] edge : getEdges()) {
+				if(getIntersection(edge, new Point[] {v, m})
 						//Check if the intersection coordinate is not a point of P nor the intersection occurs at m
 						.map(intersection -> !(intersection.x == v.x && intersection.y == v.y) && !(intersection.x == m.x && intersection.y == m.y))
 						//If no intersection found, then return false (i.e. no intersection found yet)
@@ -298,13 +298,13 @@ public record SimplePolygon(List<PVector> points) {
 		}
 	}
 
-	public boolean isInside(final PVector[] segment) {
+	public boolean isInside(final Point[] segment) {
 		return isInside(segment[0], segment[1]);
 	}
 
 	@Override
 	public SimplePolygon clone() {
-		return new SimplePolygon(points.stream().map(PVector::copy).collect(Collectors.toCollection(LinkedList::new)));
+		return new SimplePolygon(new LinkedList<>(points));
 	}
 
 	/**
@@ -316,7 +316,7 @@ public record SimplePolygon(List<PVector> points) {
 	 *
 	 * @return the angle in rad
 	 */
-	public static double orientedAngle(final PVector a, final PVector b, final PVector c) {
+	public static double orientedAngle(final Point a, final Point b, final Point c) {
 		//length b -- a
 		final double lengthBA = length(b, a);
 		//length b -- c
@@ -336,7 +336,7 @@ public record SimplePolygon(List<PVector> points) {
 	 *
 	 * @return the length between a and b
 	 */
-	public static double length(final PVector a, final PVector b) {
+	public static double length(final Point a, final Point b) {
 		//sqrt( (a.x - b.x)² + (a.y - b.y)² )
 		return Math.sqrt(Math.pow(a.x - b.x, 2) + Math.pow(a.y - b.y, 2));
 	}
@@ -349,7 +349,7 @@ public record SimplePolygon(List<PVector> points) {
 	 *
 	 * @return a positive value for a left turn, a negative value for a right turn and 0 otherwise
 	 */
-	public static int getTurnDirection(final PVector[] l, final PVector[] s) {
+	public static int getTurnDirection(final Point[] l, final Point[] s) {
 		if(l[0] == s[0]) {
 			return getTurnDirection(l[1], l[0], s[1]);
 		}
@@ -376,7 +376,8 @@ public record SimplePolygon(List<PVector> points) {
 	 *
 	 * @return a positive value for a left turn, a negative value for a right turn and 0 otherwise
 	 */
-	public static int getTurnDirection(final PVector a, final PVector b, final PVector c) {
+	public static int getTurnDirection(final Point a, final Point b, final Point c) {
+		if (DecompositionStats.COUNTING) DecompositionStats.count(DecompositionStats.Counter.OrientationTests);
 		//(x2 - x1) * (y3 - y1) - (y2 - y1) * (x3 - x1)
 		final double value = (b.x - a.x) * (c.y - a.y) - (b.y - a.y) * (c.x - a.x);
 
@@ -398,14 +399,14 @@ public record SimplePolygon(List<PVector> points) {
 	 *
 	 * @return true if v lies on [a, b]
 	 */
-	private static boolean onSegment(final PVector a, final PVector b, final PVector v) {
+	private static boolean onSegment(final Point a, final Point b, final Point v) {
 		return v.x <= Math.max(a.x, b.x)
 				&& v.x >= Math.min(a.x, b.x)
 				&& v.y <= Math.max(a.y, b.y)
 				&& v.y >= Math.min(a.y, b.y);
 	}
 
-	private static boolean onSegment(final PVector l[], final PVector v) {
+	private static boolean onSegment(final Point l[], final Point v) {
 		return onSegment(l[0], l[1], v);
 	}
 
@@ -419,7 +420,7 @@ public record SimplePolygon(List<PVector> points) {
 	 *
 	 * @return true if the segments intersect
 	 */
-	public static boolean doIntersect(final PVector p1, final PVector p2, final PVector p3, final PVector p4) {
+	public static boolean doIntersect(final Point p1, final Point p2, final Point p3, final Point p4) {
 		final double orientation1 = SimplePolygon.getTurnDirection(p3, p4, p1);
 		final double orientation2 = SimplePolygon.getTurnDirection(p3, p4, p2);
 		final double orientation3 = SimplePolygon.getTurnDirection(p1, p2, p3);
@@ -445,11 +446,11 @@ public record SimplePolygon(List<PVector> points) {
 		return false;
 	}
 
-	public static boolean doIntersect(final PVector[] l, final PVector[] s) {
+	public static boolean doIntersect(final Point[] l, final Point[] s) {
 		return doIntersect(l[0], l[1], s[0], s[1]);
 	}
 
-	public static Optional<PVector> getIntersection(final PVector[] l, final PVector[] s) {
+	public static Optional<Point> getIntersection(final Point[] l, final Point[] s) {
 		if(!doIntersect(l[0], l[1], s[0], s[1])) {
 			return Optional.empty();
 		}
@@ -489,7 +490,7 @@ public record SimplePolygon(List<PVector> points) {
 		x = new BigDecimal(Float.toString(x)).setScale(6, RoundingMode.HALF_DOWN).floatValue();
 		y = new BigDecimal(Float.toString(y)).setScale(6, RoundingMode.HALF_DOWN).floatValue();
 
-		return Optional.of(new PVector(x, y));
+		return Optional.of(new Point(x, y));
 	}
 
 	/*
@@ -512,14 +513,14 @@ public record SimplePolygon(List<PVector> points) {
 			var y = sSlope.multiply(BigDecimal.valueOf(l[0].x)).add(sOriginY);
 			var x = BigDecimal.valueOf(l[0].x);
 
-			return Optional.of(new PVector(x.floatValue(), y.floatValue()));
+			return Optional.of(new Point(x.floatValue(), y.floatValue()));
 		}
 		if(s[0].x == s[1].x) {
 			//i.e s is vertical -> x-coordinate of intersection is x of s
 			var y = lSlope.multiply(BigDecimal.valueOf(s[0].x)).add(lOriginY);
 			var x = BigDecimal.valueOf(s[0].x);
 
-			return Optional.of(new PVector(x.floatValue(), y.floatValue()));
+			return Optional.of(new Point(x.floatValue(), y.floatValue()));
 		}
 
 		//Compute x coordinate of intersection:
@@ -527,7 +528,7 @@ public record SimplePolygon(List<PVector> points) {
 		//Compute y coordinate of intersection:
 		var y = new BigDecimal(Float.toString(lSlope.floatValue() * x.floatValue() + lOriginY.floatValue()));
 
-		return Optional.of(new PVector(x.floatValue(), y.floatValue()));
+		return Optional.of(new Point(x.floatValue(), y.floatValue()));
 	 */
 
 }
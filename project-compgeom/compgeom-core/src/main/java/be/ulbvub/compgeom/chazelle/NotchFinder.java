@@ -1,7 +1,7 @@
 package be.ulbvub.compgeom.chazelle;
 
 import be.ulbvub.compgeom.SimplePolygon;
-import processing.core.PVector;
+import be.ulbvub.compgeom.utils.Point;
 
 import java.util.*;
 
@@ -12,7 +12,7 @@ public class NotchFinder {
 
 	private final SimplePolygon polygon;
 
-	private final List<PVector> notches = new ArrayList<>();
+	private final List<Point> notches = new ArrayList<>();
 
 	/**
 	 * @param polygon the polygon from which the notches will be found
@@ -35,9 +35,9 @@ public class NotchFinder {
 
 		//Iterate for all points and get the edges surrounding each of them
 		for(int i = 0; i < size; i++) {
-			final PVector[] edge1 = new PVector[] {polygon.points().get(i == 0 ? size-1 : i-1),
+			final Point[] edge1 = new Point[] {polygon.points().get(i == 0 ? size-1 : i-1),
 					polygon.points().get(i)};
-			final PVector[] edge2 = new PVector[] {polygon.points().get(i), polygon.points().get((i+1) % size)};
+			final Point[] edge2 = new Point[] {polygon.points().get(i), polygon.points().get((i+1) % size)};
 
 			//Check for a left turn
 			if(SimplePolygon.getTurnDirection(edge1, edge2) < 0) {
@@ -55,7 +55,7 @@ public class NotchFinder {
 	 *
 	 * @return a list of points
 	 */
-	public List<PVector> getNotches() {
+	public List<Point> getNotches() {
 		return notches;
 	}
 
@@ -1,7 +1,8 @@
 package be.ulbvub.compgeom.chazelle;
 
 import be.ulbvub.compgeom.SimplePolygon;
-import processing.core.PVector;
+import be.ulbvub.compgeom.utils.Point;
+import be.ulbvub.compgeom.utils.Trace;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -38,11 +39,11 @@ public interface Pattern {
 
 	class X2Pattern implements Pattern {
 
-		private final PVector i;
+		private final Point i;
 
-		private final PVector j;
+		private final Point j;
 
-		public X2Pattern(final PVector i, final PVector j) {
+		public X2Pattern(final Point i, final Point j) {
 			this.i = i;
 			this.j = j;
 		}
@@ -66,7 +67,7 @@ public interface Pattern {
 		@Override
 		public boolean canSplit(final SimplePolygon polygon) {
 			return polygon.points().contains(i) && polygon.points().contains(j)
-					&& !polygon.getEdges().contains(new PVector[]{i, j}) && !polygon.getEdges().contains(new PVector[]{j, i});
+					&& !polygon.getEdges().contains(new Point[]{i, j}) && !polygon.getEdges().contains(new Point[]{j, i});
 		}
 
 		@Override
@@ -84,13 +85,13 @@ public interface Pattern {
 
 	class X3Pattern implements Pattern {
 
-		private final PVector i;
+		private final Point i;
 
-		private final PVector j;
+		private final Point j;
 
-		private final PVector k;
+		private final Point k;
 
-		public X3Pattern(final PVector i, final PVector j, final PVector k) {
+		public X3Pattern(final Point i, final Point j, final Point k) {
 			this.i = i;
 			this.j = j;
 			this.k = k;
@@ -117,9 +118,9 @@ public interface Pattern {
 			//Clone the original polygon
 			var polygonToSplit = polygon.clone();
 			//split the original polygon into 2 parts along ij
-			System.out.println("Splitting " + polygonToSplit.points() + " along " + i + "; " + j);
+			if(Trace.ENABLED) Trace.log("Splitting " + polygonToSplit.points() + " along " + i + "; " + j);
 			List<SimplePolygon> splitPolygon = ijPattern.split(polygonToSplit);
-			splitPolygon.forEach(p -> System.out.println("p: " + p.points()));
+			if(Trace.ENABLED) splitPolygon.forEach(p -> Trace.log("p: " + p.points()));
 			//finalSubPolygon points always points to a sub polygon that cannot be further split in 2
 			SimplePolygon finalSubPolygon;
 
@@ -127,40 +128,40 @@ public interface Pattern {
 			//If the first split cannot be split by either jk or ki, then that first split is final
 			if(!jkPattern.canSplit(splitPolygon.get(0)) && !kiPattern.canSplit(splitPolygon.get(0))) {
 				finalSubPolygon = splitPolygon.get(0);
-				System.out.println("0 is final: " + finalSubPolygon.points());
+				if(Trace.ENABLED) Trace.log("0 is final: " + finalSubPolygon.points());
 				//Now, the polygon to split is the other element of the previous split
 				polygonToSplit = splitPolygon.get(1);
 			} else {
 				//Otherwise, the other part is the final first split
 				finalSubPolygon = splitPolygon.get(1);
-				System.out.println("0 is final: " + finalSubPolygon.points());
+				if(Trace.ENABLED) Trace.log("0 is final: " + finalSubPolygon.points());
 				//Now, the polygon to split is the other element of the previous split
 				polygonToSplit = splitPolygon.get(0);
 			}
 			//At that point, we can add the first final sub polygon
 			polygons.add(finalSubPolygon);
-			System.out.println("Splitting: " + polygonToSplit.points() + " along " + j + "; " + k);
+			if(Trace.ENABLED) Trace.log("Splitting: " + polygonToSplit.points() + " along " + j + "; " + k);
 			//Split on jk
 			splitPolygon = jkPattern.split(polygonToSplit);
-			splitPolygon.forEach(p -> System.out.println("p: " + p.points()));
+			if(Trace.ENABLED) splitPolygon.forEach(p -> Trace.log("p: " + p.points()));
 
 			//If the first split from the jk split cannot be split further, then that split is final
 			if(!kiPattern.canSplit(splitPolygon.get(0))) {
 				finalSubPolygon = splitPolygon.get(0);
-				System.out.println("0 is final: " + finalSubPolygon.points());
+				if(Trace.ENABLED) Trace.log("0 is final: " + finalSubPolygon.points());
 				polygonToSplit = splitPolygon.get(1);
 			} else {
 				finalSubPolygon = splitPolygon.get(1);
-				System.out.println("1 is final: " + finalSubPolygon.points());
+				if(Trace.ENABLED) Trace.log("1 is final: " + finalSubPolygon.points());
 				polygonToSplit = splitPolygon.get(0);
 			}
 			//At that point, we can add the second final sub polygon
 			polygons.add(finalSubPolygon);
-			System.out.println("Splitting: " + polygonToSplit.points() + " along " + k + "; " + i);
+			if(Trace.ENABLED) Trace.log("Splitting: " + polygonToSplit.points() + " along " + k + "; " + i);
 			//Lastly, split the non-final sub polygon into the 2 last (final) parts
 			splitPolygon = kiPattern.split(polygonToSplit);
-			System.out.println("Split into: ");
-			splitPolygon.forEach(p -> System.out.println("p: " + p.points()));
+			if(Trace.ENABLED) Trace.log("Split into: ");
+			if(Trace.ENABLED) splitPolygon.forEach(p -> Trace.log("p: " + p.points()));
 			//And add both those parts in the list
 			polygons.addAll(splitPolygon);
 
@@ -170,9 +171,9 @@ public interface Pattern {
 		@Override
 		public boolean canSplit(final SimplePolygon polygon) {
 			return polygon.points().contains(i) && polygon.points().contains(j) && polygon.points().contains(k)
-					&& !polygon.getEdges().contains(new PVector[]{i, j}) && !polygon.getEdges().contains(new PVector[]{j, i})
-					&& !polygon.getEdges().contains(new PVector[]{j, k}) && !polygon.getEdges().contains(new PVector[]{k, j})
-					&& !polygon.getEdges().contains(new PVector[]{k, i}) && !polygon.getEdges().contains(new PVector[]{i, k});
+					&& !polygon.getEdges().contains(new Point[]{i, j}) && !polygon.getEdges().contains(new Point[]{j, i})
+					&& !polygon.getEdges().contains(new Point[]{j, k}) && !polygon.getEdges().contains(new Point[]{k, j})
+					&& !polygon.getEdges().contains(new Point[]{k, i}) && !polygon.getEdges().contains(new Point[]{i, k});
 		}
 
 		@Override
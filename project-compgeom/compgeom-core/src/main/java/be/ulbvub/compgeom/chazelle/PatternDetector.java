@@ -0,0 +1,540 @@
+package be.ulbvub.compgeom.chazelle;
+
+import be.ulbvub.compgeom.SimplePolygon;
+import be.ulbvub.compgeom.utils.DecompositionStats;
+import be.ulbvub.compgeom.utils.Point;
+import be.ulbvub.compgeom.utils.Trace;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class PatternDetector {
+
+	private final SimplePolygon polygon;
+
+	private final List<Point> notches;
+
+	private final int nP;
+
+	//Link each segment to a boolean value set to true if the entirety of this segment is inside P
+	//private final Map<Point[], Boolean> segmentPrimes = new HashMap<>();
+	/**
+	 * The first segment found from a notch to another, which is the only one the detection looks at
+	 */
+	private final Map<NotchPair, SegmentData> leftSegments = new LinkedHashMap<>();
+
+	private final Map<NotchPair, SegmentData> rightSegments = new LinkedHashMap<>();
+
+	private final Map<NotchPair, IntersectionData> intersections = new LinkedHashMap<>();
+
+	private final Set<Pattern> xkPatterns = new LinkedHashSet<>();
+
+	/**
+	 * The notches of every pattern in xkPatterns, a pattern is only kept once whatever the order of its notches
+	 */
+	private final Set<Set<Point>> patternNotches = new HashSet<>();
+
+	public PatternDetector(final SimplePolygon polygon) {
+		this.polygon = polygon;
+		this.notches = new NotchFinder(polygon).findNotches().getNotches();
+		this.nP = notches.size();
+	}
+
+	/**
+	 * Compute the right segment from a point to another. from is typically i and to, j.
+	 *
+	 * @param from the vertex from which the segment is computed
+	 * @param to the vertex to which the segment is computed
+	 *
+	 * @return the right segment (r_ij) or an empty optional if no notch exist between i and j
+	 */
+	private Optional<Point[]> makeRight(final Point from, final Point to) {
+		if(Trace.ENABLED) Trace.log("Building r': " + from.toString() + "; " + to.toString());
+		boolean inRange = false;
+		Point bestT = null;
+		double bestAngle = Double.NEGATIVE_INFINITY;
+
+		for(final Point t : notches) {
+			//Check whether the notches are between a and b
+			boolean equal = t.equals(from) || t.equals(to);
+
+			if(equal) {
+				inRange = !inRange;
+			}
+			//Only consider the notches between a and b and ignore a and b
+			if(inRange && !equal) {
+				double angle = SimplePolygon.orientedAngle(t, from, to);
+				final int orientation = SimplePolygon.getTurnDirection(t, from, to);
+				if(Trace.ENABLED) Trace.log("Testing angle " + t.toString() + "; " + from.toString() + "; " + to.toString());
+
+				if(orientation != 0) {
+					angle *= orientation;
+				}
+				if(Trace.ENABLED) Trace.log("Angle: " + angle);
+				if(angle > bestAngle) {
+					if(Trace.ENABLED) Trace.log("Better");
+					bestAngle = angle;
+					bestT = t;
+				}
+			}
+		}
+		if(bestT == null) {
+			if(Trace.ENABLED) Trace.log("No notches between this pair of points");
+			return Optional.of(new Point[]{from, to});
+		}
+
+		if(Trace.ENABLED) Trace.log("Returning (" + from.toString() + ", " + bestT.toString() + ")");
+		return Optional.of(new Point[] {from, bestT});
+	}
+
+	/**
+	 * Compute the left segment from a point to another. from is typically i and to, k.
+	 *
+	 * @param from the vertex from which the segment is computed
+	 * @param to the vertex to which the segment is computed
+	 *
+	 * @return the left segment (l_ik)
+	 */
+	private Optional<Point[]> makeLeft(final Point from, final Point to) {
+		if(Trace.ENABLED) Trace.log("Building l': " + from.toString() + "; " + to.toString());
+		boolean inRange = false;
+		Point bestT = null;
+		double bestAngle = Double.NEGATIVE_INFINITY;
+
+		for(final Point t : notches) {
+			//Check whether the notches are between a and b
+			boolean equal = t.equals(to) || t.equals(from);
+
+			if(equal) {
+				inRange = !inRange;
+			}
+			//Only consider the notches between a and b and ignore a and b
+			if(inRange && !equal) {
+				double angle = SimplePolygon.orientedAngle(to, from, t);
+				final int orientation = SimplePolygon.getTurnDirection(to, from, t);
+				if(Trace.ENABLED) Trace.log("Testing angle " + to.toString() + "; " + from.toString() + "; " + t.toString());
+
+				if(orientation != 0) {
+					angle *= orientation;
+				}
+				if(Trace.ENABLED) Trace.log("Angle: " + angle);
+				if(angle > bestAngle) {
+					if(Trace.ENABLED) Trace.log("Better");
+					bestAngle = angle;
+					bestT = t;
+				}
+			}
+		}
+		if(bestT == null) {
+			if(Trace.ENABLED) Trace.log("No notches between this pair of points");
+			return Optional.of(new Point[]{from, to});
+		}
+
+		if(Trace.ENABLED) Trace.log("Returning (" + from.toString() + ", " + bestT.toString() + ")");
+		return Optional.of(new Point[] {from, bestT});
+	}
+
+	public List<SimplePolygon> partition() {
+		final long start = System.nanoTime();
+		final List<SimplePolygon> subPolygons = new ArrayList<>();
+		//Add the original polygon in the list
+		subPolygons.add(polygon.clone());
+
+		final List<Pattern.X3Pattern> x3Patterns = xkPatterns.stream()
+				.filter(pattern -> pattern instanceof Pattern.X3Pattern)
+				.map(pattern -> (Pattern.X3Pattern) pattern)
+				.toList();
+		final List<Pattern.X2Pattern> x2Patterns = xkPatterns.stream()
+				.filter(pattern -> pattern instanceof Pattern.X2Pattern)
+				.map(pattern -> (Pattern.X2Pattern) pattern)
+				.toList();
+
+		//Start with x3 patterns
+		for(final Pattern.X3Pattern x3Pattern : x3Patterns) {
+			SimplePolygon target = null;
+
+			//Only attempt to split sub polygons that can actually be split
+			//Every time a (sub) polygon is split, this split will influence whether the other sub polygons can be split
+			for(final var subPolygon : subPolygons) {
+				if(x3Pattern.canSplit(subPolygon)) {
+					target = subPolygon;
+					break;
+				}
+			}
+			if(target != null) {
+				if(Trace.ENABLED) Trace.log("Splitting polygon " + target.points() + "using an x3");
+				final List<SimplePolygon> splitPolygons = x3Pattern.split(target);
+				if(Trace.ENABLED) Trace.log("Split: ");
+				if(Trace.ENABLED) splitPolygons.forEach(p -> Trace.log("p: " + p.points()));
+
+				int remainingNotchesInSplit = 0;
+				final int targetNotchesAmount = new NotchFinder(target).findNotches().getNotches().size();
+
+				for(final SimplePolygon split : splitPolygons) {
+					//Sum the notches of the new split
+					remainingNotchesInSplit += new NotchFinder(split).findNotches().getNotches().size();
+				}
+				if(Trace.ENABLED) Trace.log("Notches in splits: " + remainingNotchesInSplit);
+				if(Trace.ENABLED) Trace.log("Notches in original sub polygon: " + targetNotchesAmount);
+
+				//Only accept new splits if they effectively improve the solution
+				if(remainingNotchesInSplit < targetNotchesAmount) {
+					if(Trace.ENABLED) Trace.log("Improving solution");
+					if(Trace.ENABLED) Trace.log("Size: " + subPolygons.size());
+					//Remove the polygon that has been split and replace it with its split components
+					subPolygons.remove(target);
+					if(Trace.ENABLED) Trace.log("Removing target: " + subPolygons.size());
+					//Update the solution
+					subPolygons.addAll(splitPolygons);
+					if(Trace.ENABLED) Trace.log("Adding split: " + subPolygons.size());
+				}
+			}
+		}
+		//End with x2 patterns
+		for(final Pattern.X2Pattern x2Pattern : x2Patterns) {
+			SimplePolygon target = null;
+
+			for(final var subPolygon : subPolygons) {
+				if(x2Pattern.canSplit(subPolygon)) {
+					target = subPolygon;
+					break;
+				}
+			}
+			if(target != null) {
+				if(Trace.ENABLED) Trace.log("Splitting polygon " + target.points() + "using an x3");
+				final List<SimplePolygon> splitPolygons = x2Pattern.split(target);
+				if(Trace.ENABLED) Trace.log("Split: ");
+				if(Trace.ENABLED) splitPolygons.forEach(p -> Trace.log("p: " + p.points()));
+				int remainingNotchesInSplit = 0;
+				final int targetNotchesAmount = new NotchFinder(target).findNotches().getNotches().size();
+
+				for(final SimplePolygon split : splitPolygons) {
+					//Sum the notches of the new split
+					remainingNotchesInSplit += new NotchFinder(split).findNotches().getNotches().size();
+				}
+				if(Trace.ENABLED) Trace.log("Notches in splits: " + remainingNotchesInSplit);
+				if(Trace.ENABLED) Trace.log("Notches in original sub polygon: " + targetNotchesAmount);
+
+				//Only accept new splits if they effectively improve the solution
+				if(remainingNotchesInSplit < targetNotchesAmount) {
+					if(Trace.ENABLED) Trace.log("Improving solution");
+					if(Trace.ENABLED) Trace.log("Size: " + subPolygons.size());
+					//Remove the polygon that has been split and replace it with its split components
+					subPolygons.remove(target);
+					if(Trace.ENABLED) Trace.log("Removing target: " + subPolygons.size());
+					//Update the solution
+					subPolygons.addAll(splitPolygons);
+					if(Trace.ENABLED) Trace.log("Adding split: " + subPolygons.size());
+				}
+			}
+		}
+		DecompositionStats.addPhaseTime("partition", System.nanoTime() - start);
+
+		return subPolygons;
+	}
+
+	public void detectPatterns() {
+		final long start = System.nanoTime();
+		buildData();
+		final long detectionStart = System.nanoTime();
+		DecompositionStats.addPhaseTime("segment build", detectionStart - start);
+		detectX2Pattern();
+		detectX3Pattern();
+		DecompositionStats.addPhaseTime("pattern detection", System.nanoTime() - detectionStart);
+	}
+
+	private void buildData() {
+		if(notches.size() < 4) {
+			return;
+		}
+		//The range of a notch does not depend on the triplet, compute it once for every notch
+		final Map<Point, List<Point>> notchRanges = new HashMap<>();
+		for(final Point notch : notches) {
+			notchRanges.put(notch, polygon.getNotchRange(notch, nP));
+		}
+		//For all triplet (v_i, v_j, v_k):
+		for(final Point i : notches) {
+			for(final Point j : notches) {
+				for(final Point k : notches) {
+					if(i == j || i == k || j == k) {
+						continue;
+					}
+					if(Trace.ENABLED) Trace.log("--------------------------------");
+					if(Trace.ENABLED) Trace.log("Working on triplet (i:" + i.toString() + ", j:" + j.toString() + ", k:" + k.toString() + ")");
+					final List<Point> rangeV_i = notchRanges.get(i);
+					if(Trace.ENABLED) Trace.log("Notch range of i: " + rangeV_i.toString());
+					final List<Point> rangeV_j = notchRanges.get(j);
+					final List<Point> rangeV_k = notchRanges.get(k);
+					final AtomicReference<Point[]> finalL_ik = new AtomicReference<>();
+					final AtomicReference<Point[]> finalR_ij = new AtomicReference<>();
+					final AtomicReference<Point[]> finalL_ji = new AtomicReference<>();
+					final AtomicReference<Point[]> finalR_jk = new AtomicReference<>();
+					final AtomicReference<Point[]> finalL_kj = new AtomicReference<>();
+					final AtomicReference<Point[]> finalR_ki = new AtomicReference<>();
+
+					//TODO: Refactor this repetitive code
+					/*
+					 * Build v_i data
+					 */
+					if(!rangeV_i.isEmpty()) {
+						if(Trace.ENABLED) Trace.log("Making l_ik");
+						makeLeft(i, k).ifPresent(
+								l_ik -> {
+									final Point[] l = {i, rangeV_i.get(0)};
+									if(Trace.ENABLED) Trace.log("l: " + Arrays.toString(l));
+									final Point[] lPrime_ik = SimplePolygon.getTurnDirection(l_ik[1], l_ik[0], l[1]) > 0 ? l : l_ik;
+									if(Trace.ENABLED) Trace.log("final l': " + Arrays.toString(lPrime_ik));
+									finalL_ik.set(lPrime_ik);
+									if(leftSegments.putIfAbsent(new NotchPair(i, k), new SegmentData(i, k, lPrime_ik)) == null) {
+										if(Trace.ENABLED) Trace.log("l_ik from " + i.toString() + " to " + k.toString() + ": " + Arrays.toString(lPrime_ik));
+									}
+								}
+						);
+						if(Trace.ENABLED) Trace.log("Making r_ij");
+						makeRight(i, j).ifPresent(
+								r_ij -> {
+									final Point[] r = {i, rangeV_i.get(rangeV_i.size()-1)};
+									final Point[] rPrime_ij = SimplePolygon.getTurnDirection(r[1], r[0], r_ij[1]) > 0 ? r : r_ij;
+									finalR_ij.set(rPrime_ij);
+									if(rightSegments.putIfAbsent(new NotchPair(i, j), new SegmentData(i, j, rPrime_ij)) == null) {
+										if(Trace.ENABLED) Trace.log("r_ij from " + i.toString() + " to " + j.toString() + ": " + Arrays.toString(rPrime_ij));
+									}
+								}
+						);
+					}
+					/*
+					 * Build v_j data
+					 */
+					if(!rangeV_j.isEmpty()) {
+						if(Trace.ENABLED) Trace.log("Making l_ji");
+						makeLeft(j, i).ifPresent(
+								l_ji -> {
+									final Point[] l = {j, rangeV_j.get(0)};
+									final Point[] lPrime_ji = SimplePolygon.getTurnDirection(l_ji[1], l_ji[0], l[1]) > 0 ? l : l_ji;
+									finalL_ji.set(lPrime_ji);
+									if(leftSegments.putIfAbsent(new NotchPair(j, i), new SegmentData(j, i, lPrime_ji)) == null) {
+										if(Trace.ENABLED) Trace.log("l_ji from " + j.toString() + " to " + i.toString() + ": " + Arrays.toString(lPrime_ji));
+									}
+								}
+						);
+						if(Trace.ENABLED) Trace.log("Making r_jk");
+						makeRight(j, k).ifPresent(
+								r_jk -> {
+									final Point[] r = {j, rangeV_j.get(rangeV_j.size()-1)};
+									final Point[] rPrime_jk = SimplePolygon.getTurnDirection(r[1], r[0], r_jk[1]) > 0 ? r : r_jk;
+									finalR_jk.set(rPrime_jk);
+									if(rightSegments.putIfAbsent(new NotchPair(j, k), new SegmentData(j, k, rPrime_jk)) == null) {
+										if(Trace.ENABLED) Trace.log("r_jk from " + j.toString() + " to " + k.toString() + ": " + Arrays.toString(rPrime_jk));
+									}
+								}
+						);
+					}
+					/*
+					 * Build v_k data
+					 */
+					if(!rangeV_k.isEmpty()) {
+						if(Trace.ENABLED) Trace.log("Making l_kj");
+						makeLeft(k, j).ifPresent(
+								l_kj -> {
+									final Point[] l = {k, rangeV_k.get(0)};
+									final Point[] lPrime_kj = SimplePolygon.getTurnDirection(l_kj[1], l_kj[0], l[1]) > 0 ? l : l_kj;
+									finalL_kj.set(lPrime_kj);
+									if(leftSegments.putIfAbsent(new NotchPair(k, j), new SegmentData(k, j, lPrime_kj)) == null) {
+										if(Trace.ENABLED) Trace.log("l_kj from " + k.toString() + " to " + j.toString() + ": " + Arrays.toString(lPrime_kj));
+									}
+								}
+						);
+						if(Trace.ENABLED) Trace.log("Making r_ki");
+						makeRight(k, i).ifPresent(
+								r_ki -> {
+									final Point[] r = {k, rangeV_k.get(rangeV_k.size()-1)};
+									final Point[] rPrime_ki = SimplePolygon.getTurnDirection(r[1], r[0], r_ki[1]) > 0 ? r : r_ki;
+									finalR_ki.set(rPrime_ki);
+									if(rightSegments.putIfAbsent(new NotchPair(k, i), new SegmentData(k, i, rPrime_ki)) == null) {
+										if(Trace.ENABLED) Trace.log("r_ki from " + k.toString() + " to " + i.toString() + ": " + Arrays.toString(rPrime_ki));
+									}
+								}
+						);
+					}
+					//Check for intersections
+					//Check for M_ij
+					if(finalR_ij.get() != null && finalL_ji.get() != null && !intersections.containsKey(new NotchPair(i, j))) {
+						SimplePolygon.getIntersection(finalR_ij.get(), finalL_ji.get())
+								.ifPresent(intersection -> {
+									final boolean flag = polygon.isInside(i, intersection) && polygon.isInside(intersection, j);
+
+									intersections.put(new NotchPair(i, j), new IntersectionData(i, j, intersection, flag));
+									if(Trace.ENABLED) Trace.log("M_ij: " + intersections.get(new NotchPair(i, j)).toString());
+								});
+					}
+					//Check for M_jk
+					if(finalR_jk.get() != null && finalL_kj.get() != null && !intersections.containsKey(new NotchPair(j, k))) {
+						SimplePolygon.getIntersection(finalR_jk.get(), finalL_kj.get())
+								.ifPresent(intersection -> {
+									final boolean flag = polygon.isInside(j, intersection) && polygon.isInside(intersection, k);
+
+									intersections.put(new NotchPair(j, k), new IntersectionData(j, k, intersection, flag));
+									if(Trace.ENABLED) Trace.log("M_jk: " + intersections.get(new NotchPair(j, k)).toString());
+								});
+					}
+					//Check for M_ki
+					if(finalR_ki.get() != null && finalL_ik.get() != null && !intersections.containsKey(new NotchPair(k, i))) {
+						SimplePolygon.getIntersection(finalR_ki.get(), finalL_ik.get())
+								.ifPresent(intersection -> {
+									final boolean flag = polygon.isInside(k, intersection) && polygon.isInside(intersection, i);
+
+									intersections.put(new NotchPair(k, i), new IntersectionData(k, i, intersection, flag));
+									if(Trace.ENABLED) Trace.log("M_ki: " + intersections.get(new NotchPair(k, i)).toString());
+								});
+					}
+				}
+			}
+		}
+	}
+
+	private void detectX2Pattern() {
+		for(final Point i : notches) {
+			for(final Point j : notches) {
+				final Optional<SegmentData> l_ij = Optional.ofNullable(leftSegments.get(new NotchPair(i, j)));
+				final Optional<SegmentData> l_ji = Optional.ofNullable(leftSegments.get(new NotchPair(j, i)));
+				final Optional<SegmentData> r_ij = Optional.ofNullable(rightSegments.get(new NotchPair(i, j)));
+				final Optional<SegmentData> r_ji = Optional.ofNullable(rightSegments.get(new NotchPair(j, i)));
+
+				if(l_ij.isEmpty() || l_ji.isEmpty() || r_ij.isEmpty() || r_ji.isEmpty()) {
+					continue;
+				}
+				if(SimplePolygon.getTurnDirection(l_ij.get().segment[1], i, r_ij.get().segment[1]) > 0
+					|| SimplePolygon.getTurnDirection(l_ji.get().segment[1], j, r_ji.get().segment[1]) > 0) {
+					continue;
+				}
+				final var x2Pattern = new Pattern.X2Pattern(i, j);
+				if(patternNotches.add(Set.of(i, j))) {
+					if(Trace.ENABLED) Trace.log("Adding " + i + j);
+					xkPatterns.add(x2Pattern);
+				}
+			}
+		}
+	}
+
+	private void detectX3Pattern() {
+		for(final Point i : notches) {
+			for(final Point j : notches) {
+				for(final Point k : notches) {
+					final Optional<SegmentData> lPrime_ik = Optional.ofNullable(leftSegments.get(new NotchPair(i, k)));
+					final Optional<SegmentData> rPrime_ij = Optional.ofNullable(rightSegments.get(new NotchPair(i, j)));
+					final Optional<SegmentData> lPrime_ji = Optional.ofNullable(leftSegments.get(new NotchPair(j, i)));
+					final Optional<SegmentData> rPrime_jk = Optional.ofNullable(rightSegments.get(new NotchPair(j, k)));
+					final Optional<SegmentData> lPrime_kj = Optional.ofNullable(leftSegments.get(new NotchPair(k, j)));
+					final Optional<SegmentData> rPrime_ki = Optional.ofNullable(rightSegments.get(new NotchPair(k, i)));
+
+					if(lPrime_ik.isEmpty() || rPrime_ij.isEmpty() || lPrime_ji.isEmpty() || rPrime_jk.isEmpty()
+							|| lPrime_kj.isEmpty() || rPrime_ki.isEmpty()) {
+						continue;
+					}
+					if(SimplePolygon.getTurnDirection(lPrime_ik.get().segment, rPrime_ij.get().getSegment()) > 0
+						|| SimplePolygon.getTurnDirection(lPrime_ji.get().segment, rPrime_jk.get().getSegment()) > 0
+						|| SimplePolygon.getTurnDirection(lPrime_kj.get().segment, rPrime_ki.get().getSegment()) > 0) {
+						continue;
+					}
+					final Optional<IntersectionData> M_ij = Optional.ofNullable(intersections.get(new NotchPair(i, j)));
+					final Optional<IntersectionData> M_jk = Optional.ofNullable(intersections.get(new NotchPair(j, k)));
+					final Optional<IntersectionData> M_ki = Optional.ofNullable(intersections.get(new NotchPair(k, i)));
+
+					if(M_ij.isEmpty() || M_jk.isEmpty() || M_ki.isEmpty()) {
+						continue;
+					}
+					final var x3Pattern = new Pattern.X3Pattern(i, j, k);
+					if(patternNotches.add(Set.of(i, j, k))) {
+						if(Trace.ENABLED) Trace.log("Adding " + i + j + k);
+						xkPatterns.add(x3Pattern);
+					}
+				}
+			}
+		}
+	}
+
+	public void displaySegments() {
+		System.out.println("\n-===[ l' ]===-\n");
+		for(final var segmentData : leftSegments.values()) {
+			System.out.println("l'_(" + segmentData.from + ")(" + segmentData.to + "): " + Arrays.toString(segmentData.segment));
+		}
+		System.out.println("\n-===[r']===-\n");
+		for(final var segmentData : rightSegments.values()) {
+			System.out.println("r'_(" + segmentData.from + ")(" + segmentData.to + "): " + Arrays.toString(segmentData.segment));
+		}
+		System.out.println("\nINTERSECTIONS\n");
+		for(final IntersectionData intersectionData : intersections.values()) {
+			System.out.println(intersectionData.toString());
+		}
+	}
+
+	private record NotchPair(Point from, Point to) {
+	}
+
+	private static class IntersectionData {
+
+		private final Point from;
+
+		private final Point to;
+
+		private final Point intersection;
+
+		private final boolean flag;
+
+		public IntersectionData(final Point from, final Point to, final Point intersection, final boolean flag) {
+			this.from = from;
+			this.to = to;
+			this.intersection = intersection;
+			this.flag = flag;
+		}
+
+		public final String toString() {
+            return from.toString() +
+					" ; " +
+					to.toString() +
+					" at " +
+					intersection.toString() +
+					" flag: " + flag;
+		}
+
+	}
+
+	private static class SegmentData {
+
+		private final Point from;
+
+		private final Point to;
+
+		private final Point[] segment;
+
+		public SegmentData(Point from, Point to, Point[] segment) {
+			this.from = from;
+			this.to = to;
+			this.segment = segment;
+		}
+
+		@Override
+		public final int hashCode() {
+			return Objects.hash(from, to, Arrays.hashCode(segment));
+		}
+
+		@Override
+		public final boolean equals(final Object other) {
+			if(other == null) {
+				return false;
+			}
+			if(!(other instanceof SegmentData otherData)) {
+				return false;
+			}
+
+			return Objects.equals(otherData.from, this.from)
+					&& Objects.equals(otherData.to, this.to)
+					&& Arrays.equals(otherData.segment, this.segment);
+		}
+
+		public Point[] getSegment() {
+			return segment;
+		}
+	}
+
+}
@@ -0,0 +1,216 @@
+package be.ulbvub.compgeom.cli;
+
+import be.ulbvub.compgeom.Polygon;
+import be.ulbvub.compgeom.decomposition.Decompositions;
+import be.ulbvub.compgeom.minkowski.MinkowskiConfig;
+import be.ulbvub.compgeom.utils.CalculationResult;
+import be.ulbvub.compgeom.utils.EdgeListArena;
+import be.ulbvub.compgeom.utils.PolygonReader;
+
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Headless batch mode, decomposes .poly files without starting the Processing sketch, so it can run on servers
+ * without a display.
+ * <p>
+ * For every input polygon, the faces of the result are written to {@code <output>/<name>.<engine>.poly}, one face
+ * after the other separated by an empty line. A summary with the timings of every run is printed and written to
+ * {@code <output>/summary.csv}.
+ */
+public class BatchCli {
+    public static final String FLAG = "--headless";
+
+    private static final String USAGE = """
+            Usage: compgeom --headless --engine <engine> [--minkowski <shape.poly>] [--output <directory>] <file.poly|directory>...
+              --engine     One of %s
+              --minkowski  Convex shape to compute the Minkowski sum with, after decomposing the input
+              --output     Directory the results are written to, defaults to %s
+            """;
+    private static final String DEFAULT_OUTPUT = "decompositions";
+    private static final String SUMMARY_HEADER = "file;engine;vertices;reflex;faces;millis;phases";
+
+    private Decompositions engine;
+    private Polygon minkowskiShape;
+    private Path output = Path.of(DEFAULT_OUTPUT);
+    private final List<Path> inputs = new ArrayList<>();
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        System.exit(run(args, System.out, System.err));
+    }
+
+    /**
+     * Run the batch mode
+     *
+     * @param args Command line arguments, optionally starting with {@link #FLAG}
+     * @param out  Stream the summary is printed to
+     * @param err  Stream errors are printed to
+     * @return The exit code of the run: 0 on success, 1 if some polygons failed and 2 on invalid arguments
+     */
+    public static int run(String[] args, PrintStream out, PrintStream err) {
+        final var cli = new BatchCli();
+        try {
+            cli.parse(args);
+        } catch (IllegalArgumentException | IOException ex) {
+            err.println(ex.getMessage());
+            err.printf(USAGE, Arrays.stream(Decompositions.values()).map(Enum::name).toList(), DEFAULT_OUTPUT);
+            return 2;
+        }
+
+        try {
+            return cli.runAll(out, err);
+        } catch (IOException ex) {
+            err.println("Could not write results: " + ex.getMessage());
+            return 1;
+        }
+    }
+
+    private void parse(String[] args) throws IOException {
+        for (var i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case FLAG -> {
+                }
+                case "--engine" -> engine = parseEngine(value(args, ++i, "--engine"));
+                case "--minkowski" -> minkowskiShape = readPolygon(Path.of(value(args, ++i, "--minkowski")));
+                case "--output" -> output = Path.of(value(args, ++i, "--output"));
+                default -> {
+                    if (args[i].startsWith("--")) {
+                        throw new IllegalArgumentException("Unknown option: " + args[i]);
+                    }
+                    addInput(Path.of(args[i]));
+                }
+            }
+        }
+
+        if (engine == null) {
+            throw new IllegalArgumentException("No engine given");
+        }
+        if (inputs.isEmpty()) {
+            throw new IllegalArgumentException("No polygons given");
+        }
+    }
+
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + option);
+        }
+        return args[index];
+    }
+
+    private static Decompositions parseEngine(String name) {
+        for (var engine : Decompositions.values()) {
+            if (engine.name().equalsIgnoreCase(name)) {
+                return engine;
+            }
+        }
+        throw new IllegalArgumentException("Unknown engine: " + name);
+    }
+
+    private void addInput(Path path) throws IOException {
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> files = Files.list(path)) {
+                files.filter(file -> file.getFileName().toString().endsWith(".poly"))
+                        .sorted()
+                        .forEach(inputs::add);
+            }
+        } else if (Files.isRegularFile(path)) {
+            inputs.add(path);
+        } else {
+            throw new IllegalArgumentException("No such file or directory: " + path);
+        }
+    }
+
+    private static Polygon readPolygon(Path path) throws IOException {
+        final var reader = new PolygonReader();
+        // The reader only closes the stream once it read it successfully
+        try (var stream = new FileInputStream(path.toFile())) {
+            reader.readFile(stream);
+        }
+        return reader.getPolygon();
+    }
+
+    private int runAll(PrintStream out, PrintStream err) throws IOException {
+        Files.createDirectories(output);
+
+        // Each result is written before the next polygon is read, so all of them can share the same storage
+        final var arena = new EdgeListArena();
+        var failed = 0;
+        final var summary = new ArrayList<String>();
+        summary.add(SUMMARY_HEADER);
+        out.println(SUMMARY_HEADER);
+        for (var input : inputs) {
+            try {
+                final var line = runOne(input, arena);
+                summary.add(line);
+                out.println(line);
+            } catch (IOException | RuntimeException ex) {
+                failed++;
+                err.println(input + ": " + ex);
+            }
+        }
+
+        Files.write(output.resolve("summary.csv"), summary);
+        return failed == 0 ? 0 : 1;
+    }
+
+    private String runOne(Path input, EdgeListArena arena) throws IOException {
+        final var polygon = readPolygon(input);
+        final var config = engine.config(polygon);
+
+        final var start = System.nanoTime();
+        final CalculationResult result = arena.run(() -> minkowskiShape == null
+                ? config.decompose()
+                : new MinkowskiConfig(polygon, minkowskiShape, config).calculate());
+        final var elapsed = System.nanoTime() - start;
+        writeResult(input, result);
+
+        // Only decompositions report their phases, a Minkowski sum has no breakdown
+        final var phases = new StringBuilder();
+        result.getStats().getPhaseNanos().forEach((phase, nanos) -> {
+            if (!phases.isEmpty()) phases.append(',');
+            phases.append(phase).append('=').append(format(nanos));
+        });
+
+        return String.join(";",
+                input.toString(),
+                engine.name(),
+                String.valueOf(polygon.points().size()),
+                String.valueOf(polygon.countReflexVertices()),
+                String.valueOf(result.getFaceCount()),
+                format(elapsed),
+                phases.toString());
+    }
+
+    private void writeResult(Path input, CalculationResult result) throws IOException {
+        final var name = input.getFileName().toString().replaceFirst("\\.poly$", "");
+        final var suffix = minkowskiShape == null ? "" : ".minkowski";
+        final var file = output.resolve(name + "." + engine.name().toLowerCase(Locale.ROOT) + suffix + ".poly");
+
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            var first = true;
+            for (var face : result.getFacePolygons()) {
+                if (!first) writer.newLine();
+                first = false;
+
+                for (var point : face.points()) {
+                    writer.write(point.x + ";" + point.y);
+                    writer.newLine();
+                }
+            }
+        }
+    }
+
+    private static String format(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1e6);
+    }
+}
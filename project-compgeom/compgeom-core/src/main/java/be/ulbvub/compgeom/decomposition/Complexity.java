@@ -0,0 +1,44 @@
+package be.ulbvub.compgeom.decomposition;
+
+/**
+ * Asymptotic upper bound on the running time of a decomposition, in function of the amount of vertices n.
+ * Every {@link DecompositionConfig} declares the bound of its algorithm, which is checked empirically by the
+ * complexity test suite ({@code ./gradlew complexityTest}).
+ */
+public enum Complexity {
+    Linear("O(n)", 1, false),
+    Linearithmic("O(n log n)", 1, true),
+    Quadratic("O(n^2)", 2, false),
+    Cubic("O(n^3)", 3, false),
+    Quartic("O(n^4)", 4, false),
+    Sextic("O(n^6)", 6, false);
+
+    private final String name;
+    private final int exponent;
+    private final boolean logarithmic;
+
+    Complexity(final String name, final int exponent, final boolean logarithmic) {
+        this.name = name;
+        this.exponent = exponent;
+        this.logarithmic = logarithmic;
+    }
+
+    /**
+     * @return The exponent of the polynomial part of the bound
+     */
+    public int exponent() {
+        return exponent;
+    }
+
+    /**
+     * @return True if the bound has an additional log n factor
+     */
+    public boolean isLogarithmic() {
+        return logarithmic;
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+}
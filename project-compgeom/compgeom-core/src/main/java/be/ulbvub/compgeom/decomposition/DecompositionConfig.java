@@ -1,4 +1,4 @@
-package be.ulbvub.compgeom.ui;
+package be.ulbvub.compgeom.decomposition;
 
 import be.ulbvub.compgeom.Polygon;
 import be.ulbvub.compgeom.SimplePolygon;
@@ -7,8 +7,9 @@ import be.ulbvub.compgeom.kd.KdDecomposition;
 import be.ulbvub.compgeom.slab.SlabDecomposition;
 import be.ulbvub.compgeom.triangles.TriangleDecomposition;
 import be.ulbvub.compgeom.utils.CalculationResult;
+import be.ulbvub.compgeom.utils.DecompositionStats;
 import be.ulbvub.compgeom.utils.DoublyConnectedEdgeList;
-import processing.core.PVector;
+import be.ulbvub.compgeom.utils.Point;
 
 import java.util.ArrayList;
 import java.util.Objects;
@@ -17,20 +18,27 @@ public abstract class DecompositionConfig {
 
     public abstract CalculationResult decompose();
 
+    public abstract Decompositions engine();
+
+    /**
+     * @return Upper bound on the running time of the algorithm, checked by the complexity test suite
+     */
+    public abstract Complexity complexity();
+
     public abstract Polygon polygon();
 
     public abstract void setPolygon(Polygon polygon);
 
     public static final class SlabConfig extends DecompositionConfig {
-        private final PVector direction;
+        private final Point direction;
         private Polygon polygon;
 
-        public SlabConfig(PVector direction, Polygon polygon) {
+        public SlabConfig(Point direction, Polygon polygon) {
             this.direction = direction;
             this.polygon = polygon;
         }
 
-        public PVector direction() {
+        public Point direction() {
             return direction;
         }
 
@@ -55,10 +63,12 @@ public abstract class DecompositionConfig {
 
         @Override
         public DoublyConnectedEdgeList decompose() {
-            final var algorithm = new SlabDecomposition(direction, polygon);
-            algorithm.buildEventQueue();
-            algorithm.run();
-            return algorithm.getDecomposition();
+            return DecompositionStats.measure(engine().toString(), polygon, () -> {
+                final var algorithm = new SlabDecomposition(direction, polygon);
+                algorithm.buildEventQueue();
+                algorithm.run();
+                return algorithm.getDecomposition();
+            });
         }
 
         @Override
@@ -66,6 +76,17 @@ public abstract class DecompositionConfig {
             return Objects.hash(direction, polygon);
         }
 
+        @Override
+        public Decompositions engine() {
+            return Decompositions.Slab;
+        }
+
+        @Override
+        public Complexity complexity() {
+            // Sorting the events and every sweep line update take O(log n), cuts find their half edge in the DCEL index
+            return Complexity.Linearithmic;
+        }
+
         @Override
         public String toString() {
             return "SlabConfig[" +
@@ -104,6 +125,17 @@ public abstract class DecompositionConfig {
             return Objects.hash(polygon);
         }
 
+        @Override
+        public Decompositions engine() {
+            return Decompositions.Triangulation;
+        }
+
+        @Override
+        public Complexity complexity() {
+            // The sweep splits the polygon in O(n log n), its diagonals are inserted at once and the faces labelled in a single walk
+            return Complexity.Linearithmic;
+        }
+
         @Override
         public String toString() {
             return "TriangulationConfig[" +
@@ -112,7 +144,7 @@ public abstract class DecompositionConfig {
 
         @Override
         public DoublyConnectedEdgeList decompose() {
-            return TriangleDecomposition.decompose(polygon, false);
+            return DecompositionStats.measure(engine().toString(), polygon, () -> TriangleDecomposition.decompose(polygon, false));
         }
     }
 
@@ -145,6 +177,17 @@ public abstract class DecompositionConfig {
             return Objects.hash(polygon);
         }
 
+        @Override
+        public Decompositions engine() {
+            return Decompositions.Kd;
+        }
+
+        @Override
+        public Complexity complexity() {
+            // Every cut walks the complete faces around its reflex vertex, which can hold O(n) edges
+            return Complexity.Quadratic;
+        }
+
         @Override
         public String toString() {
             return "KdConfig[" +
@@ -153,9 +196,11 @@ public abstract class DecompositionConfig {
 
         @Override
         public DoublyConnectedEdgeList decompose() {
-            final var algorithm = new KdDecomposition(polygon);
-            algorithm.run();
-            return algorithm.getDecomposition();
+            return DecompositionStats.measure(engine().toString(), polygon, () -> {
+                final var algorithm = new KdDecomposition(polygon);
+                algorithm.run();
+                return algorithm.getDecomposition();
+            });
         }
     }
 
@@ -168,7 +213,7 @@ public abstract class DecompositionConfig {
 
         @Override
         public DoublyConnectedEdgeList decompose() {
-            return TriangleDecomposition.decompose(polygon, true);
+            return DecompositionStats.measure(engine().toString(), polygon, () -> TriangleDecomposition.decompose(polygon, true));
         }
 
         @Override
@@ -194,6 +239,17 @@ public abstract class DecompositionConfig {
             return Objects.hash(polygon);
         }
 
+        @Override
+        public Decompositions engine() {
+            return Decompositions.Greedy;
+        }
+
+        @Override
+        public Complexity complexity() {
+            // The diagonals are inserted one by one to stop at the first convex face, each relabels a face of O(n) edges
+            return Complexity.Quadratic;
+        }
+
         @Override
         public String toString() {
             return "GreedyConfig[" +
@@ -203,6 +259,65 @@ public abstract class DecompositionConfig {
 
     }
 
+    public static final class HertelMehlhornConfig extends DecompositionConfig {
+        private Polygon polygon;
+
+        public HertelMehlhornConfig(Polygon polygon) {
+            this.polygon = polygon;
+        }
+
+        @Override
+        public DoublyConnectedEdgeList decompose() {
+            return DecompositionStats.measure(engine().toString(), polygon, () -> {
+                final var decomposition = TriangleDecomposition.decompose(polygon, false);
+                final var removalStart = System.nanoTime();
+                decomposition.removeInessentialDiagonals();
+                DecompositionStats.addPhaseTime("diagonal removal", System.nanoTime() - removalStart);
+                return decomposition;
+            });
+        }
+
+        @Override
+        public Polygon polygon() {
+            return polygon;
+        }
+
+        @Override
+        public void setPolygon(Polygon polygon) {
+            this.polygon = polygon;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) return true;
+            if (obj == null || obj.getClass() != this.getClass()) return false;
+            var that = (HertelMehlhornConfig) obj;
+            return Objects.equals(this.polygon, that.polygon);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(polygon);
+        }
+
+        @Override
+        public Decompositions engine() {
+            return Decompositions.HertelMehlhorn;
+        }
+
+        @Override
+        public Complexity complexity() {
+            // The O(n log n) triangulation dominates, removing the diagonals afterwards is linear
+            return Complexity.Linearithmic;
+        }
+
+        @Override
+        public String toString() {
+            return "HertelMehlhornConfig[" +
+                    "polygon=" + polygon + ']';
+        }
+    }
+
     public static final class ChazelleConfig extends DecompositionConfig {
         private Polygon polygon;
 
@@ -212,12 +327,14 @@ public abstract class DecompositionConfig {
 
         @Override
         public PolygonGroup decompose() {
-            final var simplePolygon = new SimplePolygon(this.polygon.points());
-            final var patternDetector = new PatternDetector(simplePolygon);
-            patternDetector.detectPatterns();
-            final var splitPolygon = new ArrayList<>(patternDetector.partition().stream().map(p -> new Polygon(new ArrayList<>(p.points()))).toList());
+            return DecompositionStats.measure(engine().toString(), polygon, () -> {
+                final var simplePolygon = new SimplePolygon(this.polygon.points());
+                final var patternDetector = new PatternDetector(simplePolygon);
+                patternDetector.detectPatterns();
+                final var splitPolygon = new ArrayList<>(patternDetector.partition().stream().map(p -> new Polygon(new ArrayList<>(p.points()))).toList());
 
-            return new PolygonGroup(splitPolygon);
+                return new PolygonGroup(splitPolygon);
+            });
         }
 
         public Polygon polygon() {
@@ -242,6 +359,17 @@ public abstract class DecompositionConfig {
             return Objects.hash(polygon);
         }
 
+        @Override
+        public Decompositions engine() {
+            return Decompositions.Chazelle;
+        }
+
+        @Override
+        public Complexity complexity() {
+            // Every triplet of notches compares its segments against all notches, and every pattern checks the sub polygons it splits
+            return Complexity.Quartic;
+        }
+
         @Override
         public String toString() {
             return "ChazelleConfig[" +
@@ -0,0 +1,43 @@
+package be.ulbvub.compgeom.decomposition;
+
+import be.ulbvub.compgeom.Polygon;
+import be.ulbvub.compgeom.utils.Point;
+
+public enum Decompositions {
+    Triangulation("Triangulation"),
+    Greedy("Greedy decomposition"),
+    Slab("Slab decomposition"),
+    Kd("Kd decomposition"),
+    HertelMehlhorn("Hertel-Mehlhorn decomposition"),
+    Chazelle("Chazelle decomposition");
+
+
+    private final String name;
+
+    Decompositions(final String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+
+    /**
+     * Create the default configuration of this decomposition for the given polygon,
+     * so it can be run without going through the configuration frame.
+     *
+     * @param polygon The polygon to decompose
+     * @return The configuration that decomposes the polygon with this algorithm
+     */
+    public DecompositionConfig config(Polygon polygon) {
+        return switch (this) {
+            case Triangulation -> new DecompositionConfig.TriangulationConfig(polygon);
+            case Greedy -> new DecompositionConfig.GreedyConfig(polygon);
+            case Slab -> new DecompositionConfig.SlabConfig(new Point(0, 1), polygon);
+            case Kd -> new DecompositionConfig.KdConfig(polygon);
+            case HertelMehlhorn -> new DecompositionConfig.HertelMehlhornConfig(polygon);
+            case Chazelle -> new DecompositionConfig.ChazelleConfig(polygon);
+        };
+    }
+}
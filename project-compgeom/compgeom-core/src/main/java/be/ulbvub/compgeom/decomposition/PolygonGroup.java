@@ -0,0 +1,62 @@
+package be.ulbvub.compgeom.decomposition;
+
+import be.ulbvub.compgeom.Polygon;
+import be.ulbvub.compgeom.utils.CalculationResult;
+import be.ulbvub.compgeom.utils.DecompositionStats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class PolygonGroup implements CalculationResult {
+    final ArrayList<Polygon> polygons;
+    private DecompositionStats stats = DecompositionStats.EMPTY;
+
+    public PolygonGroup(ArrayList<Polygon> polygons) {
+        this.polygons = polygons;
+    }
+
+    public ArrayList<Polygon> polygons() {
+        return this.polygons;
+    }
+
+    @Override
+    public List<Polygon> getFacePolygons() {
+        return polygons;
+    }
+
+    @Override
+    public int getFaceCount() {
+        return polygons.size();
+    }
+
+    @Override
+    public int getVertexCount() {
+        int count = 0;
+        for (var p : polygons) {
+            count += p.points().size();
+        }
+        return count;
+    }
+
+    @Override
+    public int getHalfEdgeCount() {
+        int count = 0;
+        for (var p : polygons) {
+            count += p.points().size();
+        }
+        return (count - polygons.size()) * 2;
+    }
+
+    @Override
+    public DecompositionStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public PolygonGroup withStats(DecompositionStats stats) {
+        this.stats = Objects.requireNonNull(stats);
+        return this;
+    }
+
+}
@@ -0,0 +1,38 @@
+package be.ulbvub.compgeom.generator;
+
+public enum PolygonFamilies {
+    Star("Random star-shaped"),
+    TwoOpt("Random 2-opt"),
+    Orthogonal("Random orthogonal"),
+    Saw("Saw"),
+    Indented("Indented"),
+    Curl("Curl");
+
+    private final String name;
+
+    PolygonFamilies(final String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+
+    /**
+     * @param seed        Seed for the random families, ignored by the others
+     * @param reflexRatio Ratio of reflex vertices for the families that allow to choose it (only {@link #Star}),
+     *                    ignored by the others
+     * @return The generator of this family
+     */
+    public PolygonGenerator generator(long seed, float reflexRatio) {
+        return switch (this) {
+            case Star -> new PolygonGenerator.StarGenerator(seed, reflexRatio);
+            case TwoOpt -> new PolygonGenerator.TwoOptGenerator(seed);
+            case Orthogonal -> new PolygonGenerator.OrthogonalGenerator(seed);
+            case Saw -> new PolygonGenerator.SawGenerator();
+            case Indented -> new PolygonGenerator.IndentedGenerator();
+            case Curl -> new PolygonGenerator.CurlGenerator();
+        };
+    }
+}
@@ -0,0 +1,392 @@
+package be.ulbvub.compgeom.generator;
+
+import be.ulbvub.compgeom.Polygon;
+import be.ulbvub.compgeom.SimplePolygon;
+import be.ulbvub.compgeom.utils.Point;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+
+/**
+ * Generates simple polygons of an arbitrary size, so the decompositions can be tested on a lot bigger inputs
+ * than the prefab polygons. Every generator is deterministic: the same generator and size always yield the same
+ * polygon.
+ * <p>
+ * All generated polygons are in clockwise order (with the y-axis pointing up), which is the same order as the
+ * prefab polygons and the order {@link SimplePolygon} expects.
+ */
+public abstract class PolygonGenerator {
+
+    /**
+     * Generate a polygon with {@code size} vertices. Some families can not be built with every amount of vertices,
+     * in that case the size is rounded down to the closest size that the family supports (see the generator).
+     *
+     * @param size The wanted amount of vertices
+     * @return A simple polygon in clockwise order
+     * @throws IllegalArgumentException if the size is smaller than what the family supports
+     */
+    public abstract Polygon generate(int size);
+
+    /**
+     * @param size The wanted amount of vertices
+     * @return The same polygon as {@link #generate(int)}, but as a {@link SimplePolygon} for the Chazelle decomposition
+     */
+    public SimplePolygon generateSimple(int size) {
+        return new SimplePolygon(generate(size).points());
+    }
+
+    static void requireSize(int size, int minimum, String family) {
+        if (size < minimum) {
+            throw new IllegalArgumentException("A " + family + " polygon needs at least " + minimum + " vertices, got: " + size);
+        }
+    }
+
+    /**
+     * Shoelace formula, positive if the points are in counter-clockwise order (y-axis pointing up)
+     */
+    static double signedArea(ArrayList<Point> points) {
+        var area = 0.0;
+        for (var i = 0; i < points.size(); i++) {
+            final var a = points.get(i);
+            final var b = points.get((i + 1) % points.size());
+            area += (double) a.x * b.y - (double) b.x * a.y;
+        }
+        return area / 2;
+    }
+
+    static Polygon clockwise(ArrayList<Point> points) {
+        if (signedArea(points) > 0) {
+            Collections.reverse(points);
+        }
+        return new Polygon(points);
+    }
+
+    /**
+     * Random star-shaped polygon around the origin. The vertices lie on a circle, except for the notches that are
+     * pulled towards the center. The notches are never neighbours of each other, so every notch is a reflex vertex
+     * and every other vertex is convex. This makes the amount of reflex vertices exactly
+     * {@code round(reflexRatio * size)}, as long as at least 3 convex vertices remain. Polygons with less than
+     * 5 vertices are always convex.
+     */
+    public static final class StarGenerator extends PolygonGenerator {
+        private final long seed;
+        private final float reflexRatio;
+
+        /**
+         * @param seed        Seed of the random generator
+         * @param reflexRatio Ratio of reflex vertices, between 0 and 0.5
+         */
+        public StarGenerator(long seed, float reflexRatio) {
+            if (reflexRatio < 0 || reflexRatio > 0.5f) {
+                throw new IllegalArgumentException("The reflex ratio of a star polygon should be between 0 and 0.5, got: " + reflexRatio);
+            }
+            this.seed = seed;
+            this.reflexRatio = reflexRatio;
+        }
+
+        @Override
+        public Polygon generate(int size) {
+            requireSize(size, 3, "star");
+
+            final var random = new Random(seed);
+            // Every polygon needs at least 3 convex vertices and below 5 vertices a notch can not be placed safely
+            final var notches = size < 5 ? 0 : Math.min(Math.round(reflexRatio * size), Math.min(size / 2, size - 3));
+            final var radius = Math.max(200f, size);
+            final var step = 2 * Math.PI / size;
+
+            // Spread the notches evenly, starting from a random offset, so no two notches are neighbours
+            final var isNotch = new boolean[size];
+            final var offset = random.nextInt(size);
+            for (var i = 0; i < notches; i++) {
+                isNotch[(offset + (int) ((long) i * size / notches)) % size] = true;
+            }
+
+            // A notch should be well within the chord between its neighbours. With the jitter below, both neighbours
+            // are at most (step + step / 8) away from the notch, so the chord is at least at this distance of the center
+            final var chord = radius * Math.cos(step + step / 8);
+
+            final var points = new ArrayList<Point>(size);
+            for (var i = 0; i < size; i++) {
+                // Decreasing angle to end up in clockwise order, jitter stays within an eighth of a step
+                final var angle = -(i + (random.nextDouble() - 0.5) / 4) * step;
+                final var r = isNotch[i] ? chord * (0.3 + 0.5 * random.nextDouble()) : radius;
+                points.add(new Point((float) (r * Math.cos(angle)), (float) (r * Math.sin(angle))));
+            }
+
+            return new Polygon(points);
+        }
+    }
+
+    /**
+     * Random polygon of uniformly distributed points. The points are connected in a random order, after which all
+     * crossing edges are removed with 2-opt moves. A move on two edges that properly cross strictly shortens the tour,
+     * so this ends with a simple polygon. Edges that only touch, like collinear overlapping edges, are not untangled
+     * this way, as the move does not always shorten the tour and could cycle, so the points are drawn again instead.
+     * That needs three collinear points and hardly ever happens. A pass over all edge pairs is O(n^2), which makes
+     * this family only practical up to a few thousand vertices. The amount of reflex vertices follows from the points
+     * and can not be chosen.
+     */
+    public static final class TwoOptGenerator extends PolygonGenerator {
+        private final long seed;
+
+        public TwoOptGenerator(long seed) {
+            this.seed = seed;
+        }
+
+        @Override
+        public Polygon generate(int size) {
+            requireSize(size, 3, "2-opt");
+
+            final var random = new Random(seed);
+            final var extent = Math.max(400f, 10f * size);
+            final var points = new ArrayList<Point>(size);
+            do {
+                points.clear();
+                for (var i = 0; i < size; i++) {
+                    points.add(new Point(random.nextFloat() * extent, random.nextFloat() * extent));
+                }
+            } while (!untangle(points));
+
+            return clockwise(points);
+        }
+
+        /**
+         * @return False if two edges touch without properly crossing, in which case the points are left tangled
+         */
+        static boolean untangle(ArrayList<Point> points) {
+            final var size = points.size();
+            var changed = true;
+            while (changed) {
+                changed = false;
+                for (var i = 0; i < size - 2; i++) {
+                    // The last edge is adjacent to the first one, so stop one edge earlier for i == 0
+                    for (var j = i + 2; j < (i == 0 ? size - 1 : size); j++) {
+                        final var a = points.get(i);
+                        final var b = points.get(i + 1);
+                        final var c = points.get(j);
+                        final var d = points.get((j + 1) % size);
+                        final var o1 = Math.signum(cross(a, b, c));
+                        final var o2 = Math.signum(cross(a, b, d));
+                        final var o3 = Math.signum(cross(c, d, a));
+                        final var o4 = Math.signum(cross(c, d, b));
+                        if (o1 * o2 < 0 && o3 * o4 < 0) {
+                            // Untangle by reversing the path between both edges: ab, cd -> ac, bd
+                            Collections.reverse(points.subList(i + 1, j + 1));
+                            changed = true;
+                        } else if ((o1 == 0 && onSegment(a, b, c)) || (o2 == 0 && onSegment(a, b, d))
+                                || (o3 == 0 && onSegment(c, d, a)) || (o4 == 0 && onSegment(c, d, b))) {
+                            return false;
+                        }
+                    }
+                }
+            }
+            return true;
+        }
+
+        private static double cross(Point a, Point b, Point c) {
+            return ((double) b.x - a.x) * ((double) c.y - a.y) - ((double) b.y - a.y) * ((double) c.x - a.x);
+        }
+
+        private static boolean onSegment(Point a, Point b, Point p) {
+            return p.x >= Math.min(a.x, b.x) && p.x <= Math.max(a.x, b.x)
+                    && p.y >= Math.min(a.y, b.y) && p.y <= Math.max(a.y, b.y);
+        }
+    }
+
+    /**
+     * Random x-monotone orthogonal polygon: a random skyline on top and a random skyline at the bottom.
+     * An orthogonal polygon always has an even amount of vertices, of which {@code (size - 4) / 2} are reflex,
+     * so odd sizes are rounded down.
+     */
+    public static final class OrthogonalGenerator extends PolygonGenerator {
+        private final long seed;
+
+        public OrthogonalGenerator(long seed) {
+            this.seed = seed;
+        }
+
+        @Override
+        public Polygon generate(int size) {
+            requireSize(size, 4, "orthogonal");
+
+            final var random = new Random(seed);
+            final var columns = size / 2; // both skylines together
+            final var topColumns = (columns + 1) / 2;
+            final var bottomColumns = columns - topColumns;
+            final var width = Math.max(400f, 10f * size);
+            final var height = 400f;
+
+            final var top = skyline(random, topColumns, height / 2 + 10, height);
+            final var bottom = skyline(random, bottomColumns, 0, height / 2 - 10);
+
+            final var points = new ArrayList<Point>(columns * 2);
+            // Top from left to right
+            for (var i = 0; i < topColumns; i++) {
+                points.add(new Point(columnX(width, i, topColumns), top[i]));
+                points.add(new Point(columnX(width, i + 1, topColumns), top[i]));
+            }
+            // Bottom from right to left
+            for (var i = bottomColumns - 1; i >= 0; i--) {
+                points.add(new Point(columnX(width, i + 1, bottomColumns), bottom[i]));
+                points.add(new Point(columnX(width, i, bottomColumns), bottom[i]));
+            }
+
+            return new Polygon(points);
+        }
+
+        /**
+         * Calculated in double precision, so both skylines end at exactly the same x
+         */
+        private static float columnX(float width, int index, int columns) {
+            return (float) ((double) width * index / columns);
+        }
+
+        /**
+         * Random heights where neighbouring columns never have the same height, as that would create a straight vertex
+         */
+        private static float[] skyline(Random random, int columns, float min, float max) {
+            final var heights = new float[columns];
+            for (var i = 0; i < columns; i++) {
+                do {
+                    heights[i] = (float) Math.floor(min + random.nextFloat() * (max - min));
+                } while (i > 0 && heights[i] == heights[i - 1]);
+            }
+            return heights;
+        }
+    }
+
+    /**
+     * Scaled-up version of the saw prefab (<i>zaag.poly</i>): a straight base with teeth on top.
+     * Every valley between two teeth is a reflex vertex, so about half of the vertices are reflex.
+     */
+    public static final class SawGenerator extends PolygonGenerator {
+        private static final float STEP = 10f;
+        private static final float HEIGHT = 200f;
+
+        @Override
+        public Polygon generate(int size) {
+            requireSize(size, 4, "saw");
+
+            final var teeth = size - 2; // amount of points on the toothed side
+            final var span = (teeth - 1) * STEP;
+            final var points = new ArrayList<Point>(size);
+
+            // Base of the saw, slightly wider than the teeth to avoid vertical edges
+            points.add(new Point(-STEP / 2, HEIGHT));
+            points.add(new Point(span + STEP / 2, HEIGHT));
+
+            // Teeth from right to left, alternating between a tip and a valley
+            for (var i = 0; i < teeth; i++) {
+                final var x = span - i * STEP;
+                final var y = i % 2 == 0 ? 0f : HEIGHT / 2;
+                points.add(new Point(x, y));
+            }
+
+            return new Polygon(points);
+        }
+    }
+
+    /**
+     * Scaled-up version of the indented prefab (<i>indented.poly</i>): a rectangle with notches in both long sides.
+     * With N notches per side the polygon has {@code 4N + 2} vertices of which 2N are reflex, other sizes are
+     * rounded down.
+     */
+    public static final class IndentedGenerator extends PolygonGenerator {
+        private static final float STEP = 40f;
+        private static final float HEIGHT = 280f;
+        private static final float DEPTH = 100f;
+
+        @Override
+        public Polygon generate(int size) {
+            requireSize(size, 6, "indented");
+
+            final var notches = (size - 2) / 4;
+            final var width = notches * 2 * STEP;
+            final var points = new ArrayList<Point>(notches * 4 + 2);
+
+            // Left side, slightly skewed like the prefab to avoid vertical edges
+            points.add(new Point(0, 0));
+            points.add(new Point(-STEP / 4, HEIGHT));
+            // Top from left to right: notch, peak, notch, ..., notch
+            for (var i = 0; i < notches * 2 - 1; i++) {
+                final var y = i % 2 == 0 ? HEIGHT - DEPTH : HEIGHT;
+                points.add(new Point((i + 1) * STEP, y));
+            }
+            // Right side
+            points.add(new Point(width + STEP / 4, HEIGHT));
+            points.add(new Point(width, 0));
+            // Bottom from right to left: notch, peak, notch, ..., notch
+            for (var i = notches * 2 - 2; i >= 0; i--) {
+                final var y = i % 2 == 0 ? DEPTH : 0;
+                points.add(new Point((i + 1) * STEP, y));
+            }
+
+            return new Polygon(points);
+        }
+    }
+
+    /**
+     * Scaled-up version of the curl prefab (<i>curl.poly</i>): a band that spirals around its center.
+     * The outer side of the band has the convex vertices, the inner side the reflex vertices. The band has
+     * {@code size / 2} vertices per side, so odd sizes are rounded down. Small polygons get fewer turns, so the
+     * sides stay far enough apart to keep the polygon simple.
+     */
+    public static final class CurlGenerator extends PolygonGenerator {
+        private static final float SPACING = 100f; // distance between two turns of the spiral
+        private static final float BAND = 0.3f * SPACING; // half the width of the band
+        private static final double START_ANGLE = 0.1; // avoids an axis-aligned edge at the start of the band
+
+        private final double turns;
+
+        /**
+         * @param turns The amount of times the band turns around its center
+         */
+        public CurlGenerator(double turns) {
+            if (turns <= 0) throw new IllegalArgumentException("A curl needs a positive amount of turns, got: " + turns);
+            this.turns = turns;
+        }
+
+        public CurlGenerator() {
+            this(2);
+        }
+
+        @Override
+        public Polygon generate(int size) {
+            requireSize(size, 6, "curl");
+
+            final var perSide = size / 2;
+            final var start = 2 * BAND; // radius where the spiral starts, so the inner side never reaches the center
+            final var b = SPACING / (2 * Math.PI);
+
+            // Every chord cuts a bit of the curve, make sure that this stays well within the free space between 2 turns
+            var actualTurns = turns;
+            while (actualTurns > 0.25) {
+                final var angleStep = 2 * Math.PI * actualTurns / (perSide - 1);
+                final var maxRadius = start + b * 2 * Math.PI * actualTurns + BAND;
+                final var cut = maxRadius * (1 - Math.cos(angleStep / 2));
+                if (angleStep <= Math.PI / 4 && cut < (SPACING - 2 * BAND) / 2) break;
+                actualTurns *= 0.9;
+            }
+
+            final var angleStep = 2 * Math.PI * actualTurns / (perSide - 1);
+            final var points = new ArrayList<Point>(perSide * 2);
+            // Outer side from the center outwards
+            for (var i = 0; i < perSide; i++) {
+                final var angle = i * angleStep;
+                points.add(spiral(angle, start + b * angle + BAND));
+            }
+            // Inner side back to the center
+            for (var i = perSide - 1; i >= 0; i--) {
+                final var angle = i * angleStep;
+                points.add(spiral(angle, start + b * angle - BAND));
+            }
+
+            return clockwise(points);
+        }
+
+        private static Point spiral(double angle, double radius) {
+            return new Point((float) (radius * Math.cos(angle + START_ANGLE)), (float) (radius * Math.sin(angle + START_ANGLE)));
+        }
+    }
+}
@@ -2,7 +2,6 @@ package be.ulbvub.compgeom.kd;
 
 import be.ulbvub.compgeom.Polygon;
 import be.ulbvub.compgeom.utils.*;
-import processing.core.PVector;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -18,10 +17,12 @@ public class KdDecomposition {
         yReflex = new ArrayList<>();
         decomposition = new DoublyConnectedEdgeList(polygon);
 
+        final var start = System.nanoTime();
         findReflexPoints(); // O(n)
         // Sort now, so we have the correct order
         xReflex.sort(new DCVertexXComparator()); // O(n log(n))
         yReflex.sort(new DCVertexYComparator()); // O(n log(n))
+        DecompositionStats.addPhaseTime("reflex sort", System.nanoTime() - start);
     }
 
     private void findReflexPoints() {
@@ -58,9 +59,11 @@ public class KdDecomposition {
                 final var middleReflex = xReflex.get(middleIndexX);
 
                 if (middleReflex.hasNotBeenProcessed()) {
-                    System.out.println("Reflex handled X: " + middleReflex.toString());
-                    final var ray = new Line(middleReflex.vertex().getPoint(), middleReflex.vertex().getPoint().copy().add(new PVector(0, 1)));
+                    if (Trace.ENABLED) Trace.log("Reflex handled X: " + middleReflex.toString());
+                    final var ray = new Line(middleReflex.vertex().getPoint(), middleReflex.vertex().getPoint().add(new Point(0, 1)));
+                    final var start = System.nanoTime();
                     insertEdge(middleReflex.vertex(), ray);
+                    DecompositionStats.addPhaseTime("insertEdge", System.nanoTime() - start);
 
                     middleReflex.setProcessed();
                 }
@@ -73,9 +76,11 @@ public class KdDecomposition {
                 final var middleReflex = yReflex.get(middleIndexY);
 
                 if (middleReflex.hasNotBeenProcessed()) {
-                    System.out.println("Reflex handled Y: " + middleReflex.toString());
-                    final var ray = new Line(middleReflex.vertex().getPoint(), middleReflex.vertex().getPoint().copy().add(new PVector(1, 0)));
+                    if (Trace.ENABLED) Trace.log("Reflex handled Y: " + middleReflex.toString());
+                    final var ray = new Line(middleReflex.vertex().getPoint(), middleReflex.vertex().getPoint().add(new Point(1, 0)));
+                    final var start = System.nanoTime();
                     insertEdge(middleReflex.vertex(), ray);
+                    DecompositionStats.addPhaseTime("insertEdge", System.nanoTime() - start);
 
                     middleReflex.setProcessed();
                 }
@@ -136,13 +141,22 @@ public class KdDecomposition {
         // Ok we have found here now possibly an upper and a lower edge -> connect
         if (minUpperEdge != null) {
             final var intersection = minUpperEdge.toLine().intersectionPointWithRay(ray);
-            final var newVertex = getOrInsertVertex(minUpperEdge, intersection);
-            decomposition.addEdge(reflexPoint, newVertex);
+            connect(reflexPoint, getOrInsertVertex(minUpperEdge, intersection), minUpperEdge);
         }
         if (minLowerEdge != null) {
             final var intersection = minLowerEdge.toLine().intersectionPointWithRay(ray);
-            final var newVertex = getOrInsertVertex(minLowerEdge, intersection);
-            decomposition.addEdge(reflexPoint, newVertex);
+            connect(reflexPoint, getOrInsertVertex(minLowerEdge, intersection), minLowerEdge);
+        }
+    }
+
+    /**
+     * When the ray runs along an edge, the vertex it hits is already a neighbour of the reflex point, and a second
+     * edge would enclose a face of two half edges. The hit edge was found walking the face around the reflex point,
+     * so its face is the one to split, read only now as connecting the other side may have relabelled it.
+     */
+    private void connect(DCVertex reflexPoint, DCVertex vertex, DCHalfEdge hitEdge) {
+        if (reflexPoint.getEdgeTo(vertex) == null) {
+            decomposition.addEdge(reflexPoint, vertex, hitEdge.getFace());
         }
     }
 
@@ -150,7 +164,7 @@ public class KdDecomposition {
         return decomposition;
     }
 
-    private DCVertex getOrInsertVertex(DCHalfEdge edge, PVector newPoint) {
+    private DCVertex getOrInsertVertex(DCHalfEdge edge, Point newPoint) {
         if (edge.getOrigin().getPoint().equals(newPoint))
             return edge.getOrigin();
         else if (edge.getTwin().getOrigin().getPoint().equals(newPoint))
@@ -0,0 +1,38 @@
+package be.ulbvub.compgeom.minkowski;
+
+import be.ulbvub.compgeom.Polygon;
+import be.ulbvub.compgeom.decomposition.DecompositionConfig;
+import be.ulbvub.compgeom.decomposition.PolygonGroup;
+import be.ulbvub.compgeom.utils.DoublyConnectedEdgeList;
+
+public record MinkowskiConfig(Polygon a, Polygon b, DecompositionConfig dConfig) {
+
+    public MinkowskiSum calculate() {
+        final var event = new MinkowskiEvent();
+        event.begin();
+
+        dConfig.setPolygon(a);
+        final var dA = dConfig.decompose();
+        final var dB = new DoublyConnectedEdgeList(b); // Shape B is assumed to be always convex
+
+        final MinkowskiSum result;
+        if (dA instanceof DoublyConnectedEdgeList dcel) {
+            result = new MinkowskiSum(dcel.freeze(), dB);
+        } else if (dA instanceof PolygonGroup pg) {
+            result = new MinkowskiSum(pg, dB);
+        } else {
+            throw new RuntimeException("Not supported decomposition result");
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.engine = dConfig.engine().toString();
+            event.polygonSize = a.points().size();
+            event.reflexCount = a.countReflexVertices();
+            event.convexSize = b.points().size();
+            event.faceCount = result.getFaceCount();
+            event.commit();
+        }
+        return result;
+    }
+}
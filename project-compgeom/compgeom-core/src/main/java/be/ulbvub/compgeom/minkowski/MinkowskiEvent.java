@@ -0,0 +1,38 @@
+package be.ulbvub.compgeom.minkowski;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event spanning a complete Minkowski sum, see {@link MinkowskiConfig#calculate()}
+ */
+@Name("be.ulbvub.compgeom.Minkowski")
+@Label("Minkowski Sum")
+@Category({"Computational Geometry", "Minkowski"})
+@Description("A complete Minkowski sum, including the decomposition of the first polygon")
+@StackTrace(false)
+class MinkowskiEvent extends Event {
+    @Label("Engine")
+    @Description("Decomposition used to split the first polygon in convex parts")
+    String engine;
+
+    @Label("Polygon Size")
+    @Description("Amount of vertices in the first polygon")
+    int polygonSize;
+
+    @Label("Reflex Count")
+    @Description("Amount of reflex vertices in the first polygon")
+    int reflexCount;
+
+    @Label("Convex Size")
+    @Description("Amount of vertices in the convex second polygon")
+    int convexSize;
+
+    @Label("Face Count")
+    @Description("Amount of faces in the resulting Minkowski sum")
+    int faceCount;
+}
@@ -0,0 +1,30 @@
+package be.ulbvub.compgeom.minkowski;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for the Minkowski sum of a single convex face with the convex shape
+ */
+@Name("be.ulbvub.compgeom.MinkowskiFace")
+@Label("Minkowski Face")
+@Category({"Computational Geometry", "Minkowski"})
+@Description("Minkowski sum of one convex face of the decomposition")
+@StackTrace(false)
+class MinkowskiFaceEvent extends Event {
+    @Label("Face Size")
+    @Description("Amount of vertices in the face")
+    int faceSize;
+
+    @Label("Convex Size")
+    @Description("Amount of vertices in the convex shape")
+    int convexSize;
+
+    @Label("Result Size")
+    @Description("Amount of vertices in the sum")
+    int resultSize;
+}
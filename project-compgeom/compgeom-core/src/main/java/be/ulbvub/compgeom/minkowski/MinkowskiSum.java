@@ -0,0 +1,182 @@
+package be.ulbvub.compgeom.minkowski;
+
+import be.ulbvub.compgeom.Polygon;
+import be.ulbvub.compgeom.decomposition.PolygonGroup;
+import be.ulbvub.compgeom.utils.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class MinkowskiSum implements CalculationResult {
+
+    ArrayList<DoublyConnectedEdgeList> convoluted = new ArrayList<>();
+    private DecompositionStats stats = DecompositionStats.EMPTY;
+
+    /*
+    Minkowski sum of convex polygons, based on this article: https://cp-algorithms.com/geometry/minkowski.html
+     */
+
+    /**
+     * @return Position of the lowest vertex in the packed coordinates, the leftmost one in case of a tie
+     */
+    private static int lowest(float[] coordinates, int size) {
+        int pos = 0;
+        for (int i = 1; i < size; i++) {
+            if (coordinates[2 * i + 1] < coordinates[2 * pos + 1]
+                    || (coordinates[2 * i + 1] == coordinates[2 * pos + 1] && coordinates[2 * i] < coordinates[2 * pos])) {
+                pos = i;
+            }
+        }
+        return pos;
+    }
+
+    private static float[] pack(List<DCVertex> vertices) {
+        final var coordinates = new float[2 * vertices.size()];
+        for (int i = 0; i < vertices.size(); i++) {
+            coordinates[2 * i] = vertices.get(i).getPoint().x;
+            coordinates[2 * i + 1] = vertices.get(i).getPoint().y;
+        }
+        return coordinates;
+    }
+
+    private static float[] packPoints(List<Point> points) {
+        final var coordinates = new float[2 * points.size()];
+        for (int i = 0; i < points.size(); i++) {
+            coordinates[2 * i] = points.get(i).x;
+            coordinates[2 * i + 1] = points.get(i).y;
+        }
+        return coordinates;
+    }
+
+    public static DoublyConnectedEdgeList minkowski(DoublyConnectedEdgeList convex1, DoublyConnectedEdgeList convex2) {
+        return minkowski(convex1.getVertices(), convex2.getVertices());
+    }
+
+    public static DoublyConnectedEdgeList minkowski(ArrayList<DCVertex> vertices1, ArrayList<DCVertex> vertices2) {
+        return minkowski(pack(vertices1), vertices1.size(), pack(vertices2), vertices2.size());
+    }
+
+    /**
+     * Minkowski sum of two convex polygons given as packed coordinates ({@code x0, y0, x1, y1, ...})
+     */
+    private static DoublyConnectedEdgeList minkowski(float[] coordinates1, int n1, float[] coordinates2, int n2) {
+        final int start1 = lowest(coordinates1, n1);
+        final int start2 = lowest(coordinates2, n2);
+
+        int i = 0, j = 0;
+        ArrayList<Point> result = new ArrayList<>();
+        while (i < n1 || j < n2) {
+            final int current1 = 2 * ((start1 + i) % n1);
+            final int current2 = 2 * ((start2 + j) % n2);
+            final int next1 = 2 * ((start1 + i + 1) % n1);
+            final int next2 = 2 * ((start2 + j + 1) % n2);
+            result.add(new Point(coordinates1[current1] + coordinates2[current2], coordinates1[current1 + 1] + coordinates2[current2 + 1]));
+
+            final float edge1X = coordinates1[next1] - coordinates1[current1];
+            final float edge1Y = coordinates1[next1 + 1] - coordinates1[current1 + 1];
+            final float edge2X = coordinates2[next2] - coordinates2[current2];
+            final float edge2Y = coordinates2[next2 + 1] - coordinates2[current2 + 1];
+            float crossProduct = TurnDirection.orientationRaw(0, 0, edge2X, edge2Y, edge1X + edge2X, edge1Y + edge2Y);
+            if (crossProduct >= 0 && i < n1) {
+                ++i;
+            }
+            if (crossProduct <= 0 && j < n2) {
+                ++j;
+            }
+        }
+        return new DoublyConnectedEdgeList(result);
+    }
+
+    public MinkowskiSum(DoublyConnectedEdgeList decomposition, DoublyConnectedEdgeList convexShape) {
+        this(decomposition.freeze(), convexShape);
+    }
+
+    /**
+     * Sum every face of the snapshot with the convex shape. The faces are read straight from the packed coordinates
+     * of the snapshot, through a single buffer that is reused for all faces.
+     */
+    public MinkowskiSum(FrozenDecomposition decomposition, DoublyConnectedEdgeList convexShape) {
+        final var convex = pack(convexShape.getVertices());
+        final var convexSize = convexShape.getVertexCount();
+        var face = new float[0];
+        for (int i = 0; i < decomposition.getFaceCount(); i++) {
+            final var faceSize = decomposition.getFaceSize(i);
+            if (face.length < 2 * faceSize) {
+                face = new float[2 * faceSize];
+            }
+            decomposition.copyFace(i, face);
+            convoluted.add(minkowskiFace(face, faceSize, convex, convexSize));
+        }
+    }
+
+    public MinkowskiSum(PolygonGroup pg, DoublyConnectedEdgeList convexShape) {
+        final var convex = pack(convexShape.getVertices());
+        final var convexSize = convexShape.getVertexCount();
+        for (var face : pg.polygons()) {
+            convoluted.add(minkowskiFace(packPoints(face.points()), face.points().size(), convex, convexSize));
+        }
+    }
+
+    private static DoublyConnectedEdgeList minkowskiFace(float[] face, int faceSize, float[] convex, int convexSize) {
+        final var event = new MinkowskiFaceEvent();
+        event.begin();
+        final var result = minkowski(face, faceSize, convex, convexSize);
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.faceSize = faceSize;
+            event.convexSize = convexSize;
+            event.resultSize = result.getVertexCount();
+            event.commit();
+        }
+        return result;
+    }
+
+    @Override
+    public List<Polygon> getFacePolygons() {
+        final var result = new ArrayList<Polygon>();
+        for (var dcel : convoluted) {
+            result.addAll(dcel.getFacePolygons());
+        }
+        return result;
+    }
+
+    @Override
+    public int getFaceCount() {
+        int count = 0;
+        for (var dcel : convoluted) {
+            count += dcel.getFaceCount();
+        }
+        return count;
+    }
+
+    @Override
+    public int getVertexCount() {
+        int count = 0;
+        for (var dcel : convoluted) {
+            count += dcel.getVertexCount();
+        }
+        return count;
+    }
+
+    @Override
+    public int getHalfEdgeCount() {
+        int count = 0;
+        for (var dcel : convoluted) {
+            count += dcel.getHalfEdgeCount();
+        }
+        return count;
+    }
+
+    @Override
+    public DecompositionStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public MinkowskiSum withStats(DecompositionStats stats) {
+        this.stats = Objects.requireNonNull(stats);
+        return this;
+    }
+}
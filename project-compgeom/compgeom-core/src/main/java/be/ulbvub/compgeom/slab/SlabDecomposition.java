@@ -2,29 +2,38 @@ package be.ulbvub.compgeom.slab;
 
 import be.ulbvub.compgeom.Polygon;
 import be.ulbvub.compgeom.utils.*;
-import processing.core.PVector;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 
 public class SlabDecomposition {
     private final SweepLine sweepLine;
     private final EventQueue<EventTypes, Event<EventTypes>> queue;
-    private final PVector direction;
+    private final Point direction;
     private final DoublyConnectedEdgeList decomposition;
+    // Vertices in sweep order, as a cut from a reflex point runs into the vertices at the same sweep position
+    private final TreeMap<Point, DCVertex> sweepOrder;
 
-    public SlabDecomposition(PVector direction, Polygon polygon) {
-        @SuppressWarnings("SuspiciousNameCombination") final var orthogonalDirection = new PVector(direction.y, direction.x);
+    public SlabDecomposition(Point direction, Polygon polygon) {
+        @SuppressWarnings("SuspiciousNameCombination") final var orthogonalDirection = new Point(direction.y, direction.x);
 
         this.sweepLine = SweepLine.fromDirection(orthogonalDirection);
         this.queue = EventQueue.fromDirection(orthogonalDirection);
         this.direction = direction;
         this.decomposition = new DoublyConnectedEdgeList(polygon);
+        this.sweepOrder = new TreeMap<>(Comparator.<Point>comparingDouble(point -> point.x).thenComparingDouble(point -> point.y));
+        for (var vertex : decomposition.getVertices()) {
+            sweepOrder.put(vertex.getPoint(), vertex);
+        }
     }
 
     public void buildEventQueue() {
         if (decomposition.getVertices().isEmpty()) return;
 
+        final var start = System.nanoTime();
         var slidingIterator = new SlidingIterator<>(3, decomposition.getFaces().get(0).ccwIteratorEdge());
 
         while (slidingIterator.hasNext()) {
@@ -72,6 +81,7 @@ public class SlabDecomposition {
                 }
             });
         }
+        DecompositionStats.addPhaseTime("event queue", System.nanoTime() - start);
     }
 
     public EventQueue<EventTypes, Event<EventTypes>> getQueue() {
@@ -79,6 +89,7 @@ public class SlabDecomposition {
     }
 
     public void run() {
+        final var start = System.nanoTime();
         while (!queue.isEmpty()) {
             final var event = queue.poll();
 
@@ -86,7 +97,7 @@ public class SlabDecomposition {
             switch (reason) {
                 case Start -> {
                     for (var iter = event.getVertex().iterateOutgoingEdges(); iter.hasNext(); ) {
-                        sweepLine.add(iter.next().toLine());
+                        addToSweepLine(iter.next().toLine());
                     }
                 }
                 case End -> {
@@ -102,7 +113,7 @@ public class SlabDecomposition {
                     emitReflex(event);
 
                     // We can't just restart iterating as we have added a new line, which can confuse the algorithm
-                    sweepLine.addAll(toBeAdded);
+                    toBeAdded.forEach(this::addToSweepLine);
                 }
                 case Join -> {
                     for (var iter = event.getVertex().iterateOutgoingEdges(); iter.hasNext(); ) {
@@ -118,7 +129,7 @@ public class SlabDecomposition {
                             sweepLine.remove(edge);
                         } else {
                             // Edge that starts in current event, add to sweepLine
-                            sweepLine.add(edge);
+                            addToSweepLine(edge);
                         }
                     }
                 }
@@ -138,40 +149,56 @@ public class SlabDecomposition {
 
                     // Edge that starts in current event, add to sweepLine
                     // We can't just restart iterating as we have added a new line, which can confuse the algorithm
-                    sweepLine.addAll(toBeAdded);
+                    toBeAdded.forEach(this::addToSweepLine);
                 }
                 default -> throw new IllegalStateException("Unexpected value: " + event.getReason());
             }
         }
+        DecompositionStats.addPhaseTime("sweep", System.nanoTime() - start);
+    }
+
+    /**
+     * An edge along the cut direction has both ends at the same sweep position, so it would never be removed again.
+     * A cut along it ends at one of its ends, which the edges next to it already provide.
+     */
+    private void addToSweepLine(Line edge) {
+        if (edge.leftMost().x != edge.rightMost().x) {
+            sweepLine.add(edge);
+        }
     }
 
     private void emitReflex(Event<EventTypes> event) {
-        @SuppressWarnings("SuspiciousNameCombination") final var reflexPoint = new Line(event.getPoint(), event.getPoint().copy().add(new PVector(direction.y, direction.x)));
+        @SuppressWarnings("SuspiciousNameCombination") final var reflexPoint = new Line(event.getPoint(), event.getPoint().add(new Point(direction.y, direction.x)));
 
         final var edgeAbove = sweepLine.higher(reflexPoint);
         final var edgeBelow = sweepLine.lower(reflexPoint);
 
-        if (edgeAbove != null)
-            handleOneSidedCut(edgeAbove, event);
-
-        if (edgeBelow != null)
-            handleOneSidedCut(edgeBelow, event);
+        // Edges along the cut are not on the sweep line, and those ending at the same sweep position may be gone
+        // already, so the cut can also end at the next vertex at that position
+        handleOneSidedCut(edgeAbove, sweepOrder.higherEntry(event.getPoint()), event);
+        handleOneSidedCut(edgeBelow, sweepOrder.lowerEntry(event.getPoint()), event);
     }
 
-    private PVector intersectionAlongSameYAxis(Line edge, PVector reflexPoint) {
+    private Point intersectionAlongSameYAxis(Line edge, Point reflexPoint) {
         final var determinant = (edge.start().x - edge.end().x);
         if (determinant == 0) {
-            return new PVector(reflexPoint.x, reflexPoint.dist(edge.start()) < reflexPoint.dist(edge.end()) ? edge.start().y : edge.end().y);
+            return new Point(reflexPoint.x, reflexPoint.dist(edge.start()) < reflexPoint.dist(edge.end()) ? edge.start().y : edge.end().y);
         } else {
             final var m = (edge.start().y - edge.end().y) / determinant;
             final var y = m * (reflexPoint.x - edge.start().x) + edge.start().y;
 
-            return new PVector(reflexPoint.x, y);
+            return new Point(reflexPoint.x, y);
         }
     }
 
-    private void handleOneSidedCut(Line edge, Event<EventTypes> event) {
-        final var intersection = intersectionAlongSameYAxis(edge, event.getPoint());
+    private void handleOneSidedCut(Line edge, Map.Entry<Point, DCVertex> nextVertex, Event<EventTypes> event) {
+        final var reflexPoint = event.getPoint();
+        final var intersection = edge == null ? null : intersectionAlongSameYAxis(edge, reflexPoint);
+        final var vertexOnCut = nextVertex != null && nextVertex.getKey().x == reflexPoint.x && (intersection == null
+                || Math.abs(nextVertex.getKey().y - reflexPoint.y) < Math.abs(intersection.y - reflexPoint.y)) ? nextVertex.getValue() : null;
+        if (intersection == null && vertexOnCut == null)
+            return;
+        final var target = vertexOnCut == null ? intersection : vertexOnCut.getPoint();
 
         // Query if the intersection is visible from the current reflex point to avoid cutting into the outer null face
         // Start by finding the prev and next outer adjacent edges
@@ -179,8 +206,8 @@ public class SlabDecomposition {
         while (outerEdgeIter.hasNext()) {
             final var nextOuterEdge = outerEdgeIter.next();
             if (nextOuterEdge.getFace() == null) {
-                var orient1 = TurnDirection.orientationRaw(nextOuterEdge.getPrev().getOrigin().getPoint(), nextOuterEdge.getOrigin().getPoint(), intersection);
-                var orient2 = TurnDirection.orientationRaw(nextOuterEdge.getNext().getOrigin().getPoint(), nextOuterEdge.getOrigin().getPoint(), intersection);
+                var orient1 = TurnDirection.orientationRaw(nextOuterEdge.getPrev().getOrigin().getPoint(), nextOuterEdge.getOrigin().getPoint(), target);
+                var orient2 = TurnDirection.orientationRaw(nextOuterEdge.getNext().getOrigin().getPoint(), nextOuterEdge.getOrigin().getPoint(), target);
 
                 if (orient1 < 0 && orient2 > 0) {
                     return; // Not visible, stop cut here
@@ -190,17 +217,21 @@ public class SlabDecomposition {
             }
         }
 
-
-        DCHalfEdge halfEdge = null;
-        for (var dEdge : decomposition.getEdges()) {
-            final var dLine = dEdge.toLine();
-            // Find the edge on the inner side
-            if (dLine.equals(edge) && dEdge.getFace() != null) {
-                halfEdge = dEdge;
-                break;
-            }
+        if (vertexOnCut != null) {
+            // The edge on the sweep line, if any, lies beyond the vertex, so its face is no hint and the common face is searched
+            if (event.getVertex().getEdgeTo(vertexOnCut) == null)
+                decomposition.addEdge(vertexOnCut, event.getVertex());
+            return;
         }
+
+        var halfEdge = decomposition.getEdgeByLine(edge);
+        // Find the edge on the inner side
+        if (halfEdge != null && halfEdge.getFace() == null)
+            halfEdge = halfEdge.getTwin();
         Objects.requireNonNull(halfEdge, "A half edge should exist in DCEL that partially overlaps with the provided edge: " + edge);
+        // An earlier cut has a face on both sides, the new cut splits the one on the side of the reflex point
+        final var cutFace = halfEdge.getTwin().getFace() != null && TurnDirection.orientation(halfEdge.getOrigin().getPoint(),
+                halfEdge.getTwin().getOrigin().getPoint(), event.getPoint()) != TurnDirection.LEFT ? halfEdge.getTwin().getFace() : halfEdge.getFace();
 
         // Insert steiner point if point does not yet exist
         DCVertex otherEndVertex;
@@ -210,6 +241,7 @@ public class SlabDecomposition {
             otherEndVertex = halfEdge.getTwin().getOrigin();
         else {
             otherEndVertex = decomposition.addVertex(halfEdge, intersection);
+            sweepOrder.put(intersection, otherEndVertex);
 
             // We just updated the DCEL, now we need to also update the sweep line to retrieve later
             // the needed details
@@ -217,12 +249,14 @@ public class SlabDecomposition {
             sweepLine.add(new Line(intersection, edge.rightMost()));
         }
 
-        // Connect reflex point with above (steiner) point
-        if (!otherEndVertex.getPoint().equals(event.getVertex().getPoint()))
+        // Connect reflex point with above (steiner) point, unless the cut runs along an edge that already joins them
+        if (!otherEndVertex.getPoint().equals(event.getVertex().getPoint()) && event.getVertex().getEdgeTo(otherEndVertex) == null)
             try {
-                decomposition.addEdge(otherEndVertex, event.getVertex());
+                decomposition.addEdge(otherEndVertex, event.getVertex(), cutFace);
             } catch (NullPointerException ex) {
-                System.out.println("Something fishy happened with point: " + intersection + ", for reflex: " + event.getPoint());
+                if (Trace.ENABLED) Trace.log("Something fishy happened with point: " + intersection + ", for reflex: " + event.getPoint());
+                // The failed insertion may have left the list half linked, better to stop here than in a later face walk
+                if (EdgeListValidator.ENABLED) EdgeListValidator.validate(decomposition);
             }
     }
 
@@ -0,0 +1,339 @@
+package be.ulbvub.compgeom.triangles;
+
+import be.ulbvub.compgeom.Polygon;
+import be.ulbvub.compgeom.triangles.TriangleDecomposition.VertexType;
+import be.ulbvub.compgeom.utils.DecompositionStats;
+import be.ulbvub.compgeom.utils.IndexedDoublyConnectedEdgeList;
+import be.ulbvub.compgeom.utils.Trace;
+import be.ulbvub.compgeom.utils.TurnDirection;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.TreeSet;
+
+import static be.ulbvub.compgeom.utils.IndexedDoublyConnectedEdgeList.twin;
+import static be.ulbvub.compgeom.utils.TurnDirection.*;
+
+/**
+ * {@link TriangleDecomposition} on an {@link IndexedDoublyConnectedEdgeList}: the same monotone split and the same
+ * triangulation of the monotone faces, with vertices, half edges and faces identified by their index.
+ * <p>
+ * The helper of each edge of the sweep line is kept in arrays indexed by half edge, as only the half edges of the
+ * polygon boundary are ever in the sweep line. The indexed edge list has no batch insertion, the diagonals of each
+ * monotone face are inserted one by one with the face as hint.
+ */
+public class IndexedTriangleDecomposition {
+
+    private static final int NO_HELPER = -1;
+
+    public static IndexedDoublyConnectedEdgeList triangulatePolygon(Polygon p) {
+        return decompose(p, false);
+    }
+
+    public static IndexedDoublyConnectedEdgeList decompose(Polygon p, boolean greedy) {
+        //first split into y-monotone polygons
+        final var splitStart = System.nanoTime();
+        final var dcEdgeList = splitMonotone(p, greedy);
+        DecompositionStats.addPhaseTime("monotone split", System.nanoTime() - splitStart);
+        if (greedy && !dcEdgeList.hasReflex()) {
+            return dcEdgeList;
+        }
+        if (Trace.ENABLED) Trace.log("Number of monotone polygons:" + dcEdgeList.getFaceCount());
+        // Only the monotone faces, the faces created by the triangulation are triangles already
+        final var monotoneFaces = dcEdgeList.getFaceCount();
+        for (var face = 0; face < monotoneFaces; face++) {
+            final var faceStart = System.nanoTime();
+            final var done = triangulateYMonotonePolygon(dcEdgeList, face, greedy);
+            DecompositionStats.addPhaseTime("face triangulation", System.nanoTime() - faceStart);
+            if (greedy && done) {
+                if (Trace.ENABLED) Trace.log("Break because no more reflex");
+                break;
+            }
+        }
+        return dcEdgeList;
+    }
+
+    public static IndexedDoublyConnectedEdgeList splitMonotone(Polygon p, boolean greedy) {
+        if (Trace.ENABLED) Trace.log("Split monotone:");
+
+        final var dcEdgeList = new IndexedDoublyConnectedEdgeList(p.points());
+        final var n = dcEdgeList.getVertexCount();
+
+        final var vertices = new Integer[n];
+        for (var i = 0; i < n; i++) {
+            vertices[i] = i;
+        }
+        Arrays.sort(vertices, (left, right) -> {
+            final float lhsX = dcEdgeList.x(left), lhsY = dcEdgeList.y(left);
+            final float rhsX = dcEdgeList.x(right), rhsY = dcEdgeList.y(right);
+
+            if (lhsY > rhsY || (lhsY == rhsY && lhsX > rhsX)) {
+                return 1;
+            } else if (lhsY < rhsY || (lhsY == rhsY && lhsX < rhsX)) {
+                return -1;
+            }
+            return 0;
+        });
+
+        final var types = new VertexType[n];
+        for (var vertex = 0; vertex < n; vertex++) {
+            types[vertex] = getType(dcEdgeList, vertex);
+        }
+
+        final var edgeTree = new TreeSet<Integer>(new HalfEdgeComparator(dcEdgeList));
+        // Helper vertex of every boundary half edge in the sweep line, the boundary half edges are 0, 2, ..., 2n - 2
+        final var helper = new int[2 * n];
+        final var helperType = new VertexType[2 * n];
+        Arrays.fill(helper, NO_HELPER);
+
+        for (int vertex : vertices) {
+            final var type = types[vertex];
+            if (Trace.ENABLED) Trace.log("Type: " + type + " point:" + dcEdgeList.getPoint(vertex));
+            final var nextEdge = dcEdgeList.leavingEdge(vertex);
+            final var prevEdge = dcEdgeList.prev(nextEdge);
+            switch (type) {
+                case START -> {
+                    edgeTree.add(nextEdge);
+                    helper[nextEdge] = vertex;
+                    helperType[nextEdge] = type;
+                }
+                case SPLIT -> {
+                    //get left edge and connect "vertex" to his helper
+                    final var leftOfVertex = edgeTree.floor(nextEdge);
+                    if (leftOfVertex == null) throw new IllegalArgumentException("It must be a simple polygon");
+                    if (dcEdgeList.addEdge(vertex, helper[leftOfVertex], dcEdgeList.face(leftOfVertex)) && greedy) return dcEdgeList;
+
+                    //update the helper for left edge
+                    helper[leftOfVertex] = vertex;
+                    helperType[leftOfVertex] = type;
+
+                    //add edges connected to vertex
+                    edgeTree.add(nextEdge);
+                    helper[nextEdge] = vertex;
+                    helperType[nextEdge] = type;
+                }
+                case MERGE -> {
+                    if (helperType[prevEdge] == VertexType.MERGE) {
+                        if (dcEdgeList.addEdge(vertex, helper[prevEdge], dcEdgeList.face(prevEdge)) && greedy) return dcEdgeList;
+                    }
+                    edgeTree.remove(prevEdge);
+                    helper[prevEdge] = NO_HELPER;
+
+                    //get edge to left of vertex using "edge" to compare
+                    final var leftOfVertex = edgeTree.floor(prevEdge);
+                    if (leftOfVertex == null) throw new IllegalArgumentException("It must be a simple polygon");
+                    if (helperType[leftOfVertex] == VertexType.MERGE) {
+                        if (dcEdgeList.addEdge(vertex, helper[leftOfVertex], dcEdgeList.face(leftOfVertex)) && greedy) return dcEdgeList;
+                    }
+                    helper[leftOfVertex] = vertex;
+                    helperType[leftOfVertex] = type;
+                }
+                case END -> {
+                    if (helperType[prevEdge] == VertexType.MERGE) {
+                        if (dcEdgeList.addEdge(vertex, helper[prevEdge], dcEdgeList.face(prevEdge)) && greedy) return dcEdgeList;
+                    }
+                    helper[prevEdge] = NO_HELPER;
+                    edgeTree.remove(prevEdge);
+                }
+                case REGULAR -> {
+                    if (helper[prevEdge] != NO_HELPER) {//edge on left side
+                        //check for merge and remove old edge
+                        if (helperType[prevEdge] == VertexType.MERGE) {
+                            if (dcEdgeList.addEdge(vertex, helper[prevEdge], dcEdgeList.face(prevEdge)) && greedy) return dcEdgeList;
+                        }
+                        helper[prevEdge] = NO_HELPER;
+                        edgeTree.remove(prevEdge);
+                        //add new edge
+                        edgeTree.add(nextEdge);
+                        helper[nextEdge] = vertex;
+                        helperType[nextEdge] = type;
+                    } else {//edge on right side
+                        //get edge to left of vertex using "edge" to compare
+                        final var leftOfVertex = edgeTree.floor(prevEdge);
+                        if (leftOfVertex == null) throw new IllegalArgumentException("It must be a simple polygon");
+                        if (helperType[leftOfVertex] == VertexType.MERGE) {
+                            if (dcEdgeList.addEdge(vertex, helper[leftOfVertex], dcEdgeList.face(leftOfVertex)) && greedy) return dcEdgeList;
+                        }
+                        helper[leftOfVertex] = vertex;
+                        helperType[leftOfVertex] = type;
+                    }
+                }
+            }
+        }
+        return dcEdgeList;
+    }
+
+    /**
+     * @return True if the greedy decomposition can stop as no reflex vertex is left
+     */
+    public static boolean triangulateYMonotonePolygon(IndexedDoublyConnectedEdgeList dcEdgeList, int face, boolean greedy) {
+        final var points = dcEdgeList.getVerticesOfFace(face);
+        final var n = points.length;
+        var topVertexIdx = 0;
+        for (var idx = 1; idx < n; idx++) {
+            if (dcEdgeList.y(points[topVertexIdx]) > dcEdgeList.y(points[idx])) {
+                topVertexIdx = idx;
+            }
+        }
+
+        final var order = new int[n];
+        var orderSize = 0;
+        var currLeft = topVertexIdx;
+        var currRight = (topVertexIdx + (n - 1)) % n;// idx - 1 (mod) n;
+        while (currLeft != currRight) {
+            if (dcEdgeList.y(points[currLeft]) < dcEdgeList.y(points[currRight])) {
+                order[orderSize++] = currLeft;
+                currLeft = (currLeft + 1) % n;
+            } else {
+                order[orderSize++] = currRight;
+                currRight = (currRight + (n - 1)) % n;// idx - 1 (mod) n;
+            }
+        }
+        order[orderSize] = currLeft;
+        final var bottomVertexIdx = currLeft;
+
+        final var stack = new int[n];
+        var stackSize = 0;
+        stack[stackSize++] = order[0];
+        stack[stackSize++] = order[1];
+
+        for (var j = 2; j < n - 1; j++) {
+            final var uj = order[j];
+            if (sideOf(uj, topVertexIdx, bottomVertexIdx) != sideOf(stack[stackSize - 1], topVertexIdx, bottomVertexIdx)) {
+                while (stackSize > 0) {
+                    final var v = stack[--stackSize];
+                    if (stackSize > 0) {
+                        if (addEdge(dcEdgeList, face, points[uj], points[v]) && greedy) return true;
+                    }
+                }
+                stack[stackSize++] = order[j - 1];
+                stack[stackSize++] = uj;
+            } else {
+                var v = stack[--stackSize];
+                while (stackSize > 0 && canSee(dcEdgeList, uj, v, stack[stackSize - 1], points, topVertexIdx, bottomVertexIdx)) {
+                    v = stack[--stackSize];
+                    if (addEdge(dcEdgeList, face, points[uj], points[v]) && greedy) return true;
+                }
+                stack[stackSize++] = v;
+                stack[stackSize++] = uj;
+            }
+        }
+
+        //draw edge from last vertex to every vertex remaining except his neighbours (top and bottom of stack):
+        final var un = order[n - 1];
+        stackSize--;
+        while (stackSize > 1) {
+            if (addEdge(dcEdgeList, face, points[un], points[stack[--stackSize]]) && greedy) return true;
+        }
+        return !dcEdgeList.hasReflex();
+    }
+
+    /**
+     * The face keeps its label on one side of each split, a vertex that left it is usually in the newest face
+     */
+    private static boolean addEdge(IndexedDoublyConnectedEdgeList dcEdgeList, int face, int from, int to) {
+        final var hint = dcEdgeList.face(dcEdgeList.getPrevEdgeOfFace(from, face)) == face ? face : dcEdgeList.getFaceCount() - 1;
+        return dcEdgeList.addEdge(from, to, hint);
+    }
+
+    // Return True is point is on left side
+    private static boolean sideOf(int index, int topIdx, int bottomIdx) {
+        boolean isOnJunctionSide = (index > topIdx == index > bottomIdx);
+        if (topIdx > bottomIdx)//junction side is left (ccw order)
+            return isOnJunctionSide;
+        else
+            return !isOnJunctionSide;
+    }
+
+    private static boolean canSee(IndexedDoublyConnectedEdgeList dcEdgeList, int vertexBottom, int vertexInter, int vertexTop, int[] points, int topIdx, int bottomIdx) {
+        final var orientation = orientation(dcEdgeList, points[vertexBottom], points[vertexInter], points[vertexTop]);
+        return (orientation == STRAIGHT) || ((orientation == RIGHT) == sideOf(vertexBottom, topIdx, bottomIdx));
+    }
+
+    /**
+     * Same as {@link TriangleDecomposition#isBelow}, on the vertices of the edge list
+     */
+    private static boolean isBelow(IndexedDoublyConnectedEdgeList dcEdgeList, int a, int b) {
+        double diff = dcEdgeList.y(a) - dcEdgeList.y(b);
+        if (diff == 0.0) {
+            return dcEdgeList.x(a) > dcEdgeList.x(b);
+        } else {
+            return !(diff < 0.0);
+        }
+    }
+
+    private static TurnDirection orientation(IndexedDoublyConnectedEdgeList dcEdgeList, int a, int b, int c) {
+        return TurnDirection.orientation(dcEdgeList.x(a), dcEdgeList.y(a), dcEdgeList.x(b), dcEdgeList.y(b), dcEdgeList.x(c), dcEdgeList.y(c));
+    }
+
+    private static VertexType getType(IndexedDoublyConnectedEdgeList dcEdgeList, int vertex) {
+        final var next = dcEdgeList.leavingEdge(vertex);
+        final var prev = twin(dcEdgeList.next(twin(next)));
+
+        final var a = dcEdgeList.origin(prev);
+        final var c = dcEdgeList.destination(next);
+        final var cIsBelow = isBelow(dcEdgeList, c, vertex);
+        final var aIsBelow = isBelow(dcEdgeList, a, vertex);
+
+        final var turn = orientation(dcEdgeList, a, vertex, c);
+        if (!cIsBelow && !aIsBelow) {
+            //inside is up
+            return turn == LEFT ? VertexType.END : VertexType.MERGE;
+        } else if (cIsBelow && aIsBelow) {
+            //inside is up
+            return turn == LEFT ? VertexType.START : VertexType.SPLIT;
+        }
+        return VertexType.REGULAR;
+    }
+
+    /**
+     * Same order as the half edge comparator of {@link TriangleDecomposition}, reading the coordinates from the arrays
+     */
+    private record HalfEdgeComparator(IndexedDoublyConnectedEdgeList dcEdgeList) implements Comparator<Integer> {
+        @Override
+        public int compare(Integer edge1, Integer edge2) {
+            // we assume here to only deal with simple polygons, so never crossings.
+            if (edge1.equals(edge2)) return 0;
+
+            final var c = dcEdgeList.destination(edge1);
+            final var e = dcEdgeList.destination(edge2);
+            final var d = dcEdgeList.origin(edge1);
+            final var f = dcEdgeList.origin(edge2);
+            final float cx = dcEdgeList.x(c), cy = dcEdgeList.y(c);
+            final float dx = dcEdgeList.x(d), dy = dcEdgeList.y(d);
+            final float ex = dcEdgeList.x(e), ey = dcEdgeList.y(e);
+            final float fx = dcEdgeList.x(f), fy = dcEdgeList.y(f);
+
+            //checks to avoid singularities like perpendicular lines
+            if (Math.max(cx, dx) <= Math.min(ex, fx))
+                return -1;
+            if (Math.min(cx, dx) >= Math.max(ex, fx))
+                return 1;
+
+            final var max = Math.max(Math.max(cy, dy), Math.max(ey, fy));
+            final var min = Math.min(Math.min(cy, dy), Math.min(ey, fy));
+
+            //get line between the two central values
+            final var cutLineY = (cy + dy + ey + fy - max - min) / 2;
+            final var ax = Math.min(Math.min(cx, dx), Math.min(ex, fx)) - 10;
+
+            final var leftefc = TurnDirection.orientation(ex, ey, fx, fy, cx, cy);
+            final var leftefa = TurnDirection.orientation(ex, ey, fx, fy, ax, cutLineY);
+            final var leftefd = TurnDirection.orientation(ex, ey, fx, fy, dx, dy);
+
+            if ((leftefc == STRAIGHT || leftefc == leftefa) &&
+                    (leftefd == STRAIGHT || leftefd == leftefa))
+                return -1;
+
+            final var leftcde = TurnDirection.orientation(cx, cy, dx, dy, ex, ey);
+            final var leftcda = TurnDirection.orientation(cx, cy, dx, dy, ax, cutLineY);
+            final var leftcdf = TurnDirection.orientation(cx, cy, dx, dy, fx, fy);
+
+            if (leftcde != leftcda && leftcdf != leftcda) {
+                return -1;
+            } else {
+                return 1;
+            }
+        }
+    }
+}
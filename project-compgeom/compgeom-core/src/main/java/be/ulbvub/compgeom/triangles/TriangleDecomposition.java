@@ -2,11 +2,9 @@ package be.ulbvub.compgeom.triangles;
 
 import be.ulbvub.compgeom.Polygon;
 import be.ulbvub.compgeom.utils.*;
-import processing.core.PVector;
 
 import java.util.*;
 
-import static be.ulbvub.compgeom.utils.DoublyConnectedEdgeList.getPrevEdgeOfFace;
 import static be.ulbvub.compgeom.utils.TurnDirection.*;
 
 public class TriangleDecomposition {
@@ -21,8 +19,8 @@ public class TriangleDecomposition {
     }
 
     private static boolean canSee(int vertexBottom, int vertexInter, int vertexTop, ArrayList<DCVertex> points, int topIdx, int bottomIdx) {
-        PVector bottomVec = points.get(vertexBottom).getPoint();
-        PVector topVec = points.get(vertexTop).getPoint();
+        Point bottomVec = points.get(vertexBottom).getPoint();
+        Point topVec = points.get(vertexTop).getPoint();
         TurnDirection orientation = orientation(bottomVec, points.get(vertexInter).getPoint(), topVec);
         return (orientation == STRAIGHT) || ((orientation == RIGHT) == sideOf(vertexBottom, topIdx, bottomIdx));
     }
@@ -40,7 +38,7 @@ public class TriangleDecomposition {
      * Returns true if point a is below point b.
      * If the point a.y and b.y are equals compare their x value
      */
-    public static boolean isBelow(PVector a, PVector b) {
+    public static boolean isBelow(Point a, Point b) {
         double diff = a.y - b.y;
         if (diff == 0.0) {
             return a.x > b.x;
@@ -54,16 +52,16 @@ public class TriangleDecomposition {
         DCHalfEdge prev = vertex.getLeavingEdge().getTwin().getNext().getTwin();
         DCHalfEdge next = vertex.getLeavingEdge();
 
-        PVector a = prev.getOrigin().getPoint();
-        PVector b = vertex.getPoint();
-        PVector c = next.getDestination().getPoint();
+        Point a = prev.getOrigin().getPoint();
+        Point b = vertex.getPoint();
+        Point c = next.getDestination().getPoint();
         boolean cIsBelow = isBelow(c, b);
         boolean aIsBelow = isBelow(a, b);
 
         TurnDirection turn = orientation(a,b,c);
         HalfEdgeComparator comparator = new HalfEdgeComparator();
-        System.out.println("Cross: " + orientation(a,b,c));
-        System.out.println("Comparator: " + comparator.compare(prev, next));
+        if (Trace.ENABLED) Trace.log("Cross: " + orientation(a,b,c));
+        if (Trace.ENABLED) Trace.log("Comparator: " + comparator.compare(prev, next));
         if (!cIsBelow && !aIsBelow) {
             if (turn == TurnDirection.LEFT) {
                 //inside is up
@@ -89,15 +87,19 @@ public class TriangleDecomposition {
 
     public static DoublyConnectedEdgeList decompose(Polygon p, boolean greedy){
         //first split into y-monotone polygons
+        final var splitStart = System.nanoTime();
         DoublyConnectedEdgeList dcEdgeList = splitMonotone(p, greedy);
+        DecompositionStats.addPhaseTime("monotone split", System.nanoTime() - splitStart);
         if(greedy && !dcEdgeList.hasReflex()){
             return dcEdgeList;
         }
-        System.out.println("Number of monotone polygons:" + dcEdgeList.getFaces().size());
+        if (Trace.ENABLED) Trace.log("Number of monotone polygons:" + dcEdgeList.getFaces().size());
         for(DCFace face : (ArrayList<DCFace>) dcEdgeList.getFaces().clone()){//copy list because triangulation modify it
+            final var faceStart = System.nanoTime();
             triangulateYMonotonePolygon(dcEdgeList, face, greedy);
+            DecompositionStats.addPhaseTime("face triangulation", System.nanoTime() - faceStart);
             if(greedy && !dcEdgeList.hasReflex()){
-                System.out.println("Break because no more reflex");
+                if (Trace.ENABLED) Trace.log("Break because no more reflex");
                 break;
             }
         }
@@ -109,15 +111,15 @@ public class TriangleDecomposition {
     }
     public static DoublyConnectedEdgeList splitMonotone(Polygon p, boolean greedy) {
 
-        System.out.println("Split monotone:");
+        if (Trace.ENABLED) Trace.log("Split monotone:");
 
         //System.out.println("Points:" + points);
         DoublyConnectedEdgeList dcEdgeList = new DoublyConnectedEdgeList(p.points());
 
         ArrayList<DCVertex> vertices = (ArrayList<DCVertex>) dcEdgeList.getVertices().clone();
         vertices.sort((left, right) -> {
-            PVector lhs = left.getPoint();
-            PVector rhs = right.getPoint();
+            Point lhs = left.getPoint();
+            Point rhs = right.getPoint();
 
             if (lhs.y > rhs.y || (lhs.y == rhs.y && lhs.x > rhs.x)) {
                 return 1;
@@ -133,20 +135,22 @@ public class TriangleDecomposition {
             types.put(vertex, getType(vertex));
         }
 
+        // Without early exit, the diagonals all split the polygon itself, so they can be inserted at once at the end
+        final var diagonals = greedy ? null : new ArrayList<DoublyConnectedEdgeList.Diagonal>();
         TreeSet<DCHalfEdge> edgeTree = new TreeSet<>(new HalfEdgeComparator());
         TreeMap<DCHalfEdge, VertexAndType> helperMap = new TreeMap<>(new HalfEdgeComparator());
 
         for (DCVertex vertex : vertices) {
             VertexType type = types.get(vertex);
-            System.out.println("Type: " + type.toString() + " point:" + vertex.getPoint());
-            DCHalfEdge prevEdge = getPrevEdgeOfFace(vertex, vertex.getLeavingEdge().getFace());
+            if (Trace.ENABLED) Trace.log("Type: " + type.toString() + " point:" + vertex.getPoint());
+            DCHalfEdge prevEdge = vertex.getLeavingEdge().getPrev();
             DCHalfEdge nextEdge = vertex.getLeavingEdge();
             switch (type) {
                 case START: {
                     edgeTree.add(nextEdge);
                     helperMap.put(nextEdge, new VertexAndType(vertex, type));
 
-                    System.out.println(prevEdge + " " + nextEdge);
+                    if (Trace.ENABLED) Trace.log(prevEdge + " " + nextEdge);
                     break;
                 }
                 case SPLIT: {
@@ -154,7 +158,7 @@ public class TriangleDecomposition {
                     //get left edge and connect "vertex" to his helper
                     DCHalfEdge leftOfVertex = edgeTree.floor(nextEdge);
                     if (leftOfVertex == null) throw new IllegalArgumentException("It must be a simple polygon");
-                    if(dcEdgeList.addEdge(vertex, helperMap.get(leftOfVertex).getVertex()) && greedy) return dcEdgeList;
+                    if(splitEdge(dcEdgeList, diagonals, vertex, helperMap.get(leftOfVertex).getVertex(), leftOfVertex.getFace())) return dcEdgeList;
 
                     //update the helper for left edge
                     helperMap.put(leftOfVertex, new VertexAndType(vertex, type));
@@ -163,13 +167,13 @@ public class TriangleDecomposition {
                     edgeTree.add(nextEdge);
                     helperMap.put(nextEdge, new VertexAndType(vertex, type));
 
-                    System.out.println(prevEdge + " " + nextEdge + " " + leftOfVertex);
+                    if (Trace.ENABLED) Trace.log(prevEdge + " " + nextEdge + " " + leftOfVertex);
                     break;
                 }
                 case MERGE: {
                     if (helperMap.get(prevEdge).getType() == VertexType.MERGE) {
 
-                        if(dcEdgeList.addEdge(vertex, helperMap.get(prevEdge).getVertex()) && greedy) return dcEdgeList;
+                        if(splitEdge(dcEdgeList, diagonals, vertex, helperMap.get(prevEdge).getVertex(), prevEdge.getFace())) return dcEdgeList;
                     }
                     edgeTree.remove(prevEdge);
                     helperMap.remove(prevEdge);
@@ -180,22 +184,22 @@ public class TriangleDecomposition {
                     if (leftOfVertex == null) throw new IllegalArgumentException("It must be a simple polygon");
 
                     if (helperMap.get(leftOfVertex).getType() == VertexType.MERGE) {
-                        if(dcEdgeList.addEdge(vertex, helperMap.get(leftOfVertex).getVertex()) && greedy) return dcEdgeList;
+                        if(splitEdge(dcEdgeList, diagonals, vertex, helperMap.get(leftOfVertex).getVertex(), leftOfVertex.getFace())) return dcEdgeList;
                     }
                     helperMap.put(leftOfVertex, new VertexAndType(vertex, type));
 
 
-                    System.out.println(leftOfVertex);
+                    if (Trace.ENABLED) Trace.log(String.valueOf(leftOfVertex));
                     break;
                 }
                 case END: {
 
-                    System.out.println(prevEdge);
+                    if (Trace.ENABLED) Trace.log(String.valueOf(prevEdge));
                     //remove old edge
                     VertexAndType helper = helperMap.get(prevEdge);
                     //System.out.println("Helper type:" + helper.getType().toString());
                     if (helper.getType() == VertexType.MERGE) {
-                        if(dcEdgeList.addEdge(vertex, helper.getVertex()) && greedy) return dcEdgeList;
+                        if(splitEdge(dcEdgeList, diagonals, vertex, helper.getVertex(), prevEdge.getFace())) return dcEdgeList;
                     }
                     helperMap.remove(prevEdge);
                     edgeTree.remove(prevEdge);
@@ -210,7 +214,7 @@ public class TriangleDecomposition {
                     if (helper != null) {//edge on left side
                         //check for merge and remove old edge
                         if (helper.getType() == VertexType.MERGE) {
-                            if(dcEdgeList.addEdge(vertex, helper.getVertex()) && greedy) return dcEdgeList;
+                            if(splitEdge(dcEdgeList, diagonals, vertex, helper.getVertex(), prevEdge.getFace())) return dcEdgeList;
                         }
                         helperMap.remove(prevEdge);
                         edgeTree.remove(prevEdge);
@@ -224,7 +228,7 @@ public class TriangleDecomposition {
                         if (leftOfVertex == null) throw new IllegalArgumentException("It must be a simple polygon");
                         helper = helperMap.get(leftOfVertex);
                         if (helper.getType() == VertexType.MERGE) {
-                            if(dcEdgeList.addEdge(vertex, helper.getVertex()) && greedy) return dcEdgeList;
+                            if(splitEdge(dcEdgeList, diagonals, vertex, helper.getVertex(), leftOfVertex.getFace())) return dcEdgeList;
                         }
                         helperMap.put(leftOfVertex, new VertexAndType(vertex, type));
                     }
@@ -235,10 +239,25 @@ public class TriangleDecomposition {
             }
         }
 
-
+        if (diagonals != null)
+            dcEdgeList.addEdges(diagonals);
         return dcEdgeList;
     }
 
+    /**
+     * Insert the diagonal of the monotone split right away in greedy mode, or keep it for later otherwise
+     *
+     * @return True if the greedy decomposition can stop as no reflex vertex is left
+     */
+    private static boolean splitEdge(DoublyConnectedEdgeList dcEdgeList, ArrayList<DoublyConnectedEdgeList.Diagonal> diagonals, DCVertex vertex, DCVertex helper, DCFace face) {
+        if (diagonals == null) {
+            return dcEdgeList.addEdge(vertex, helper, face);
+        }
+
+        diagonals.add(new DoublyConnectedEdgeList.Diagonal(vertex, helper, face));
+        return false;
+    }
+
 
 
 
@@ -275,6 +294,8 @@ public class TriangleDecomposition {
 
         ArrayList<Integer> order = new ArrayList<>();
         int n = points.size();
+        // Without early exit, all the diagonals are known before inserting them so they can be inserted at once
+        final var diagonals = greedy ? null : new ArrayList<DoublyConnectedEdgeList.Diagonal>();
 
         int currLeft = topVertexIdx;
         int currRight = (topVertexIdx + (n - 1)) % n;// idx - 1 (mod) n;
@@ -293,22 +314,22 @@ public class TriangleDecomposition {
         }
         order.add(currLeft);
         int bottomVertexIdx = currLeft;
-        System.out.println("Order: " + order);
+        if (Trace.ENABLED) Trace.log("Order: " + order);
 
         Stack<Integer> stack = new Stack<>();
         stack.push(order.get(0));
         stack.push(order.get(1));
 
         for (int j = 2; j < n - 1; j++) {
-            System.out.println("Stack: " + stack);
+            if (Trace.ENABLED) Trace.log("Stack: " + stack);
             int uj = order.get(j);
             if (sideOf(uj, topVertexIdx, bottomVertexIdx) != sideOf(stack.peek(), topVertexIdx, bottomVertexIdx)) {
-                System.out.println("Different side");
+                if (Trace.ENABLED) Trace.log("Different side");
                 while (!stack.empty()) {
                     int v = stack.pop();
                     if (!stack.empty()) {
-                        if(dcEdgeList.addEdge(points.get(uj), points.get(v)) && greedy) return;
-                        System.out.println("Add edge");
+                        if(addEdge(dcEdgeList, diagonals, face, points.get(uj), points.get(v))) return;
+                        if (Trace.ENABLED) Trace.log("Add edge");
                     }
                 }
                 stack.push(order.get(j - 1));
@@ -317,8 +338,8 @@ public class TriangleDecomposition {
                 int v = stack.pop();
                 while (!stack.empty() && canSee(uj, v, stack.peek(), points, topVertexIdx, bottomVertexIdx)) {
                     v = stack.pop();
-                    if(dcEdgeList.addEdge(points.get(uj), points.get(v)) && greedy) return;
-                    System.out.println("Add edge");
+                    if(addEdge(dcEdgeList, diagonals, face, points.get(uj), points.get(v))) return;
+                    if (Trace.ENABLED) Trace.log("Add edge");
                 }
                 stack.push(v);
                 stack.push(uj);
@@ -328,11 +349,32 @@ public class TriangleDecomposition {
         //draw edge from last vertex to every vertex remaining except his neighbours (top and bottom of stack):
 
         int un = order.get(n-1);
-        System.out.println("Stack: " + stack + " un:"+ un);
+        if (Trace.ENABLED) Trace.log("Stack: " + stack + " un:"+ un);
         stack.pop();
         while(stack.size() > 1){
-            if(dcEdgeList.addEdge(points.get(un), points.get(stack.pop())) && greedy) return;
+            if(addEdge(dcEdgeList, diagonals, face, points.get(un), points.get(stack.pop()))) return;
         }
+
+        if (diagonals != null)
+            dcEdgeList.addEdges(diagonals);
+    }
+
+    /**
+     * Insert the diagonal right away in greedy mode, or keep it for later otherwise. The face being triangulated is
+     * passed as a hint, it stays right for the diagonals on the side of the face that keeps its label.
+     *
+     * @return True if the greedy decomposition can stop as no reflex vertex is left
+     */
+    private static boolean addEdge(DoublyConnectedEdgeList dcEdgeList, ArrayList<DoublyConnectedEdgeList.Diagonal> diagonals, DCFace face, DCVertex from, DCVertex to) {
+        if (diagonals == null) {
+            // The face keeps its label on one side of each split, a vertex that left it is usually in the newest face
+            final var faces = dcEdgeList.getFaces();
+            final var hint = DoublyConnectedEdgeList.getPrevEdgeOfFace(from, face).getFace() == face ? face : faces.get(faces.size() - 1);
+            return dcEdgeList.addEdge(from, to, hint);
+        }
+
+        diagonals.add(new DoublyConnectedEdgeList.Diagonal(from, to, face));
+        return false;
     }
 
 
@@ -362,11 +404,11 @@ public class TriangleDecomposition {
 
             if(edge1.equals(edge2))return 0;
 
-            PVector c = edge1.getDestination().getPoint();
-            PVector e = edge2.getDestination().getPoint();
+            Point c = edge1.getDestination().getPoint();
+            Point e = edge2.getDestination().getPoint();
 
-            PVector d = edge1.getOrigin().getPoint();
-            PVector f = edge2.getOrigin().getPoint();
+            Point d = edge1.getOrigin().getPoint();
+            Point f = edge2.getOrigin().getPoint();
 
             //checks to avoid singularities like perpendicular lines
             if(Math.max(c.x, d.x) <= Math.min(e.x, f.x))
@@ -396,7 +438,7 @@ public class TriangleDecomposition {
             //get line between the two central values
             float cutLineY = (c.y + d.y + e.y + f.y - max - min)/2;
             float minX = Collections.min(xValues);
-            PVector a = new PVector(minX-10, cutLineY);
+            Point a = new Point(minX-10, cutLineY);
 
             TurnDirection leftefc = orientation(e,f,c);
             TurnDirection leftefa = orientation(e,f,a);
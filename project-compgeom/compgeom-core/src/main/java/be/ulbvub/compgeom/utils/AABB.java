@@ -0,0 +1,4 @@
+package be.ulbvub.compgeom.utils;
+
+public record AABB(Point min, Point max) {
+}
@@ -0,0 +1,31 @@
+package be.ulbvub.compgeom.utils;
+
+import be.ulbvub.compgeom.Polygon;
+
+import java.util.List;
+
+public interface CalculationResult {
+
+    int getFaceCount();
+    int getVertexCount();
+    int getHalfEdgeCount();
+
+    /**
+     * @return Every face of the result as a separate polygon
+     */
+    List<Polygon> getFacePolygons();
+
+    /**
+     * @return Timings and operation counts of the computation that produced this result,
+     * {@link DecompositionStats#EMPTY} if it was not measured
+     */
+    DecompositionStats getStats();
+
+    /**
+     * Attach the stats of the computation that produced this result. The lists being built attach them to themselves,
+     * immutable results return a copy that holds them.
+     *
+     * @return The result with the given stats, of the same class as this one
+     */
+    CalculationResult withStats(DecompositionStats stats);
+}
@@ -11,6 +11,7 @@ public class DCFace {
         private final DCFace face;
 
         public ForwardEdgeIterator(DCFace face) {
+            if (DecompositionStats.COUNTING) DecompositionStats.count(DecompositionStats.Counter.FaceWalks);
             this.face = face;
             this.current = face.getRefEdge();
         }
@@ -37,6 +38,7 @@ public class DCFace {
         private final DCFace face;
 
         public BackwardEdgeIterator(DCFace face) {
+            if (DecompositionStats.COUNTING) DecompositionStats.count(DecompositionStats.Counter.FaceWalks);
             this.face = face;
             this.current = face.getRefEdge();
         }
@@ -98,6 +100,9 @@ public class DCFace {
 
     DCHalfEdge refEdge;
 
+    // Position of the face in the list of its DCEL, -1 while it is not part of one
+    private int id = -1;
+
     public DCFace() {
     }
 
@@ -105,6 +110,14 @@ public class DCFace {
         this.refEdge = refEdge;
     }
 
+    /**
+     * Make this a new face without edges, for {@link EdgeListArena}
+     */
+    void reset() {
+        this.refEdge = null;
+        this.id = -1;
+    }
+
     public DCHalfEdge getRefEdge() {
         return refEdge;
     }
@@ -113,8 +126,17 @@ public class DCFace {
         this.refEdge = refEdge;
     }
 
+    public int getId() {
+        return id;
+    }
+
+    void setId(int id) {
+        this.id = id;
+    }
+
     int edgeLength() {
         if (this.refEdge == null) return 0;
+        if (DecompositionStats.COUNTING) DecompositionStats.count(DecompositionStats.Counter.FaceWalks);
         DCHalfEdge currEdge = this.refEdge;
         int len = 1;
         while (currEdge.getNext() != this.refEdge) {
@@ -130,7 +152,10 @@ public class DCFace {
         for (var iter = iterateForwardEdges(); iter.hasNext(); ) {
             final var next = iter.next();
 
-            if (next.getOrigin().getPoint().x < min.getOrigin().getPoint().x) {
+            final var point = next.getOrigin().getPoint();
+            final var minPoint = min.getOrigin().getPoint();
+            // Among vertices with the same x, the lowest one is a strict turn, the others may be on a straight line
+            if (point.x < minPoint.x || (point.x == minPoint.x && point.y < minPoint.y)) {
                 min = next;
             }
         }
@@ -221,7 +246,7 @@ public class DCFace {
             final var next = currWindow.get(2);
 
             // Add some margin, as otherwise some false negatives
-            if (TurnDirection.orientationRaw(prev.getOrigin(), curr.getOrigin(), next.getOrigin()) > 0.005) {
+            if (TurnDirection.orientationRaw(prev, curr, next) > 0.005) {
                 return false;
             }
         }
@@ -4,6 +4,8 @@ public class DCHalfEdge {
 
     private DCHalfEdge twin;
     private DCHalfEdge next;
+    // Kept up to date by setNext, so walking a face backwards does not need to rotate around the vertices
+    private DCHalfEdge prev;
     private DCVertex origin;
     private DCFace face;
 
@@ -15,6 +17,17 @@ public class DCHalfEdge {
     }
 
 
+    /**
+     * Make this a new half edge without links, for {@link EdgeListArena}
+     */
+    void reset(DCVertex origin) {
+        this.twin = null;
+        this.next = null;
+        this.prev = null;
+        this.origin = origin;
+        this.face = null;
+    }
+
     public DCVertex getDestination() {
         return this.next.origin;
     }
@@ -32,11 +45,16 @@ public class DCHalfEdge {
     }
 
     public DCHalfEdge getPrev() {
-        return DoublyConnectedEdgeList.getPrevEdgeOfFace(origin, face);
+        return prev;
     }
 
+    /**
+     * Set the next half edge, and this half edge as the previous one of the next
+     */
     public void setNext(DCHalfEdge next) {
         this.next = next;
+        if (next != null)
+            next.prev = this;
     }
 
     public DCVertex getOrigin() {
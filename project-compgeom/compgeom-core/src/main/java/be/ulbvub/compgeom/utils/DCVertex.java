@@ -1,7 +1,5 @@
 package be.ulbvub.compgeom.utils;
 
-import processing.core.PVector;
-
 import java.util.Iterator;
 
 public class DCVertex {
@@ -44,18 +42,42 @@ public class DCVertex {
     }
 
 
-    private final PVector point;
+    // Not final, so an EdgeListArena can reuse the vertex
+    private Point point;
 
     private DCHalfEdge leavingEdge = null;
 
-    public DCVertex(PVector point) {
+    private boolean reflex = false;
+
+    // Position of the vertex in the list of its DCEL, -1 while it is not part of one
+    private int id = -1;
+
+    public DCVertex(Point point) {
         this.point = point;
     }
 
-    public PVector getPoint() {
+    /**
+     * Make this a new vertex at the given point, for {@link EdgeListArena}
+     */
+    void reset(Point point) {
+        this.point = point;
+        this.leavingEdge = null;
+        this.reflex = false;
+        this.id = -1;
+    }
+
+    public Point getPoint() {
         return point;
     }
 
+    public int getId() {
+        return id;
+    }
+
+    void setId(int id) {
+        this.id = id;
+    }
+
     public DCHalfEdge getLeavingEdge() {
         return leavingEdge;
     }
@@ -84,6 +106,18 @@ public class DCVertex {
         this.leavingEdge = leavingEdge;
     }
 
+    /**
+     * @return If one of the angles at this vertex is still reflex. Only the vertices of the input polygon are tracked,
+     * the ones inserted on an edge are never reflex
+     */
+    public boolean isReflex() {
+        return reflex;
+    }
+
+    void setReflex(boolean reflex) {
+        this.reflex = reflex;
+    }
+
     public Iterator<DCHalfEdge> iterateOutgoingEdges() {
         return new EdgesIterator(this);
     }
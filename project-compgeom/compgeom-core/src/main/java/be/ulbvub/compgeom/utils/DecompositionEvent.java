@@ -0,0 +1,32 @@
+package be.ulbvub.compgeom.utils;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event spanning a complete decomposition, see {@link DecompositionStats#measure}
+ */
+@Name("be.ulbvub.compgeom.Decomposition")
+@Label("Decomposition")
+@Category({"Computational Geometry", "Decomposition"})
+@Description("A complete run of a decomposition algorithm")
+@StackTrace(false)
+class DecompositionEvent extends jdk.jfr.Event {
+    @Label("Engine")
+    String engine;
+
+    @Label("Polygon Size")
+    @Description("Amount of vertices in the input polygon")
+    int polygonSize;
+
+    @Label("Reflex Count")
+    @Description("Amount of reflex vertices in the input polygon")
+    int reflexCount;
+
+    @Label("Face Count")
+    @Description("Amount of faces in the decomposition")
+    int faceCount;
+}
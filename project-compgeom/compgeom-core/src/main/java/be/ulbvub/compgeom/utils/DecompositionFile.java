@@ -0,0 +1,289 @@
+package be.ulbvub.compgeom.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.IdentityHashMap;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Binary file format for decompositions, made to be mapped in memory and read without parsing.
+ * <p>
+ * Every value takes 4 bytes, little endian, so all sections stay aligned:
+ * <pre>
+ * header       magic "CGDC", version, kind, vertex count, half edge count, face count, face vertex count
+ * vertices     x, y, leaving half edge, flags per vertex                (edge lists only)
+ * half edges   origin, twin, next, face or -1 outside per half edge     (edge lists only)
+ * faces        reference half edge per face                             (edge lists only)
+ * face offsets face count + 1 offsets into the face vertices
+ * coordinates  x, y of the face vertices, one face after the other
+ * </pre>
+ * The last two sections are the layout of a {@link FrozenDecomposition}, so {@link #map(Path)} returns a snapshot
+ * that reads the mapped file directly: opening a file does not depend on its size, the pages are only loaded when
+ * the faces are read. Results that are not a {@link DoublyConnectedEdgeList}, like a
+ * {@link be.ulbvub.compgeom.decomposition.PolygonGroup}, are stored as faces only.
+ */
+public final class DecompositionFile {
+    public static final int VERSION = 1;
+
+    // "CGDC" once written in little endian
+    private static final int MAGIC = 0x43444743;
+    private static final int KIND_FACES = 0;
+    private static final int KIND_EDGE_LIST = 1;
+    private static final int FLAG_REFLEX = 1;
+
+    private static final int HEADER_BYTES = 7 * Integer.BYTES;
+    private static final int VERTEX_BYTES = 4 * Integer.BYTES;
+    private static final int HALF_EDGE_BYTES = 4 * Integer.BYTES;
+
+    private record Header(int kind, int vertexCount, int halfEdgeCount, int faceCount, int faceVertexCount) {
+        long verticesPosition() {
+            return HEADER_BYTES;
+        }
+
+        long halfEdgesPosition() {
+            return verticesPosition() + (kind == KIND_EDGE_LIST ? (long) VERTEX_BYTES * vertexCount : 0);
+        }
+
+        long facesPosition() {
+            return halfEdgesPosition() + (kind == KIND_EDGE_LIST ? (long) HALF_EDGE_BYTES * halfEdgeCount : 0);
+        }
+
+        long faceOffsetsPosition() {
+            return facesPosition() + (kind == KIND_EDGE_LIST ? (long) Integer.BYTES * faceCount : 0);
+        }
+
+        long coordinatesPosition() {
+            return faceOffsetsPosition() + (long) Integer.BYTES * (faceCount + 1);
+        }
+
+        long size() {
+            return coordinatesPosition() + 2L * Float.BYTES * faceVertexCount;
+        }
+    }
+
+    private DecompositionFile() {
+    }
+
+    /**
+     * Write a decomposition, replacing the file if it exists. The half edges are only kept for a
+     * {@link DoublyConnectedEdgeList}, the stats of the decomposition are not kept.
+     */
+    public static void write(CalculationResult result, Path path) throws IOException {
+        final var frozen = freeze(result);
+        final var edgeList = result instanceof DoublyConnectedEdgeList dcel ? dcel : null;
+        final var header = new Header(
+                edgeList != null ? KIND_EDGE_LIST : KIND_FACES,
+                result.getVertexCount(),
+                result.getHalfEdgeCount(),
+                frozen.getFaceCount(),
+                frozen.faceOffsets().get(frozen.getFaceCount()));
+        if (header.size() > Integer.MAX_VALUE) {
+            throw new IOException("Decomposition of " + header.size() + " bytes is too large to be mapped");
+        }
+
+        try (var channel = FileChannel.open(path, CREATE, TRUNCATE_EXISTING, READ, WRITE)) {
+            final var buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, header.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(header.kind())
+                    .putInt(header.vertexCount())
+                    .putInt(header.halfEdgeCount())
+                    .putInt(header.faceCount())
+                    .putInt(header.faceVertexCount());
+            if (edgeList != null) {
+                writeLinks(edgeList, buffer);
+            }
+            for (var i = 0; i <= header.faceCount(); i++) {
+                buffer.putInt(frozen.faceOffsets().get(i));
+            }
+            for (var i = 0; i < 2 * header.faceVertexCount(); i++) {
+                buffer.putFloat(frozen.coordinates().get(i));
+            }
+            buffer.force();
+        }
+    }
+
+    /**
+     * Map a file in memory as a read-only decomposition. Nothing is copied: the faces are read from the file as they
+     * are accessed, and the mapping stays valid until the snapshot is garbage collected.
+     *
+     * @return The snapshot of the faces, without stats
+     */
+    public static FrozenDecomposition map(Path path) throws IOException {
+        final var buffer = mapReadOnly(path);
+        final var header = readHeader(buffer, path);
+
+        final var faceOffsets = slice(buffer, header.faceOffsetsPosition(), Integer.BYTES * (header.faceCount() + 1)).asIntBuffer();
+        final var coordinates = slice(buffer, header.coordinatesPosition(), 2 * Float.BYTES * header.faceVertexCount()).asFloatBuffer();
+        if (faceOffsets.get(0) != 0 || faceOffsets.get(header.faceCount()) != header.faceVertexCount()) {
+            throw new IOException(path + " has face offsets that do not match its coordinates");
+        }
+        // With the first and last offsets checked, offsets that never decrease all point into the coordinates
+        for (var i = 0; i < header.faceCount(); i++) {
+            if (faceOffsets.get(i + 1) < faceOffsets.get(i)) {
+                throw new IOException(path + " has a decreasing face offset at face " + i);
+            }
+        }
+
+        return new FrozenDecomposition(coordinates, faceOffsets, header.vertexCount(), header.halfEdgeCount(), DecompositionStats.EMPTY);
+    }
+
+    /**
+     * Rebuild the edge list stored in a file, to modify it further. Unlike {@link #map(Path)}, this creates an object
+     * for every vertex, half edge and face.
+     *
+     * @throws IOException If the file only holds the faces of a decomposition
+     */
+    public static DoublyConnectedEdgeList readEdgeList(Path path) throws IOException {
+        final var buffer = mapReadOnly(path);
+        final var header = readHeader(buffer, path);
+        if (header.kind() != KIND_EDGE_LIST) {
+            throw new IOException(path + " only holds the faces of a decomposition, not its half edges");
+        }
+
+        final var dcel = new DoublyConnectedEdgeList();
+        var position = (int) header.verticesPosition();
+        for (var i = 0; i < header.vertexCount(); i++, position += VERTEX_BYTES) {
+            final var vertex = new DCVertex(new Point(buffer.getFloat(position), buffer.getFloat(position + 4)));
+            if ((buffer.getInt(position + 12) & FLAG_REFLEX) != 0) {
+                vertex.setReflex(true);
+                dcel.reflexCount++;
+            }
+            dcel.addToIndex(vertex);
+        }
+
+        position = (int) header.halfEdgesPosition();
+        for (var i = 0; i < header.halfEdgeCount(); i++, position += HALF_EDGE_BYTES) {
+            dcel.edges.add(new DCHalfEdge(dcel.vertices.get(link(buffer.getInt(position), header.vertexCount(), path))));
+        }
+
+        position = (int) header.facesPosition();
+        for (var i = 0; i < header.faceCount(); i++, position += Integer.BYTES) {
+            dcel.addToIndex(new DCFace(dcel.edges.get(link(buffer.getInt(position), header.halfEdgeCount(), path))));
+        }
+
+        position = (int) header.halfEdgesPosition();
+        for (var i = 0; i < header.halfEdgeCount(); i++, position += HALF_EDGE_BYTES) {
+            final var edge = dcel.edges.get(i);
+            final var twin = link(buffer.getInt(position + 4), header.halfEdgeCount(), path);
+            edge.setTwin(dcel.edges.get(twin));
+            // One entry per pair of twins, as when the list was built
+            if (i < twin) {
+                dcel.addToIndex(edge);
+            }
+            edge.setNext(dcel.edges.get(link(buffer.getInt(position + 8), header.halfEdgeCount(), path)));
+            final var face = buffer.getInt(position + 12);
+            edge.setFace(face == -1 ? null : dcel.faces.get(link(face, header.faceCount(), path)));
+        }
+
+        position = (int) header.verticesPosition();
+        for (var i = 0; i < header.vertexCount(); i++, position += VERTEX_BYTES) {
+            dcel.vertices.get(i).setLeavingEdge(dcel.edges.get(link(buffer.getInt(position + 8), header.halfEdgeCount(), path)));
+        }
+
+        return dcel;
+    }
+
+    private static FrozenDecomposition freeze(CalculationResult result) {
+        if (result instanceof FrozenDecomposition frozen) {
+            return frozen;
+        }
+        if (result instanceof DoublyConnectedEdgeList dcel) {
+            return dcel.freeze();
+        }
+
+        final var polygons = result.getFacePolygons();
+        final var faceOffsets = new int[polygons.size() + 1];
+        for (var face = 0; face < polygons.size(); face++) {
+            faceOffsets[face + 1] = faceOffsets[face] + polygons.get(face).points().size();
+        }
+        final var coordinates = new float[2 * faceOffsets[polygons.size()]];
+        var count = 0;
+        for (var polygon : polygons) {
+            for (var point : polygon.points()) {
+                coordinates[count++] = point.x;
+                coordinates[count++] = point.y;
+            }
+        }
+        return new FrozenDecomposition(coordinates, faceOffsets, result.getVertexCount(), result.getHalfEdgeCount(), result.getStats());
+    }
+
+    private static void writeLinks(DoublyConnectedEdgeList dcel, ByteBuffer buffer) {
+        // Half edges do not know their position in the list
+        final var edgeIds = new IdentityHashMap<DCHalfEdge, Integer>(2 * dcel.edges.size());
+        for (var i = 0; i < dcel.edges.size(); i++) {
+            edgeIds.put(dcel.edges.get(i), i);
+        }
+
+        for (var vertex : dcel.vertices) {
+            buffer.putFloat(vertex.getPoint().x)
+                    .putFloat(vertex.getPoint().y)
+                    .putInt(edgeIds.get(vertex.getLeavingEdge()))
+                    .putInt(vertex.isReflex() ? FLAG_REFLEX : 0);
+        }
+        for (var edge : dcel.edges) {
+            buffer.putInt(edge.getOrigin().getId())
+                    .putInt(edgeIds.get(edge.getTwin()))
+                    .putInt(edgeIds.get(edge.getNext()))
+                    .putInt(edge.getFace() == null ? -1 : edge.getFace().getId());
+        }
+        for (var face : dcel.faces) {
+            buffer.putInt(edgeIds.get(face.getRefEdge()));
+        }
+    }
+
+    private static MappedByteBuffer mapReadOnly(Path path) throws IOException {
+        // The mapping outlives the channel
+        try (var channel = FileChannel.open(path, READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(path + " is too large to be a decomposition file");
+            }
+            final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return buffer;
+        }
+    }
+
+    private static Header readHeader(ByteBuffer buffer, Path path) throws IOException {
+        if (buffer.limit() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IOException(path + " is not a decomposition file");
+        }
+        final var version = buffer.getInt(4);
+        if (version < 1 || version > VERSION) {
+            throw new IOException(path + " has version " + version + ", only versions up to " + VERSION + " can be read");
+        }
+
+        final var header = new Header(buffer.getInt(8), buffer.getInt(12), buffer.getInt(16), buffer.getInt(20), buffer.getInt(24));
+        if ((header.kind() != KIND_FACES && header.kind() != KIND_EDGE_LIST) || header.vertexCount() < 0
+                || header.halfEdgeCount() < 0 || header.faceCount() < 0 || header.faceVertexCount() < 0) {
+            throw new IOException(path + " has an invalid header");
+        }
+        if (header.size() != buffer.limit()) {
+            throw new IOException(path + " should hold " + header.size() + " bytes but holds " + buffer.limit());
+        }
+        return header;
+    }
+
+    /**
+     * Section of the file, in the byte order of the file
+     */
+    private static ByteBuffer slice(ByteBuffer buffer, long position, int length) {
+        return buffer.slice((int) position, length).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static int link(int index, int count, Path path) throws IOException {
+        if (index < 0 || index >= count) {
+            throw new IOException(path + " links to element " + index + " out of " + count);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,30 @@
+package be.ulbvub.compgeom.utils;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event for one phase of a decomposition, see {@link DecompositionStats#addPhaseTime}.
+ * Each phase is reported once, when the decomposition is over, so the event itself is instant and {@link #elapsed}
+ * holds the time spent in the phase over the whole run.
+ */
+@Name("be.ulbvub.compgeom.DecompositionPhase")
+@Label("Decomposition Phase")
+@Category({"Computational Geometry", "Decomposition"})
+@Description("Time spent in one phase of a decomposition algorithm")
+@StackTrace(false)
+class DecompositionPhaseEvent extends jdk.jfr.Event {
+    @Label("Engine")
+    String engine;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+}
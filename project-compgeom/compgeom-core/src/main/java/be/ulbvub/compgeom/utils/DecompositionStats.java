@@ -0,0 +1,197 @@
+package be.ulbvub.compgeom.utils;
+
+import be.ulbvub.compgeom.Polygon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Breakdown of where a decomposition spent its time, together with counts of its elementary operations.
+ * <p>
+ * Statistics are collected for the computation wrapped in {@link #measure(String, Polygon, Supplier)}. While it runs,
+ * the engines report their phases with {@link #addPhaseTime(String, long)} and the geometric primitives report their
+ * operations with {@link #count(Counter)}. Outside a measurement, both calls do nothing.
+ * <p>
+ * Counting is switched on with {@code -Dcompgeom.stats.count=true}, which the unit tests do. Call sites are expected
+ * to guard on {@link #COUNTING}, like for {@link Trace#ENABLED}, so the orientation test and the other primitives do
+ * not look up the running measurement when counting is off:
+ * <pre>{@code if (DecompositionStats.COUNTING) DecompositionStats.count(Counter.FaceWalks);}</pre>
+ */
+public final class DecompositionStats {
+
+    public enum Counter {
+        OrientationTests("orientation tests"),
+        AddEdge("addEdge calls"),
+        AddVertex("addVertex calls"),
+        FaceWalks("face walks"),
+        CommonFaceSearches("common face searches");
+
+        private final String name;
+
+        Counter(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    public static final boolean COUNTING = Boolean.getBoolean("compgeom.stats.count");
+
+    public static final DecompositionStats EMPTY = new DecompositionStats("none");
+
+    private static final ThreadLocal<DecompositionStats> ACTIVE = new ThreadLocal<>();
+
+    private final String engine;
+    // Phases in the order they were first seen, with their accumulated time, kept unboxed as engines report per step
+    private final ArrayList<String> phases = new ArrayList<>();
+    private long[] phaseNanos = new long[4];
+    private final long[] counters = new long[Counter.values().length];
+    private long totalNanos;
+
+    private DecompositionStats(String engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * Run a decomposition while collecting its statistics, which are attached to the result afterwards.
+     * The run is also reported to the flight recorder as a {@link DecompositionEvent}, and its result is checked by
+     * the {@link EdgeListValidator} when validation is on.
+     *
+     * @param engine        Name of the decomposition algorithm
+     * @param polygon       The polygon being decomposed
+     * @param decomposition The computation to measure
+     * @return The result of the computation with its statistics, a copy of it for immutable results
+     */
+    public static <T extends CalculationResult> T measure(String engine, Polygon polygon, Supplier<T> decomposition) {
+        final var stats = new DecompositionStats(engine);
+        final var outer = ACTIVE.get();
+        ACTIVE.set(stats);
+
+        final var event = new DecompositionEvent();
+        event.begin();
+        final var start = System.nanoTime();
+        final T result;
+        try {
+            result = decomposition.get();
+        } finally {
+            stats.totalNanos = System.nanoTime() - start;
+            if (outer == null) {
+                ACTIVE.remove();
+            } else {
+                ACTIVE.set(outer);
+            }
+        }
+        event.end();
+        stats.commitPhaseEvents();
+
+        if (event.shouldCommit()) {
+            event.engine = engine;
+            event.polygonSize = polygon.points().size();
+            event.reflexCount = polygon.countReflexVertices();
+            event.faceCount = result.getFaceCount();
+            event.commit();
+        }
+
+        // After the timings, so sampled runs do not report the cost of the checks
+        if (EdgeListValidator.ENABLED && result instanceof DoublyConnectedEdgeList dcel && EdgeListValidator.sample()) {
+            EdgeListValidator.validate(dcel);
+        }
+
+        // Every result returns its own class from withStats
+        @SuppressWarnings("unchecked")
+        final var measured = (T) result.withStats(stats);
+        return measured;
+    }
+
+    /**
+     * Add time to a phase of the running decomposition. Time reported multiple times for the same phase accumulates,
+     * and each phase is reported once to the flight recorder when the measurement ends.
+     *
+     * @param phase Name of the phase, phases are reported in the order they were first seen
+     * @param nanos Elapsed time in nanoseconds
+     */
+    public static void addPhaseTime(String phase, long nanos) {
+        final var stats = ACTIVE.get();
+        if (stats != null) {
+            var index = stats.phases.indexOf(phase);
+            if (index < 0) {
+                index = stats.phases.size();
+                stats.phases.add(phase);
+                if (index == stats.phaseNanos.length) {
+                    stats.phaseNanos = Arrays.copyOf(stats.phaseNanos, 2 * index);
+                }
+            }
+            stats.phaseNanos[index] += nanos;
+        }
+    }
+
+    private void commitPhaseEvents() {
+        for (var i = 0; i < phases.size(); i++) {
+            final var event = new DecompositionPhaseEvent();
+            if (!event.shouldCommit()) {
+                return;
+            }
+            event.engine = engine;
+            event.phase = phases.get(i);
+            event.elapsed = phaseNanos[i];
+            event.commit();
+        }
+    }
+
+    public static void count(Counter counter) {
+        final var stats = ACTIVE.get();
+        if (stats != null) {
+            stats.counters[counter.ordinal()]++;
+        }
+    }
+
+    public Map<String, Long> getPhaseNanos() {
+        final var result = new LinkedHashMap<String, Long>();
+        for (var i = 0; i < phases.size(); i++) {
+            result.put(phases.get(i), phaseNanos[i]);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    public long getCount(Counter counter) {
+        return counters[counter.ordinal()];
+    }
+
+    public Map<Counter, Long> getCounts() {
+        final var result = new EnumMap<Counter, Long>(Counter.class);
+        for (var counter : Counter.values()) {
+            result.put(counter, getCount(counter));
+        }
+        return result;
+    }
+
+    public String getEngine() {
+        return engine;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    @Override
+    public String toString() {
+        final var result = new StringBuilder("DecompositionStats[engine=").append(engine).append(", total=")
+                .append(totalNanos / 1_000).append("us");
+        for (var i = 0; i < phases.size(); i++) {
+            result.append(", ").append(phases.get(i)).append('=').append(phaseNanos[i] / 1_000).append("us");
+        }
+        for (var counter : Counter.values()) {
+            result.append(", ").append(counter).append('=').append(getCount(counter));
+        }
+
+        return result.append(']').toString();
+    }
+}
@@ -0,0 +1,894 @@
+package be.ulbvub.compgeom.utils;
+
+import be.ulbvub.compgeom.Polygon;
+import be.ulbvub.compgeom.triangles.TriangleDecomposition;
+
+import java.util.*;
+
+public class DoublyConnectedEdgeList implements CalculationResult {
+
+    final ArrayList<DCHalfEdge> edges;
+    final ArrayList<DCVertex> vertices;
+    final ArrayList<DCFace> faces;
+
+
+    // Reflex vertices are flagged on the vertex itself, so checking and clearing them is constant time
+    int reflexCount = 0;
+
+    // Half edges by the unordered pair of ids of their vertices, and vertices by position, to resolve segments in O(1)
+    final HashMap<Long, DCHalfEdge> edgeIndex;
+    final HashMap<Point, DCVertex> vertexIndex;
+
+    // Dual graph: for every face, by id, the number of edges it shares with each neighbouring face.
+    // The counts are mutable arrays of one element, so updating them does not box.
+    // Null until the first query, so the engines that never ask for it do not pay for its updates
+    ArrayList<HashMap<DCFace, int[]>> sharedEdges = null;
+
+    // Position of every vertex, by id, along the last face split by addEdges. Only read for the vertices of that face
+    private int[] facePositions = new int[0];
+
+    private DecompositionStats stats = DecompositionStats.EMPTY;
+
+    // Where the vertices, half edges and faces come from, null to allocate them
+    private final EdgeListArena arena;
+    // Run of the arena this list was built in
+    private final int generation;
+
+    public DoublyConnectedEdgeList(Polygon polygon) {
+        this(polygon.points());
+    }
+
+    /**
+     * Empty list, for {@link DecompositionFile} to fill with the vertices, half edges and faces it reads
+     */
+    DoublyConnectedEdgeList() {
+        this((EdgeListArena) null);
+    }
+
+    private DoublyConnectedEdgeList(EdgeListArena arena) {
+        this.arena = arena;
+        this.generation = arena == null ? 0 : arena.generation();
+        if (arena != null && arena.lendContainers()) {
+            edges = arena.edges;
+            vertices = arena.vertices;
+            faces = arena.faces;
+            edgeIndex = arena.edgeIndex;
+            vertexIndex = arena.vertexIndex;
+        } else {
+            edges = new ArrayList<>();
+            vertices = new ArrayList<>();
+            faces = new ArrayList<>();
+            edgeIndex = new HashMap<>();
+            vertexIndex = new HashMap<>();
+        }
+    }
+
+
+
+    //take as argument a list of connected points
+    public DoublyConnectedEdgeList(ArrayList<Point> points) {
+        this(EdgeListArena.current());
+
+        Polygon p = new Polygon(points);
+        //get points in counter-clockwise order
+        Iterator<Point> iter = p.ccwIterator();
+        ArrayList<Point> ccwPoints = new ArrayList<>();
+        assert iter != null;
+        while (iter.hasNext()) {
+            ccwPoints.add(iter.next());
+        }
+
+        if (!ccwPoints.isEmpty()) {
+            DCFace face = newFace();
+            addToIndex(face);
+            DCHalfEdge prevEdge = null;
+            DCHalfEdge prevTwin = null;
+
+            for (Point point : ccwPoints) {
+                DCVertex currVertex = newVertex(point);
+                addToIndex(currVertex);
+
+                DCHalfEdge currEdge = newHalfEdge(currVertex);
+                DCHalfEdge currTwin = newHalfEdge(null);
+                edges.add(currEdge);
+                edges.add(currTwin);
+
+                currEdge.setFace(face);
+                //no face for twin ("outside" face)
+                currEdge.setTwin(currTwin);
+                currTwin.setTwin(currEdge);
+                currTwin.setNext(prevTwin);
+                currVertex.setLeavingEdge(currEdge);
+
+                if (prevEdge != null)
+                    prevEdge.setNext(currEdge);
+
+                if (prevTwin != null)
+                    prevTwin.setOrigin(currVertex);
+
+                prevEdge = currEdge;
+                prevTwin = currTwin;
+
+
+            }
+            prevTwin.setOrigin(vertices.get(0));
+
+            DCHalfEdge firstEdge = edges.get(0);
+            prevEdge.setNext(firstEdge);
+            DCHalfEdge firstTwin = firstEdge.getTwin();
+            firstTwin.setNext(prevTwin);
+
+            face.setRefEdge(firstEdge);
+
+            for (var i = 0; i < edges.size(); i += 2) {
+                addToIndex(edges.get(i));
+            }
+        }
+
+        for(DCVertex vertex : vertices){
+            Point prev = vertex.getLeavingEdge().getTwin().getNext().getDestination().getPoint();
+            Point next = vertex.getLeavingEdge().getDestination().getPoint();
+            TurnDirection dir = TurnDirection.orientation(prev, vertex.getPoint(), next);
+            if(dir != TurnDirection.LEFT){//reflex angle
+                vertex.setReflex(true);
+                reflexCount++;
+            }
+        }
+
+
+    }
+
+    /*
+      How it works :
+      Try on incoming edge, if it is not on the correct face, try another one (rotate on edges)
+       */
+    public static DCHalfEdge getPrevEdgeOfFace(DCVertex vertex, DCFace face) {
+
+        DCHalfEdge twin = vertex.getLeavingEdge().getTwin();
+        DCHalfEdge edge = twin.getNext().getTwin();
+        //if there is only one face, "edge" is the previous edge
+        while (edge != twin) {
+            if (edge.getFace() == face)
+                return edge;
+            edge = edge.getNext().getTwin();//rotate
+        }
+        //default to twin because if we assume that "face" is one of the adjacent faces, the last choice must be the correct one.
+        return twin;
+    }
+
+    public DCFace getCommonFace(DCVertex vertex1, DCVertex vertex2) {
+        if (DecompositionStats.COUNTING) DecompositionStats.count(DecompositionStats.Counter.CommonFaceSearches);
+        // Two boundary vertices always share the outer face, which is never the one to split
+        if (vertex1.getLeavingEdge().getFace() != null && vertex1.getLeavingEdge().getFace() == vertex2.getLeavingEdge().getFace()) {
+            return vertex1.getLeavingEdge().getFace();
+        }
+        DCHalfEdge firstTwin = vertex1.getLeavingEdge().getTwin();
+        //we need to test all incoming edges pair and find the pair with matching faces
+        DCHalfEdge currEdge1 = firstTwin.getNext().getTwin();
+        //start with second twin, end with first (after a completing the loop on each edges)
+        while (currEdge1 != firstTwin) {
+            DCHalfEdge firstTwin2 = vertex2.getLeavingEdge().getTwin();
+            DCHalfEdge currEdge2 = firstTwin2.getNext().getTwin();
+            while (currEdge2 != firstTwin2) {
+                if (currEdge1.getFace() != null && currEdge1.getFace() == currEdge2.getFace())
+                    return currEdge1.getFace();
+                currEdge2 = currEdge2.getNext().getTwin();
+            }
+            currEdge1 = currEdge1.getNext().getTwin();
+        }
+        return firstTwin.getFace();//TODO check if correct
+    }
+
+    /**
+     * @return The hinted face if both vertices are on its boundary, else the common face found by searching
+     */
+    private DCFace getCommonFace(DCVertex vertex1, DCVertex vertex2, DCFace hint) {
+        if (hint != null && getPrevEdgeOfFace(vertex1, hint).getFace() == hint
+                && getPrevEdgeOfFace(vertex2, hint).getFace() == hint) {
+            return hint;
+        }
+        return getCommonFace(vertex1, vertex2);
+    }
+
+    /**
+     * Inserts a vertex at the given position on the given half edge.
+     * Assumption is made that adding the vertex, the graph that is
+     * being represented by the DCEL still remains a planar graph and
+     * no overlapping is happening.
+     * <p>
+     * Go from:
+     * <pre>
+     * ---- edge -->
+     * <--- twin ---
+     * </pre>
+     * to:
+     * <pre>
+     * <--- edge  --- vertex --- exEdge -->
+     * <--- exTwin --- vertex <--- Twin  ---
+     * </pre>
+     *
+     * @param edge     The edge on which to insert the new vertex. Should already be present in the DCEL
+     * @param position The position the vertex is inserted at
+     * @return Reference to created vertex
+     */
+    public DCVertex addVertex(DCHalfEdge edge, Point position) {
+        // Assert some invariants
+        Objects.requireNonNull(edge.getTwin(), "Edge should have a twin");
+        Objects.requireNonNull(edge.getOrigin(), "Edge should be part of a DCEL");
+        Objects.requireNonNull(edge.getTwin().getOrigin(), "Twin should be part of a DCEL");
+        if (DecompositionStats.COUNTING) DecompositionStats.count(DecompositionStats.Counter.AddVertex);
+
+        final var vertex = newVertex(position);
+        final var twin = edge.getTwin();
+        edgeIndex.remove(pairKey(edge.getOrigin(), twin.getOrigin()));
+
+        // Define the extensions
+        final var extendedTwin = newHalfEdge(vertex);
+        extendedTwin.setTwin(edge);
+        extendedTwin.setFace(twin.getFace());
+        extendedTwin.setNext(twin.getNext());
+
+        final var extendedEdge = newHalfEdge(vertex);
+        extendedEdge.setTwin(twin);
+        extendedEdge.setFace(edge.getFace());
+        extendedEdge.setNext(edge.getNext());
+
+        // Update edge and twin to finalize the link
+        edge.setNext(extendedEdge);
+        edge.setTwin(extendedTwin);
+
+        twin.setNext(extendedTwin);
+        twin.setTwin(extendedEdge);
+
+        vertex.setLeavingEdge(extendedEdge);
+        addToIndex(vertex);
+        addSharedEdges(edge.getFace(), twin.getFace(), 1);
+        edges.add(extendedEdge);
+        edges.add(extendedTwin);
+        addToIndex(edge);
+        addToIndex(extendedEdge);
+
+        return vertex;
+    }
+
+    public ArrayList<DCVertex> getVerticesOfFace(DCFace face) {
+        if (DecompositionStats.COUNTING) DecompositionStats.count(DecompositionStats.Counter.FaceWalks);
+        ArrayList<DCVertex> points = new ArrayList<>();
+        DCHalfEdge refEdge = face.getRefEdge();
+        DCHalfEdge currEdge = refEdge;
+        do {
+            DCVertex currVertex = currEdge.getOrigin();
+            points.add(currVertex);
+            currEdge = currEdge.getNext();
+        } while (currEdge != refEdge);
+        return points;
+    }
+
+
+    //Add an edge between two vertices and update everything.
+    public boolean addEdge(DCVertex vertex1, DCVertex vertex2) {
+        return splitFace(vertex1, vertex2, getCommonFace(vertex1, vertex2));
+    }
+
+    /**
+     * Same as {@link #addEdge(DCVertex, DCVertex)}, when the caller knows which face the new edge splits. The search
+     * for the common face tries every pair of edges around the two vertices, which is O(deg1 * deg2). With the hint,
+     * only the rotations around each vertex that find where to link the edge are left, O(deg1 + deg2), plus the walk
+     * of the new face.
+     * <p>
+     * The hint is checked on the way: if the face does not have both vertices on its boundary any more, for instance
+     * because an earlier edge split it and the vertices ended up on the other side, the face is searched as usual.
+     *
+     * @param face The face the edge splits, cannot be the outer face
+     * @return True if there are no reflex vertices left
+     */
+    public boolean addEdge(DCVertex vertex1, DCVertex vertex2, DCFace face) {
+        Objects.requireNonNull(face, "The outer face cannot be split");
+        return splitFace(vertex1, vertex2, getCommonFace(vertex1, vertex2, face));
+    }
+
+    private boolean splitFace(DCVertex vertex1, DCVertex vertex2, DCFace existingFace) {
+        /*
+                New face
+          v1 -----topEdge----->
+             <----bottomEdge--- v2
+                Existing face
+        */
+        if (DecompositionStats.COUNTING) DecompositionStats.count(DecompositionStats.Counter.AddEdge);
+        //adding an edge creates a new face:
+        DCFace newFace = newFace();
+
+        DCHalfEdge topEdge = newHalfEdge(null);
+        DCHalfEdge bottomEdge = newHalfEdge(null);
+
+        DCHalfEdge prev1 = getPrevEdgeOfFace(vertex1, existingFace);
+        DCHalfEdge prev2 = getPrevEdgeOfFace(vertex2, existingFace);
+
+        topEdge.setFace(newFace);
+        bottomEdge.setFace(existingFace);
+
+        topEdge.setNext(prev2.getNext());
+        bottomEdge.setNext(prev1.getNext());
+
+        topEdge.setOrigin(vertex1);
+        bottomEdge.setOrigin(vertex2);
+
+        topEdge.setTwin(bottomEdge);
+        bottomEdge.setTwin(topEdge);
+
+        prev1.setNext(topEdge);
+        prev2.setNext(bottomEdge);
+
+        newFace.setRefEdge(topEdge);
+        existingFace.setRefEdge(bottomEdge);
+        addToIndex(newFace);
+        addSharedEdges(newFace, existingFace, 1);
+
+        //now update all half-edges of the new face
+        if (DecompositionStats.COUNTING) DecompositionStats.count(DecompositionStats.Counter.FaceWalks);
+        DCHalfEdge currEdge = topEdge.getNext();
+        while (currEdge != topEdge) {
+            moveSharedEdge(currEdge, existingFace, newFace);
+            currEdge.setFace(newFace);
+            currEdge = currEdge.getNext();
+        }
+
+        edges.add(topEdge);
+        edges.add(bottomEdge);
+        addToIndex(topEdge);
+
+
+        //update reflex vertices if needed
+
+        if(vertex1.isReflex()) {
+            boolean keep = false;
+            Point prev = getPrevEdgeOfFace(vertex1, newFace).getOrigin().getPoint();
+            Point next = vertex2.getPoint();
+            TurnDirection dir = TurnDirection.orientation(prev, vertex1.getPoint(), next);
+            if (dir != TurnDirection.LEFT) //reflex angle
+                keep = true;
+
+            prev = vertex2.getPoint();
+            next = bottomEdge.getNext().getDestination().getPoint();
+            dir = TurnDirection.orientation(prev, vertex1.getPoint(), next);
+            if (dir != TurnDirection.LEFT) //reflex angle
+                keep = true;
+
+            if(!keep) {
+                vertex1.setReflex(false);
+                reflexCount--;
+            }
+        }
+
+        if(vertex2.isReflex()) {
+            boolean keep = false;
+            Point prev = vertex1.getPoint();
+            Point next = topEdge.getNext().getDestination().getPoint();
+            TurnDirection dir = TurnDirection.orientation(prev, vertex2.getPoint(), next);
+            if (dir != TurnDirection.LEFT) //reflex angle
+                keep = true;
+            prev = getPrevEdgeOfFace(vertex2, existingFace).getOrigin().getPoint();
+            next = vertex1.getPoint();
+            dir = TurnDirection.orientation(prev, vertex2.getPoint(), next);
+            if (dir != TurnDirection.LEFT) //reflex angle
+                keep = true;
+
+            if(!keep) {
+                vertex2.setReflex(false);
+                reflexCount--;
+            }
+        }
+        return reflexCount == 0;
+    }
+
+    public void addEdge(int idxVertex1, int idxVertex2) {
+        DCVertex vertex1 = vertices.get(idxVertex1);
+        DCVertex vertex2 = vertices.get(idxVertex2);
+        this.addEdge(vertex1, vertex2);
+    }
+
+    /**
+     * A diagonal to insert with {@link #addEdges(List)}, with the face it splits as a hint like in
+     * {@link #addEdge(DCVertex, DCVertex, DCFace)}, or null to search it. The face is the one from before the batch.
+     */
+    public record Diagonal(DCVertex from, DCVertex to, DCFace face) {
+        public Diagonal(DCVertex from, DCVertex to) {
+            this(from, to, null);
+        }
+    }
+
+    /**
+     * Insert a batch of diagonals at once. The diagonals may not cross each other nor the existing edges, and every
+     * diagonal must have both its end points on the boundary of one face of the list as it is before the batch. The
+     * order of the diagonals does not matter.
+     * <p>
+     * The diagonals are grouped by the face they split, and every such face is split in a single pass. Its vertices
+     * are numbered along its boundary, and around each vertex the diagonals are linked in the order of their other end
+     * point along the face, as non crossing diagonals of a simple polygon are. This only uses the numbering and not
+     * the directions, so the diagonals can overlap collinear edges (the monotone triangulation makes flat triangles on
+     * saws). The numbering is sorted by counting, then every half edge of the split face is walked once more to label
+     * the new faces, so the whole batch is linear in the number of affected half edges. The reflex vertices are only
+     * updated once all diagonals are in.
+     *
+     * @param diagonals The diagonals to insert
+     * @return True if there are no reflex vertices left, like {@link #addEdge(DCVertex, DCVertex)}
+     * @throws IllegalArgumentException If a diagonal has an end point that is not on the face it splits
+     */
+    public boolean addEdges(List<Diagonal> diagonals) {
+        // Faces are found with the labels from before the batch, which stay valid until the face is split
+        final var byFace = new LinkedHashMap<DCFace, ArrayList<Diagonal>>();
+        for (var diagonal : diagonals) {
+            if (DecompositionStats.COUNTING) DecompositionStats.count(DecompositionStats.Counter.AddEdge);
+            final var face = getCommonFace(diagonal.from(), diagonal.to(), diagonal.face());
+            if (face == null) {
+                throw new IllegalArgumentException("The diagonals must have both end points on the face they split");
+            }
+            byFace.computeIfAbsent(face, f -> new ArrayList<>()).add(diagonal);
+        }
+        for (var entry : byFace.entrySet()) {
+            splitFace(entry.getKey(), entry.getValue());
+        }
+
+        //update reflex vertices if needed, once per vertex as a vertex that keeps a flat angle stays reflex and the
+        //check goes around all its edges
+        final var checked = new BitSet(vertices.size());
+        for (var diagonal : diagonals) {
+            for (var vertex : List.of(diagonal.from(), diagonal.to())) {
+                if (checked.get(vertex.getId()))
+                    continue;
+                checked.set(vertex.getId());
+                if (vertex.isReflex() && !hasReflexAngle(vertex)) {
+                    vertex.setReflex(false);
+                    reflexCount--;
+                }
+            }
+        }
+        return reflexCount == 0;
+    }
+
+    /**
+     * Split a face with all its diagonals at once, see {@link #addEdges(List)}
+     */
+    private void splitFace(DCFace face, List<Diagonal> diagonals) {
+        // Number the vertices along the face, boundary[i] leaves the vertex at position i
+        final var size = face.edgeLength();
+        final var boundary = new DCHalfEdge[size];
+        if (facePositions.length < vertices.size()) {
+            facePositions = Arrays.copyOf(facePositions, Math.max(vertices.size(), 2 * facePositions.length));
+        }
+        var boundaryEdge = face.getRefEdge();
+        for (var i = 0; i < size; i++, boundaryEdge = boundaryEdge.getNext()) {
+            boundary[i] = boundaryEdge;
+            facePositions[boundaryEdge.getOrigin().getId()] = i;
+        }
+
+        // Both half edges of every diagonal, sorted by counting on the position of their destination. The end points
+        // are all checked before the list is changed.
+        final var counts = new int[size + 1];
+        for (var diagonal : diagonals) {
+            counts[positionOnFace(diagonal.to(), boundary) + 1]++;
+            counts[positionOnFace(diagonal.from(), boundary) + 1]++;
+        }
+        final var created = new DCHalfEdge[2 * diagonals.size()];
+        var n = 0;
+        for (var diagonal : diagonals) {
+            final var topEdge = newHalfEdge(diagonal.from());
+            final var bottomEdge = newHalfEdge(diagonal.to());
+            topEdge.setTwin(bottomEdge);
+            bottomEdge.setTwin(topEdge);
+            created[n++] = topEdge;
+            created[n++] = bottomEdge;
+
+            edges.add(topEdge);
+            edges.add(bottomEdge);
+            addToIndex(topEdge);
+        }
+        for (var i = 1; i <= size; i++) {
+            counts[i] += counts[i - 1];
+        }
+        final var sorted = new DCHalfEdge[created.length];
+        for (var edge : created) {
+            sorted[counts[facePositions[edge.getTwin().getOrigin().getId()]]++] = edge;
+        }
+
+        // Around a vertex, the diagonal to the farthest vertex along the face comes first after the incoming boundary
+        // edge. Those are first the ones to a vertex numbered lower, then higher, both by decreasing destination.
+        final var pending = new DCHalfEdge[size];
+        for (var lower = 1; lower >= 0; lower--) {
+            for (var i = sorted.length - 1; i >= 0; i--) {
+                final var edge = sorted[i];
+                final var from = facePositions[edge.getOrigin().getId()];
+                final var to = facePositions[edge.getTwin().getOrigin().getId()];
+                if ((to < from) == (lower == 1)) {
+                    final var prev = pending[from] == null ? boundary[(from + size - 1) % size] : pending[from];
+                    prev.setNext(edge);
+                    pending[from] = edge.getTwin();
+                }
+            }
+        }
+        for (var i = 0; i < size; i++) {
+            if (pending[i] != null)
+                pending[i].setNext(boundary[i]);
+        }
+
+        // The side with the reference edge keeps the face, the new half edges are still unlabelled on the others
+        if (DecompositionStats.COUNTING) DecompositionStats.count(DecompositionStats.Counter.FaceWalks);
+        final var refEdge = face.getRefEdge();
+        var currEdge = refEdge;
+        do {
+            currEdge.setFace(face);
+            currEdge = currEdge.getNext();
+        } while (currEdge != refEdge);
+        for (var edge : created) {
+            if (edge.getFace() != null)
+                continue;
+            final var newFace = newFace();
+            newFace.setRefEdge(edge);
+            addToIndex(newFace);
+            if (DecompositionStats.COUNTING) DecompositionStats.count(DecompositionStats.Counter.FaceWalks);
+            currEdge = edge;
+            do {
+                if (currEdge.getFace() == face)
+                    moveSharedEdge(currEdge, face, newFace);
+                currEdge.setFace(newFace);
+                currEdge = currEdge.getNext();
+            } while (currEdge != edge);
+        }
+        for (var i = 0; i < created.length; i += 2) {
+            addSharedEdges(created[i].getFace(), created[i + 1].getFace(), 1);
+        }
+    }
+
+    /**
+     * @return The position of the vertex along the face numbered by {@link #splitFace(DCFace, List)}
+     */
+    private int positionOnFace(DCVertex vertex, DCHalfEdge[] boundary) {
+        final var position = facePositions[vertex.getId()];
+        if (position >= boundary.length || boundary[position].getOrigin() != vertex) {
+            throw new IllegalArgumentException("The diagonals must have both end points on the face they split");
+        }
+        return position;
+    }
+
+    /**
+     * Hertel-Mehlhorn pass: remove every diagonal whose two faces still make a convex face once merged.
+     * <p>
+     * A diagonal is an edge with an inner face on both sides, the edges of the polygon are always kept. The diagonals
+     * are looked at one after the other, and a diagonal can be removed when the corners at both its end points stay
+     * convex (at most 180 degrees) in the merged face. Starting from a triangulation, this leaves at most four times
+     * as many faces as the smallest convex decomposition. It can also follow the slab or kd decomposition.
+     * <p>
+     * The corners only depend on the next and previous links, which are updated right away, so the faces are labelled
+     * once at the end. The whole pass is linear in the number of half edges.
+     *
+     * @return The number of diagonals that were removed
+     */
+    public int removeInessentialDiagonals() {
+        checkArena();
+        final var removed = new HashSet<DCHalfEdge>();
+        for (var edge : edges) {
+            final var twin = edge.getTwin();
+            if (edge.getFace() == null || twin.getFace() == null || removed.contains(edge))
+                continue;
+
+            // The corners around both end points once the faces on both sides are merged
+            final var origin = edge.getOrigin();
+            final var destination = twin.getOrigin();
+            if (TurnDirection.orientationRaw(edge.getPrev().getOrigin(), origin, twin.getNext().getDestination()) > 0
+                    || TurnDirection.orientationRaw(twin.getPrev().getOrigin(), destination, edge.getNext().getDestination()) > 0)
+                continue;
+
+            edge.getPrev().setNext(twin.getNext());
+            twin.getPrev().setNext(edge.getNext());
+            if (origin.getLeavingEdge() == edge)
+                origin.setLeavingEdge(twin.getNext());
+            if (destination.getLeavingEdge() == twin)
+                destination.setLeavingEdge(edge.getNext());
+
+            edgeIndex.remove(pairKey(origin, destination));
+            removed.add(edge);
+            removed.add(twin);
+        }
+        if (removed.isEmpty())
+            return 0;
+        edges.removeIf(removed::contains);
+
+        // Every merged face keeps the object of one of the faces it was made of
+        if (DecompositionStats.COUNTING) DecompositionStats.count(DecompositionStats.Counter.FaceWalks);
+        final var visited = new HashSet<DCHalfEdge>();
+        final var kept = new HashSet<DCFace>();
+        final var cycle = new ArrayList<DCHalfEdge>();
+        for (var start : edges) {
+            if (start.getFace() == null || visited.contains(start))
+                continue;
+
+            DCFace face = null;
+            cycle.clear();
+            var currEdge = start;
+            do {
+                visited.add(currEdge);
+                cycle.add(currEdge);
+                if (face == null && kept.add(currEdge.getFace()))
+                    face = currEdge.getFace();
+                currEdge = currEdge.getNext();
+            } while (currEdge != start);
+
+            face.setRefEdge(start);
+            for (var cycleEdge : cycle) {
+                cycleEdge.setFace(face);
+            }
+        }
+        faces.removeIf(face -> !kept.contains(face));
+
+        // Faces were removed, so number them again and count the shared edges from scratch
+        for (var i = 0; i < faces.size(); i++) {
+            faces.get(i).setId(i);
+        }
+        if (sharedEdges != null)
+            buildDualGraph();
+        return removed.size() / 2;
+    }
+
+    private static boolean hasReflexAngle(DCVertex vertex) {
+        for (var iter = vertex.iterateIncomingEdges(); iter.hasNext(); ) {
+            final var incoming = iter.next();
+            if (incoming.getFace() == null)
+                continue;
+            final var prev = incoming.getOrigin().getPoint();
+            final var next = incoming.getNext().getDestination().getPoint();
+            if (TurnDirection.orientation(prev, vertex.getPoint(), next) != TurnDirection.LEFT) //reflex angle
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Query an edge from which a certain line is correlated
+     *
+     * @param line The line to query
+     * @return The half edge that goes from the start to the end of the provided line, or null if there is none
+     */
+    public DCHalfEdge getEdgeByLine(Line line) {
+        final var start = vertexIndex.get(line.start());
+        final var end = vertexIndex.get(line.end());
+        if (start != null && end != null) {
+            final var edge = getEdge(start, end);
+            if (edge != null)
+                return edge;
+        }
+
+        // The index only keeps the first vertex at each position, the others are found by their edges
+        for (var edge : edges) {
+            if (line.equals(edge.toLine()))
+                return edge.getOrigin().getPoint().equals(line.start()) ? edge : edge.getTwin();
+        }
+        return null;
+    }
+
+    /**
+     * @return The half edge from one vertex to the other, or null if they are not connected
+     */
+    public DCHalfEdge getEdge(DCVertex from, DCVertex to) {
+        final var edge = edgeIndex.get(pairKey(from, to));
+        if (edge == null)
+            return null;
+        return edge.getOrigin() == from ? edge : edge.getTwin();
+    }
+
+    /**
+     * @return The vertex at the given position, or null if there is none
+     */
+    public DCVertex getVertexAt(Point point) {
+        return vertexIndex.get(point);
+    }
+
+    private DCVertex newVertex(Point point) {
+        checkArena();
+        return arena == null ? new DCVertex(point) : arena.vertex(point);
+    }
+
+    private DCHalfEdge newHalfEdge(DCVertex origin) {
+        checkArena();
+        return arena == null ? new DCHalfEdge(origin) : arena.halfEdge(origin);
+    }
+
+    private DCFace newFace() {
+        checkArena();
+        return arena == null ? new DCFace() : arena.face();
+    }
+
+    /**
+     * @throws IllegalStateException If a later run of the arena handed out the elements of this list again
+     */
+    private void checkArena() {
+        if (arena != null && arena.generation() != generation) {
+            throw new IllegalStateException("The edge list was built in an earlier run of its arena, its elements are in use by a later run");
+        }
+    }
+
+    private static long pairKey(DCVertex a, DCVertex b) {
+        final long low = Math.min(a.getId(), b.getId());
+        final long high = Math.max(a.getId(), b.getId());
+        return (high << 32) | low;
+    }
+
+    void addToIndex(DCVertex vertex) {
+        vertex.setId(vertices.size());
+        vertices.add(vertex);
+        vertexIndex.putIfAbsent(vertex.getPoint(), vertex);
+    }
+
+    void addToIndex(DCHalfEdge edge) {
+        edgeIndex.put(pairKey(edge.getOrigin(), edge.getTwin().getOrigin()), edge);
+    }
+
+    void addToIndex(DCFace face) {
+        face.setId(faces.size());
+        faces.add(face);
+        if (sharedEdges != null)
+            sharedEdges.add(new HashMap<>());
+    }
+
+    /**
+     * Count the edges shared by every pair of faces by looking at all half edges, from then on the counts are kept
+     * up to date by every change to the list
+     */
+    private void buildDualGraph() {
+        sharedEdges = new ArrayList<>(faces.size());
+        for (var i = 0; i < faces.size(); i++) {
+            sharedEdges.add(new HashMap<>());
+        }
+        for (var edge : edges) {
+            if (edge.getFace() != null && edge.getTwin().getFace() != null)
+                addSharedEdges(sharedEdges.get(edge.getFace().getId()), edge.getTwin().getFace(), 1);
+        }
+    }
+
+    /**
+     * Change the number of edges two faces share, nothing is kept for the outer face
+     */
+    private void addSharedEdges(DCFace face, DCFace other, int count) {
+        if (sharedEdges == null || face == null || other == null || face == other)
+            return;
+        addSharedEdges(sharedEdges.get(face.getId()), other, count);
+        addSharedEdges(sharedEdges.get(other.getId()), face, count);
+    }
+
+    private static void addSharedEdges(HashMap<DCFace, int[]> neighbours, DCFace neighbour, int count) {
+        final var shared = neighbours.get(neighbour);
+        if (shared == null) {
+            neighbours.put(neighbour, new int[]{count});
+        } else if ((shared[0] += count) == 0) {
+            neighbours.remove(neighbour);
+        }
+    }
+
+    /**
+     * The half edge moves from one face to the other, so does the neighbour on its other side
+     */
+    private void moveSharedEdge(DCHalfEdge edge, DCFace from, DCFace to) {
+        if (sharedEdges == null)
+            return;
+        final var neighbour = edge.getTwin().getFace();
+        addSharedEdges(from, neighbour, -1);
+        addSharedEdges(to, neighbour, 1);
+    }
+
+    /**
+     * Neighbours in the dual graph of the decomposition. The first query builds the dual graph in linear time, after
+     * which every {@link #addEdge(DCVertex, DCVertex)} and {@link #addVertex(DCHalfEdge, Point)} updates it along
+     * with the face labels.
+     *
+     * @return The ids of the faces that share at least one edge with the given face, in increasing order
+     */
+    public int[] getNeighbours(int face) {
+        if (sharedEdges == null)
+            buildDualGraph();
+        final var neighbours = sharedEdges.get(face);
+        final var result = new int[neighbours.size()];
+        var i = 0;
+        for (var neighbour : neighbours.keySet()) {
+            result[i++] = neighbour.getId();
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    public int[] getNeighbours(DCFace face) {
+        return getNeighbours(face.getId());
+    }
+
+    /**
+     * @return The number of edges both faces have in common, 0 if they are not neighbours
+     */
+    public int getSharedEdgeCount(DCFace face, DCFace other) {
+        if (sharedEdges == null)
+            buildDualGraph();
+        final var shared = sharedEdges.get(face.getId()).get(other);
+        return shared == null ? 0 : shared[0];
+    }
+
+    public ArrayList<DCHalfEdge> getEdges() {
+        return edges;
+    }
+
+    public ArrayList<DCVertex> getVertices() {
+        return vertices;
+    }
+
+    public ArrayList<DCFace> getFaces() {
+        return faces;
+    }
+
+    public boolean hasReflex(){
+        return reflexCount > 0;
+    }
+
+    /**
+     * Make a read-only snapshot of the faces, to hand the decomposition to the steps that only read it.
+     * Later changes to this list are not reflected in the snapshot.
+     *
+     * @return The faces with their vertices packed in arrays
+     */
+    public FrozenDecomposition freeze() {
+        checkArena();
+        // Every half edge bounds at most one face, so this is enough room for the vertices of all faces
+        final var coordinates = new float[2 * edges.size()];
+        final var faceOffsets = new int[faces.size() + 1];
+        var count = 0;
+        for (var i = 0; i < faces.size(); i++) {
+            if (DecompositionStats.COUNTING) DecompositionStats.count(DecompositionStats.Counter.FaceWalks);
+            faceOffsets[i] = count;
+            final var refEdge = faces.get(i).getRefEdge();
+            var currEdge = refEdge;
+            do {
+                final var point = currEdge.getOrigin().getPoint();
+                coordinates[2 * count] = point.x;
+                coordinates[2 * count + 1] = point.y;
+                count++;
+                currEdge = currEdge.getNext();
+            } while (currEdge != refEdge);
+        }
+        faceOffsets[faces.size()] = count;
+        return new FrozenDecomposition(Arrays.copyOf(coordinates, 2 * count), faceOffsets, vertices.size(), edges.size(), stats);
+    }
+
+    @Override
+    public List<Polygon> getFacePolygons() {
+        final var result = new ArrayList<Polygon>(faces.size());
+        for (var face : faces) {
+            final var points = new ArrayList<Point>();
+            for (var vertex : getVerticesOfFace(face)) {
+                points.add(vertex.getPoint());
+            }
+            result.add(new Polygon(points));
+        }
+        return result;
+    }
+
+    @Override
+    public int getFaceCount() {
+        return faces.size();
+    }
+
+    @Override
+    public int getVertexCount() {
+        return vertices.size();
+    }
+
+    @Override
+    public int getHalfEdgeCount() {
+        return edges.size();
+    }
+
+    @Override
+    public DecompositionStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public DoublyConnectedEdgeList withStats(DecompositionStats stats) {
+        this.stats = Objects.requireNonNull(stats);
+        return this;
+    }
+}
@@ -0,0 +1,147 @@
+package be.ulbvub.compgeom.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.function.Supplier;
+
+/**
+ * Storage for the vertices, half edges and faces of edge lists, reused from one run to the next.
+ * <p>
+ * Every {@link DoublyConnectedEdgeList} created inside {@link #run(Supplier)} takes its elements from the arena
+ * instead of allocating them, also when it is modified later on. The first list of a run also reuses the lists and
+ * indices that hold these elements. Every run starts over from the first element, so a worker thread that decomposes
+ * one polygon after the other allocates much less once it has seen its largest polygon:
+ * <pre>{@code
+ * final var arena = new EdgeListArena();
+ * for (var polygon : polygons) {
+ *     final var result = arena.run(() -> Decompositions.Kd.config(polygon).decompose());
+ *     write(result);
+ * }
+ * }</pre>
+ * The lists built in a run are only valid until the next run on the same arena, which overwrites their elements.
+ * Keep a {@link DoublyConnectedEdgeList#freeze() snapshot} of the ones that must live longer: once the next run
+ * started, editing or freezing a list of an earlier run throws an {@link IllegalStateException} rather than
+ * corrupting the lists of the new run. An arena is not thread safe, every worker thread should have its own.
+ */
+public final class EdgeListArena {
+    private static final ThreadLocal<EdgeListArena> ACTIVE = new ThreadLocal<>();
+
+    private final ArrayList<DCVertex> vertexPool = new ArrayList<>();
+    private final ArrayList<DCHalfEdge> halfEdgePool = new ArrayList<>();
+    private final ArrayList<DCFace> facePool = new ArrayList<>();
+    private int vertexCount = 0;
+    private int halfEdgeCount = 0;
+    private int faceCount = 0;
+    // Counts the runs, so a list can tell whether the elements it was given were handed out again since
+    private int generation = 0;
+
+    // Containers of the first list built in a run, the other lists of the run get their own
+    final ArrayList<DCHalfEdge> edges = new ArrayList<>();
+    final ArrayList<DCVertex> vertices = new ArrayList<>();
+    final ArrayList<DCFace> faces = new ArrayList<>();
+    final HashMap<Long, DCHalfEdge> edgeIndex = new HashMap<>();
+    final HashMap<Point, DCVertex> vertexIndex = new HashMap<>();
+    private boolean containersLent = false;
+
+    /**
+     * Run a computation with this arena as the storage of the edge lists it creates on the current thread. All the
+     * elements handed out by the previous run are reused.
+     *
+     * @param computation The computation, usually a decomposition
+     * @return The result of the computation
+     * @throws IllegalStateException If the arena is already running on this thread, as its elements are in use
+     */
+    public <T> T run(Supplier<T> computation) {
+        final var outer = ACTIVE.get();
+        if (outer == this) {
+            throw new IllegalStateException("The arena is already in use by an outer run");
+        }
+
+        generation++;
+        vertexCount = 0;
+        halfEdgeCount = 0;
+        faceCount = 0;
+        containersLent = false;
+        ACTIVE.set(this);
+        try {
+            return computation.get();
+        } finally {
+            if (outer == null) {
+                ACTIVE.remove();
+            } else {
+                ACTIVE.set(outer);
+            }
+        }
+    }
+
+    /**
+     * @return The arena of the run in progress on the current thread, null outside a run
+     */
+    static EdgeListArena current() {
+        return ACTIVE.get();
+    }
+
+    /**
+     * @return Number of runs started so far
+     */
+    int generation() {
+        return generation;
+    }
+
+    /**
+     * @return If the containers were free, in which case they are emptied for the caller
+     */
+    boolean lendContainers() {
+        if (containersLent) {
+            return false;
+        }
+
+        containersLent = true;
+        edges.clear();
+        vertices.clear();
+        faces.clear();
+        edgeIndex.clear();
+        vertexIndex.clear();
+        return true;
+    }
+
+    DCVertex vertex(Point point) {
+        if (vertexCount == vertexPool.size()) {
+            vertexPool.add(new DCVertex(point));
+            return vertexPool.get(vertexCount++);
+        }
+
+        final var vertex = vertexPool.get(vertexCount++);
+        vertex.reset(point);
+        return vertex;
+    }
+
+    DCHalfEdge halfEdge(DCVertex origin) {
+        if (halfEdgeCount == halfEdgePool.size()) {
+            halfEdgePool.add(new DCHalfEdge(origin));
+            return halfEdgePool.get(halfEdgeCount++);
+        }
+
+        final var edge = halfEdgePool.get(halfEdgeCount++);
+        edge.reset(origin);
+        return edge;
+    }
+
+    DCFace face() {
+        if (faceCount == facePool.size()) {
+            facePool.add(new DCFace());
+            return facePool.get(faceCount++);
+        }
+
+        final var face = facePool.get(faceCount++);
+        face.reset();
+        return face;
+    }
+
+    /**
+     * @return Number of vertices, half edges and faces held, the most a single run has used
+     */
+    int capacity() {
+        return vertexPool.size() + halfEdgePool.size() + facePool.size();
+    }
+}
@@ -0,0 +1,212 @@
+package be.ulbvub.compgeom.utils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Checks the invariants of a {@link DoublyConnectedEdgeList}, so a broken list fails where it was built rather than
+ * later, in a face walk that never ends.
+ * <p>
+ * Validation is switched on with {@code -Dcompgeom.validate=true}, which the unit tests do. Every decomposition
+ * measured by {@link DecompositionStats#measure} is then checked before it is returned. With
+ * {@code -Dcompgeom.validate.sample=0.01}, only one decomposition out of a hundred is checked, which keeps the cost
+ * of the checks small enough for production runs. Like {@link Trace#ENABLED}, {@link #ENABLED} is a constant, so the
+ * JIT removes the guarded calls entirely when validation is off.
+ */
+public final class EdgeListValidator {
+    public static final boolean ENABLED = Boolean.getBoolean("compgeom.validate");
+    private static final double SAMPLE = Double.parseDouble(System.getProperty("compgeom.validate.sample", "1"));
+
+    private EdgeListValidator() {
+    }
+
+    /**
+     * @return If the current decomposition should be validated, draws a new sample on every call
+     */
+    public static boolean sample() {
+        return ENABLED && (SAMPLE >= 1 || ThreadLocalRandom.current().nextDouble() < SAMPLE);
+    }
+
+    /**
+     * Check, in O(n log n) plus the number of pairs of edges that overlap on x:
+     * <ul>
+     *     <li>every half edge is the twin of its twin, the previous of its next, and ends where its next starts</li>
+     *     <li>every half edge has the face of its next, and the vertices and faces it links to are in the list</li>
+     *     <li>every vertex leaves along its leaving edge, every face is the face of its reference edge</li>
+     *     <li>every face is bounded by a single closed walk of at least 3 half edges</li>
+     *     <li>no two edges cross, edges that only touch or overlap on a line are allowed</li>
+     * </ul>
+     *
+     * @throws IllegalStateException Describing the first broken invariant
+     */
+    public static void validate(DoublyConnectedEdgeList dcel) {
+        final var edges = dcel.edges;
+        final var edgeIds = new IdentityHashMap<DCHalfEdge, Integer>(2 * edges.size());
+        for (var i = 0; i < edges.size(); i++) {
+            edgeIds.put(edges.get(i), i);
+        }
+
+        for (var i = 0; i < dcel.vertices.size(); i++) {
+            final var vertex = dcel.vertices.get(i);
+            if (vertex.getId() != i) {
+                throw invalid(vertex, "has id " + vertex.getId() + " at position " + i);
+            }
+            if (!edgeIds.containsKey(vertex.getLeavingEdge())) {
+                throw invalid(vertex, "has no leaving edge in the list");
+            }
+            if (vertex.getLeavingEdge().getOrigin() != vertex) {
+                throw invalid(vertex, "does not start its leaving edge");
+            }
+        }
+
+        for (var i = 0; i < dcel.faces.size(); i++) {
+            final var face = dcel.faces.get(i);
+            if (face.getId() != i) {
+                throw invalid(face, "has id " + face.getId() + " at position " + i);
+            }
+            if (!edgeIds.containsKey(face.getRefEdge())) {
+                throw invalid(face, "has no reference edge in the list");
+            }
+            if (face.getRefEdge().getFace() != face) {
+                throw invalid(face, "is not the face of its reference edge");
+            }
+        }
+
+        for (var edge : edges) {
+            final var twin = edge.getTwin();
+            final var next = edge.getNext();
+            if (!edgeIds.containsKey(twin) || twin == edge || twin.getTwin() != edge) {
+                throw invalid(edge, "is not the twin of its twin");
+            }
+            if (!edgeIds.containsKey(next) || next.getPrev() != edge) {
+                throw invalid(edge, "is not the previous edge of its next");
+            }
+            if (!isInList(dcel, edge.getOrigin())) {
+                throw invalid(edge, "starts at a vertex that is not in the list");
+            }
+            if (next.getOrigin() != twin.getOrigin()) {
+                throw invalid(edge, "does not end where its next starts");
+            }
+            if (next.getFace() != edge.getFace()) {
+                throw invalid(edge, "does not have the face of its next");
+            }
+            if (edge.getFace() != null && !isInList(dcel, edge.getFace())) {
+                throw invalid(edge, "bounds a face that is not in the list");
+            }
+        }
+
+        checkFaceWalks(dcel, edgeIds);
+        checkCrossings(dcel, edgeIds);
+    }
+
+    /**
+     * As every half edge is the previous of its next, following the next edges is a permutation and every walk
+     * closes. What is left to check is that a face has one walk, not several or a degenerate one.
+     */
+    private static void checkFaceWalks(DoublyConnectedEdgeList dcel, IdentityHashMap<DCHalfEdge, Integer> edgeIds) {
+        final var visited = new boolean[dcel.edges.size()];
+        final var walked = new boolean[dcel.faces.size()];
+        for (var i = 0; i < dcel.edges.size(); i++) {
+            if (visited[i]) {
+                continue;
+            }
+
+            final var start = dcel.edges.get(i);
+            var length = 0;
+            var edge = start;
+            do {
+                visited[edgeIds.get(edge)] = true;
+                length++;
+                edge = edge.getNext();
+            } while (edge != start);
+
+            final var face = start.getFace();
+            if (face != null) {
+                if (walked[face.getId()]) {
+                    throw invalid(face, "is bounded by more than one walk");
+                }
+                if (length < 3) {
+                    throw invalid(face, "is bounded by " + length + " half edges");
+                }
+                walked[face.getId()] = true;
+            }
+        }
+    }
+
+    /**
+     * Sweep the edges from left to right, only the edges that overlap on x need to be compared
+     */
+    private static void checkCrossings(DoublyConnectedEdgeList dcel, IdentityHashMap<DCHalfEdge, Integer> edgeIds) {
+        final var segments = new ArrayList<DCHalfEdge>(dcel.edges.size() / 2);
+        for (var i = 0; i < dcel.edges.size(); i++) {
+            // One half edge of every pair of twins
+            if (i < edgeIds.get(dcel.edges.get(i).getTwin())) {
+                segments.add(dcel.edges.get(i));
+            }
+        }
+        segments.sort(Comparator.comparingDouble(EdgeListValidator::minX));
+
+        final var active = new ArrayList<DCHalfEdge>();
+        for (var segment : segments) {
+            final var minX = minX(segment);
+            active.removeIf(other -> maxX(other) < minX);
+            for (var other : active) {
+                if (crosses(segment, other)) {
+                    throw invalid(segment, "crosses the edge from " + other.getOrigin() + " to " + other.getTwin().getOrigin());
+                }
+            }
+            active.add(segment);
+        }
+    }
+
+    private static boolean crosses(DCHalfEdge a, DCHalfEdge b) {
+        final var a1 = a.getOrigin().getPoint();
+        final var a2 = a.getTwin().getOrigin().getPoint();
+        final var b1 = b.getOrigin().getPoint();
+        final var b2 = b.getTwin().getOrigin().getPoint();
+        // Edges that share an end point only touch
+        if (a1.equals(b1) || a1.equals(b2) || a2.equals(b1) || a2.equals(b2)) {
+            return false;
+        }
+        return Math.signum(orientation(a1.x, a1.y, a2.x, a2.y, b1.x, b1.y)) * Math.signum(orientation(a1.x, a1.y, a2.x, a2.y, b2.x, b2.y)) < 0
+                && Math.signum(orientation(b1.x, b1.y, b2.x, b2.y, a1.x, a1.y)) * Math.signum(orientation(b1.x, b1.y, b2.x, b2.y, a2.x, a2.y)) < 0;
+    }
+
+    /**
+     * Same as {@link TurnDirection#orientationRaw}, in double precision so the check does not report rounding
+     */
+    private static double orientation(double ax, double ay, double bx, double by, double cx, double cy) {
+        return (by - ay) * (cx - bx) - (bx - ax) * (cy - by);
+    }
+
+    private static double minX(DCHalfEdge edge) {
+        return Math.min(edge.getOrigin().getPoint().x, edge.getTwin().getOrigin().getPoint().x);
+    }
+
+    private static double maxX(DCHalfEdge edge) {
+        return Math.max(edge.getOrigin().getPoint().x, edge.getTwin().getOrigin().getPoint().x);
+    }
+
+    private static boolean isInList(DoublyConnectedEdgeList dcel, DCVertex vertex) {
+        return vertex != null && vertex.getId() >= 0 && vertex.getId() < dcel.vertices.size() && dcel.vertices.get(vertex.getId()) == vertex;
+    }
+
+    private static boolean isInList(DoublyConnectedEdgeList dcel, DCFace face) {
+        return face.getId() >= 0 && face.getId() < dcel.faces.size() && dcel.faces.get(face.getId()) == face;
+    }
+
+    private static IllegalStateException invalid(Object element, String message) {
+        // The description of a face walks it, which may never end on a broken list
+        final String description;
+        if (element instanceof DCHalfEdge edge) {
+            description = "half edge from " + edge.getOrigin();
+        } else if (element instanceof DCFace face) {
+            description = "face " + face.getId();
+        } else {
+            description = "vertex " + element;
+        }
+        return new IllegalStateException("Invalid DCEL, " + description + " " + message);
+    }
+}
@@ -1,10 +1,8 @@
 package be.ulbvub.compgeom.utils;
 
-import processing.core.PVector;
-
 public interface Event<T> {
 
-    default PVector getPoint() {
+    default Point getPoint() {
         return getVertex().getPoint();
     }
 
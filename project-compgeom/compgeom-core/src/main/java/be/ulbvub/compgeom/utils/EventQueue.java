@@ -1,8 +1,5 @@
 package be.ulbvub.compgeom.utils;
 
-import processing.core.PMatrix2D;
-import processing.core.PVector;
-
 import java.util.Comparator;
 import java.util.PriorityQueue;
 
@@ -28,17 +25,17 @@ public class EventQueue<R, E extends Event<R>> extends PriorityQueue<E> {
     }
 
     private static class GenericComparator<R, E extends Event<R>> implements Comparator<E> {
-        private final PMatrix2D matrix;
+        private final Point direction;
 
-        public GenericComparator(PVector direction) {
-            matrix = Utils.getDirectionMatrix(direction);
+        public GenericComparator(Point direction) {
+            this.direction = direction;
         }
 
         @Override
         public int compare(E e1, E e2) {
             // Transform along direction
-            var p1 = matrix.mult(e1.getPoint(), new PVector(0, 0));
-            var p2 = matrix.mult(e2.getPoint(), new PVector(0, 0));
+            var p1 = Utils.alongDirection(direction, e1.getPoint());
+            var p2 = Utils.alongDirection(direction, e2.getPoint());
 
             return Float.compare(p1.x, p2.x);
         }
@@ -52,11 +49,11 @@ public class EventQueue<R, E extends Event<R>> extends PriorityQueue<E> {
         super(new XComparator<>());
     }
 
-    public static <R, E extends Event<R>> EventQueue<R, E> fromDirection(PVector direction) {
-        if (direction.equals(new PVector(1, 0))) {
+    public static <R, E extends Event<R>> EventQueue<R, E> fromDirection(Point direction) {
+        if (direction.equals(new Point(1, 0))) {
             // Optimized version for along x-axis
             return new EventQueue<>(new XComparator<>());
-        } else if (direction.equals(new PVector(0, 1))) {
+        } else if (direction.equals(new Point(0, 1))) {
             // Optimized version along y-axis
             return new EventQueue<>(new YComparator<>());
         } else {
@@ -0,0 +1,277 @@
+package be.ulbvub.compgeom.utils;
+
+import be.ulbvub.compgeom.Polygon;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Read-only snapshot of a decomposition, made by {@link DoublyConnectedEdgeList#freeze()}.
+ * <p>
+ * The vertices of every face are stored one face after the other in a single array of packed coordinates
+ * ({@code x0, y0, x1, y1, ...}), in the order of the face walk. Face {@code f} covers the vertices from
+ * {@code faceOffsets[f]} up to {@code faceOffsets[f + 1]}, so reading a face does not allocate nor follow pointers.
+ * The arrays are held as buffers, so a snapshot can also be read straight from a file mapped in memory by
+ * {@link DecompositionFile#map(java.nio.file.Path)}.
+ * <p>
+ * All fields are final and the buffers are only read with absolute gets, which do not move their position, so a
+ * snapshot can be shared between threads without locking. This also makes it the way to process faces in parallel,
+ * with {@code faces().parallel()}.
+ */
+public final class FrozenDecomposition implements CalculationResult {
+
+    /**
+     * View on one face of a snapshot, reading its coordinates straight from the packed array
+     *
+     * @param decomposition The snapshot the face belongs to
+     * @param id            Index of the face in the snapshot
+     */
+    public record Face(FrozenDecomposition decomposition, int id) {
+        public int size() {
+            return decomposition.getFaceSize(id);
+        }
+
+        public float x(int index) {
+            return decomposition.getX(id, index);
+        }
+
+        public float y(int index) {
+            return decomposition.getY(id, index);
+        }
+
+        /**
+         * @return Area enclosed by the face, with the shoelace formula
+         */
+        public double area() {
+            double twiceArea = 0;
+            for (var i = 0; i < size(); i++) {
+                final var next = (i + 1) % size();
+                twiceArea += (double) x(i) * y(next) - (double) x(next) * y(i);
+            }
+            return Math.abs(twiceArea) / 2;
+        }
+
+        /**
+         * Same test as {@link DCFace#isConvex()}
+         */
+        public boolean isConvex() {
+            for (var i = 0; i < size(); i++) {
+                final var curr = (i + 1) % size();
+                final var next = (i + 2) % size();
+                // Add some margin, as otherwise some false negatives
+                if (TurnDirection.orientationRaw(x(i), y(i), x(curr), y(curr), x(next), y(next)) > 0.005) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Goes over a range of face ids. Splitting cuts the range where it holds half of the vertices rather than half
+     * of the faces, so a few large faces do not end up in the same task as many small ones.
+     */
+    private final class FaceSpliterator implements Spliterator.OfInt {
+        private int from;
+        private final int to;
+
+        FaceSpliterator(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public OfInt trySplit() {
+            if (to - from < 2) {
+                return null;
+            }
+
+            // First face that starts past half of the vertices of the range, keeping at least one face on each side
+            final var half = faceOffsets.get(from) + (faceOffsets.get(to) - faceOffsets.get(from)) / 2;
+            var low = from + 1;
+            var high = to - 1;
+            while (low < high) {
+                final var middle = (low + high) >>> 1;
+                if (faceOffsets.get(middle) < half) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+
+            final var prefix = new FaceSpliterator(from, low);
+            from = low;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (from >= to) {
+                return false;
+            }
+            action.accept(from++);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            while (from < to) {
+                action.accept(from++);
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return to - from;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | DISTINCT | SORTED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+
+        @Override
+        public Comparator<? super Integer> getComparator() {
+            return null;
+        }
+    }
+
+    private final FloatBuffer coordinates;
+    private final IntBuffer faceOffsets;
+    private final int vertexCount;
+    private final int halfEdgeCount;
+    private final DecompositionStats stats;
+
+    FrozenDecomposition(float[] coordinates, int[] faceOffsets, int vertexCount, int halfEdgeCount, DecompositionStats stats) {
+        this(FloatBuffer.wrap(coordinates), IntBuffer.wrap(faceOffsets), vertexCount, halfEdgeCount, stats);
+    }
+
+    FrozenDecomposition(FloatBuffer coordinates, IntBuffer faceOffsets, int vertexCount, int halfEdgeCount, DecompositionStats stats) {
+        this.coordinates = coordinates;
+        this.faceOffsets = faceOffsets;
+        this.vertexCount = vertexCount;
+        this.halfEdgeCount = halfEdgeCount;
+        this.stats = Objects.requireNonNull(stats);
+    }
+
+    /**
+     * @return Number of vertices on the boundary of the face
+     */
+    public int getFaceSize(int face) {
+        return faceOffsets.get(face + 1) - faceOffsets.get(face);
+    }
+
+    /**
+     * @param face  The face
+     * @param index Position of the vertex in the face, from 0 to {@link #getFaceSize(int)} excluded
+     */
+    public float getX(int face, int index) {
+        return coordinates.get(2 * vertexIndex(face, index));
+    }
+
+    /**
+     * @param face  The face
+     * @param index Position of the vertex in the face, from 0 to {@link #getFaceSize(int)} excluded
+     */
+    public float getY(int face, int index) {
+        return coordinates.get(2 * vertexIndex(face, index) + 1);
+    }
+
+    /**
+     * Copy the packed coordinates of a face, so callers can reuse one buffer for all faces
+     *
+     * @param face        The face
+     * @param destination Receives {@code x0, y0, x1, y1, ...}, must hold at least twice {@link #getFaceSize(int)}
+     *                    values
+     */
+    public void copyFace(int face, float[] destination) {
+        coordinates.get(2 * faceOffsets.get(face), destination, 0, 2 * getFaceSize(face));
+    }
+
+    /**
+     * @return The ids of all faces, as a sequential stream that can be made parallel
+     */
+    public IntStream faceIds() {
+        return StreamSupport.intStream(new FaceSpliterator(0, getFaceCount()), false);
+    }
+
+    /**
+     * @return All faces, as a sequential stream that can be made parallel
+     */
+    public Stream<Face> faces() {
+        return faceIds().mapToObj(id -> new Face(this, id));
+    }
+
+    /**
+     * For the structures built on top of the snapshot, which must not modify it
+     */
+    FloatBuffer coordinates() {
+        return coordinates;
+    }
+
+    IntBuffer faceOffsets() {
+        return faceOffsets;
+    }
+
+    private int vertexIndex(int face, int index) {
+        if (index < 0 || index >= getFaceSize(face)) {
+            throw new IndexOutOfBoundsException("Vertex " + index + " of face " + face + " with " + getFaceSize(face) + " vertices");
+        }
+        return faceOffsets.get(face) + index;
+    }
+
+    @Override
+    public int getFaceCount() {
+        return faceOffsets.limit() - 1;
+    }
+
+    /**
+     * @return Number of vertices of the decomposition the snapshot was made of, a vertex shared by several faces is
+     * counted once
+     */
+    @Override
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    @Override
+    public int getHalfEdgeCount() {
+        return halfEdgeCount;
+    }
+
+    @Override
+    public List<Polygon> getFacePolygons() {
+        final var result = new ArrayList<Polygon>(getFaceCount());
+        for (var face = 0; face < getFaceCount(); face++) {
+            final var points = new ArrayList<Point>(getFaceSize(face));
+            for (var index = 0; index < getFaceSize(face); index++) {
+                points.add(new Point(getX(face, index), getY(face, index)));
+            }
+            result.add(new Polygon(points));
+        }
+        return result;
+    }
+
+    @Override
+    public DecompositionStats getStats() {
+        return stats;
+    }
+
+    /**
+     * A snapshot starts with the stats of the decomposition it was made of. When a snapshot is itself the result of a
+     * measured computation, it is copied with the new stats, the copy shares the same buffers.
+     */
+    @Override
+    public FrozenDecomposition withStats(DecompositionStats stats) {
+        return new FrozenDecomposition(coordinates, faceOffsets, vertexCount, halfEdgeCount, stats);
+    }
+}
@@ -0,0 +1,466 @@
+package be.ulbvub.compgeom.utils;
+
+import be.ulbvub.compgeom.Polygon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Doubly connected edge list stored as a structure of arrays, with the same semantics as
+ * {@link DoublyConnectedEdgeList}.
+ * <p>
+ * Vertices, half edges and faces are identified by their index. Instead of one object per element, every field is a
+ * primitive array indexed by that identifier, so a face walk reads consecutive ints instead of following pointers
+ * between objects scattered on the heap. Half edges are created in pairs, the twin of half edge {@code e} is
+ * {@code e ^ 1} and is not stored.
+ * <p>
+ * The half edges on the outside of the polygon have {@link #NO_FACE} as face.
+ */
+public class IndexedDoublyConnectedEdgeList implements CalculationResult {
+    public static final int NO_FACE = -1;
+
+    // Vertices
+    private float[] x;
+    private float[] y;
+    private int[] leavingEdge;
+    private boolean[] reflex;
+    private int vertexCount;
+    private int reflexCount;
+
+    // Half edges, the twin of e is e ^ 1. prev is kept up to date with next so faces can be walked backwards
+    private int[] next;
+    private int[] prev;
+    private int[] origin;
+    private int[] face;
+    private int halfEdgeCount;
+
+    // Faces
+    private int[] refEdge;
+    private int faceCount;
+
+    private DecompositionStats stats = DecompositionStats.EMPTY;
+
+    public IndexedDoublyConnectedEdgeList(Polygon polygon) {
+        this(polygon.points());
+    }
+
+    //take as argument a list of connected points
+    public IndexedDoublyConnectedEdgeList(ArrayList<Point> points) {
+        final var n = points.size();
+        // Every added edge also adds a face, keep some room so small decompositions do not need to grow
+        x = new float[n];
+        y = new float[n];
+        leavingEdge = new int[n];
+        reflex = new boolean[n];
+        next = new int[4 * n];
+        prev = new int[4 * n];
+        origin = new int[4 * n];
+        face = new int[4 * n];
+        refEdge = new int[Math.max(n, 1)];
+
+        if (n == 0) {
+            return;
+        }
+
+        //get points in counter-clockwise order
+        final Iterator<Point> iter = new Polygon(points).ccwIterator();
+        while (iter.hasNext()) {
+            final var point = iter.next();
+            x[vertexCount] = point.x;
+            y[vertexCount] = point.y;
+            vertexCount++;
+        }
+
+        /*
+         Half edge 2i goes from vertex i to vertex i + 1 and bounds the polygon,
+         its twin 2i + 1 goes back from i + 1 to i on the outside
+        */
+        final var inside = newFace();
+        for (var i = 0; i < n; i++) {
+            final var edge = newHalfEdgePair();
+            final var twin = edge ^ 1;
+            final var following = (i + 1) % n;
+            final var preceding = (i + n - 1) % n;
+
+            origin[edge] = i;
+            face[edge] = inside;
+            link(edge, 2 * following);
+
+            origin[twin] = following;
+            face[twin] = NO_FACE;
+            link(twin, 2 * preceding + 1);
+
+            leavingEdge[i] = edge;
+        }
+        refEdge[inside] = 0;
+
+        for (var i = 0; i < n; i++) {
+            final var preceding = (i + n - 1) % n;
+            final var following = (i + 1) % n;
+            if (orientation(preceding, i, following) != TurnDirection.LEFT) {//reflex angle
+                reflex[i] = true;
+                reflexCount++;
+            }
+        }
+    }
+
+    public static int twin(int edge) {
+        return edge ^ 1;
+    }
+
+    public int next(int edge) {
+        return next[edge];
+    }
+
+    public int prev(int edge) {
+        return prev[edge];
+    }
+
+    public int origin(int edge) {
+        return origin[edge];
+    }
+
+    public int destination(int edge) {
+        return origin[next[edge]];
+    }
+
+    public int face(int edge) {
+        return face[edge];
+    }
+
+    public int leavingEdge(int vertex) {
+        return leavingEdge[vertex];
+    }
+
+    public int refEdge(int face) {
+        return refEdge[face];
+    }
+
+    public float x(int vertex) {
+        return x[vertex];
+    }
+
+    public float y(int vertex) {
+        return y[vertex];
+    }
+
+    public Point getPoint(int vertex) {
+        return new Point(x[vertex], y[vertex]);
+    }
+
+    public boolean isReflex(int vertex) {
+        return reflex[vertex];
+    }
+
+    /*
+      How it works :
+      Try on incoming edge, if it is not on the correct face, try another one (rotate on edges)
+       */
+    public int getPrevEdgeOfFace(int vertex, int face) {
+        final var twin = twin(leavingEdge[vertex]);
+        var edge = twin(next[twin]);
+        //if there is only one face, "edge" is the previous edge
+        while (edge != twin) {
+            if (this.face[edge] == face)
+                return edge;
+            edge = twin(next[edge]);//rotate
+        }
+        //default to twin because if we assume that "face" is one of the adjacent faces, the last choice must be the correct one.
+        return twin;
+    }
+
+    //get edge from "from" to "to", or -1 if they are not connected
+    public int getEdgeTo(int from, int to) {
+        final var start = leavingEdge[from];
+        var edge = start;
+        do {
+            if (origin[twin(edge)] == to)
+                return edge;
+            edge = next[twin(edge)];//rotate over all edges that leave from
+        } while (edge != start);
+        return -1;
+    }
+
+    public int getCommonFace(int vertex1, int vertex2) {
+        if (DecompositionStats.COUNTING) DecompositionStats.count(DecompositionStats.Counter.CommonFaceSearches);
+        // Two boundary vertices always share the outer face, which is never the one to split
+        if (face[leavingEdge[vertex1]] != NO_FACE && face[leavingEdge[vertex1]] == face[leavingEdge[vertex2]]) {
+            return face[leavingEdge[vertex1]];
+        }
+        final var firstTwin = twin(leavingEdge[vertex1]);
+        //we need to test all incoming edges pair and find the pair with matching faces
+        var currEdge1 = twin(next[firstTwin]);
+        //start with second twin, end with first (after a completing the loop on each edges)
+        while (currEdge1 != firstTwin) {
+            final var firstTwin2 = twin(leavingEdge[vertex2]);
+            var currEdge2 = twin(next[firstTwin2]);
+            while (currEdge2 != firstTwin2) {
+                if (face[currEdge1] != NO_FACE && face[currEdge1] == face[currEdge2])
+                    return face[currEdge1];
+                currEdge2 = twin(next[currEdge2]);
+            }
+            currEdge1 = twin(next[currEdge1]);
+        }
+        return face[firstTwin];
+    }
+
+    private int getCommonFace(int vertex1, int vertex2, int hint) {
+        if (face[getPrevEdgeOfFace(vertex1, hint)] == hint && face[getPrevEdgeOfFace(vertex2, hint)] == hint) {
+            return hint;
+        }
+        return getCommonFace(vertex1, vertex2);
+    }
+
+    /**
+     * Inserts a vertex at the given position on the given half edge, see
+     * {@link DoublyConnectedEdgeList#addVertex(DCHalfEdge, Point)}.
+     * <p>
+     * Go from:
+     * <pre>
+     * ---- edge -->
+     * <--- twin ---
+     * </pre>
+     * to:
+     * <pre>
+     * ---- edge  --> vertex ---- extendedEdge -->
+     * <--- twin  --- vertex <--- extendedTwin ---
+     * </pre>
+     *
+     * @param edge The edge on which to insert the new vertex
+     * @param px   X coordinate of the new vertex
+     * @param py   Y coordinate of the new vertex
+     * @return Index of the created vertex
+     */
+    public int addVertex(int edge, float px, float py) {
+        Objects.checkIndex(edge, halfEdgeCount);
+        if (DecompositionStats.COUNTING) DecompositionStats.count(DecompositionStats.Counter.AddVertex);
+
+        final var vertex = newVertex(px, py);
+        final var twin = twin(edge);
+        final var end = origin[twin];
+        // The twin now starts at the new vertex, so the edge that came into it at the end vertex must go to the extension
+        final var beforeTwin = prev[twin];
+
+        final var extendedEdge = newHalfEdgePair();
+        final var extendedTwin = twin(extendedEdge);
+
+        origin[extendedEdge] = vertex;
+        face[extendedEdge] = face[edge];
+        link(extendedEdge, next[edge]);
+
+        origin[extendedTwin] = end;
+        face[extendedTwin] = face[twin];
+        link(extendedTwin, twin);
+
+        link(edge, extendedEdge);
+        link(beforeTwin, extendedTwin);
+        origin[twin] = vertex;
+
+        if (leavingEdge[end] == twin) {
+            leavingEdge[end] = extendedTwin;
+        }
+        leavingEdge[vertex] = extendedEdge;
+
+        return vertex;
+    }
+
+    public int addVertex(int edge, Point position) {
+        return addVertex(edge, position.x, position.y);
+    }
+
+    public int[] getVerticesOfFace(int face) {
+        if (DecompositionStats.COUNTING) DecompositionStats.count(DecompositionStats.Counter.FaceWalks);
+        final var start = refEdge[face];
+        var length = 0;
+        var currEdge = start;
+        do {
+            length++;
+            currEdge = next[currEdge];
+        } while (currEdge != start);
+
+        final var result = new int[length];
+        for (var i = 0; i < length; i++) {
+            result[i] = origin[currEdge];
+            currEdge = next[currEdge];
+        }
+        return result;
+    }
+
+    //Add an edge between two vertices and update everything.
+    public boolean addEdge(int vertex1, int vertex2) {
+        return splitFace(vertex1, vertex2, getCommonFace(vertex1, vertex2));
+    }
+
+    /**
+     * Same as {@link #addEdge(int, int)}, when the caller knows which face the new edge splits, see
+     * {@link DoublyConnectedEdgeList#addEdge(DCVertex, DCVertex, DCFace)}.
+     *
+     * @param face The face the edge splits, cannot be {@link #NO_FACE}
+     * @return True if there are no reflex vertices left
+     */
+    public boolean addEdge(int vertex1, int vertex2, int face) {
+        if (face == NO_FACE) {
+            throw new IllegalArgumentException("The outer face cannot be split");
+        }
+        return splitFace(vertex1, vertex2, getCommonFace(vertex1, vertex2, face));
+    }
+
+    private boolean splitFace(int vertex1, int vertex2, int existingFace) {
+        /*
+                New face
+          v1 -----topEdge----->
+             <----bottomEdge--- v2
+                Existing face
+        */
+        if (DecompositionStats.COUNTING) DecompositionStats.count(DecompositionStats.Counter.AddEdge);
+        final var prev1 = getPrevEdgeOfFace(vertex1, existingFace);
+        final var prev2 = getPrevEdgeOfFace(vertex2, existingFace);
+
+        //adding an edge creates a new face:
+        final var newFace = newFace();
+        final var topEdge = newHalfEdgePair();
+        final var bottomEdge = twin(topEdge);
+
+        face[topEdge] = newFace;
+        face[bottomEdge] = existingFace;
+
+        link(topEdge, next[prev2]);
+        link(bottomEdge, next[prev1]);
+
+        origin[topEdge] = vertex1;
+        origin[bottomEdge] = vertex2;
+
+        link(prev1, topEdge);
+        link(prev2, bottomEdge);
+
+        refEdge[newFace] = topEdge;
+        refEdge[existingFace] = bottomEdge;
+
+        //now update all half-edges of the new face
+        if (DecompositionStats.COUNTING) DecompositionStats.count(DecompositionStats.Counter.FaceWalks);
+        var currEdge = next[topEdge];
+        while (currEdge != topEdge) {
+            face[currEdge] = newFace;
+            currEdge = next[currEdge];
+        }
+
+        //update reflex vertices if needed
+        if (reflex[vertex1]) {
+            final var keep = orientation(origin[getPrevEdgeOfFace(vertex1, newFace)], vertex1, vertex2) != TurnDirection.LEFT
+                    || orientation(vertex2, vertex1, destination(next[bottomEdge])) != TurnDirection.LEFT;
+            if (!keep) {
+                reflex[vertex1] = false;
+                reflexCount--;
+            }
+        }
+
+        if (reflex[vertex2]) {
+            final var keep = orientation(vertex1, vertex2, destination(next[topEdge])) != TurnDirection.LEFT
+                    || orientation(origin[getPrevEdgeOfFace(vertex2, existingFace)], vertex2, vertex1) != TurnDirection.LEFT;
+            if (!keep) {
+                reflex[vertex2] = false;
+                reflexCount--;
+            }
+        }
+        return reflexCount == 0;
+    }
+
+    public boolean hasReflex() {
+        return reflexCount > 0;
+    }
+
+    @Override
+    public List<Polygon> getFacePolygons() {
+        final var result = new ArrayList<Polygon>(faceCount);
+        for (var f = 0; f < faceCount; f++) {
+            final var vertices = getVerticesOfFace(f);
+            final var points = new ArrayList<Point>(vertices.length);
+            for (var vertex : vertices) {
+                points.add(getPoint(vertex));
+            }
+            result.add(new Polygon(points));
+        }
+        return result;
+    }
+
+    @Override
+    public int getFaceCount() {
+        return faceCount;
+    }
+
+    @Override
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    @Override
+    public int getHalfEdgeCount() {
+        return halfEdgeCount;
+    }
+
+    @Override
+    public DecompositionStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public IndexedDoublyConnectedEdgeList withStats(DecompositionStats stats) {
+        this.stats = Objects.requireNonNull(stats);
+        return this;
+    }
+
+    private TurnDirection orientation(int a, int b, int c) {
+        return TurnDirection.orientation(x, y, a, b, c);
+    }
+
+    /**
+     * Set the next half edge of from, and from as the previous half edge of to
+     */
+    private void link(int from, int to) {
+        next[from] = to;
+        prev[to] = from;
+    }
+
+    private int newVertex(float px, float py) {
+        if (vertexCount == x.length) {
+            final var capacity = grow(vertexCount);
+            x = Arrays.copyOf(x, capacity);
+            y = Arrays.copyOf(y, capacity);
+            leavingEdge = Arrays.copyOf(leavingEdge, capacity);
+            reflex = Arrays.copyOf(reflex, capacity);
+        }
+        x[vertexCount] = px;
+        y[vertexCount] = py;
+        return vertexCount++;
+    }
+
+    /**
+     * @return The first half edge of the pair, its twin is the next index
+     */
+    private int newHalfEdgePair() {
+        if (halfEdgeCount + 2 > next.length) {
+            final var capacity = grow(halfEdgeCount + 2);
+            next = Arrays.copyOf(next, capacity);
+            prev = Arrays.copyOf(prev, capacity);
+            origin = Arrays.copyOf(origin, capacity);
+            face = Arrays.copyOf(face, capacity);
+        }
+        final var edge = halfEdgeCount;
+        halfEdgeCount += 2;
+        return edge;
+    }
+
+    private int newFace() {
+        if (faceCount == refEdge.length) {
+            refEdge = Arrays.copyOf(refEdge, grow(faceCount));
+        }
+        return faceCount++;
+    }
+
+    private static int grow(int size) {
+        return Math.max(8, size + (size >> 1));
+    }
+}
@@ -1,14 +1,12 @@
 package be.ulbvub.compgeom.utils;
 
-import processing.core.PVector;
-
 import java.util.Objects;
 
 public final class Line {
-    private PVector start;
-    private PVector end;
+    private Point start;
+    private Point end;
 
-    public Line(PVector start, PVector end) {
+    public Line(Point start, Point end) {
         this.start = start;
         this.end = end;
     }
@@ -21,8 +19,8 @@ public final class Line {
         return this.intersectRay(other) && other.intersectRay(this);
     }
 
-    public PVector intersectionPointWithRay(Line ray) {
-        final var dir = ray.end.copy().sub(ray.start);
+    public Point intersectionPointWithRay(Line ray) {
+        final var dir = ray.end.sub(ray.start);
         final var lv = ray.start; // linear variation
         var alpha = (dir.y * (end.x - lv.x) - end.y * dir.x + lv.y * dir.x) / (start.y * dir.x - end.y * dir.x - dir.y * (start.x - end.x));
         if (Float.isNaN(alpha)) {
@@ -33,15 +31,22 @@ public final class Line {
         assert alpha >= 0;
         assert alpha <= 1;
 
-        // Return found position
-        return start.copy().mult(alpha).add(end.copy().mult(1 - alpha));
+        // Return found position, interpolating rounds it off an axis aligned ray by an ulp on coordinates far from
+        // the origin, so take that coordinate from the ray itself
+        final var result = start.mult(alpha).add(end.mult(1 - alpha));
+        if (dir.x == 0.0f) {
+            return new Point(lv.x, result.y);
+        } else if (dir.y == 0.0f) {
+            return new Point(result.x, lv.y);
+        }
+        return result;
     }
 
-    public float pointOnRay(PVector point) {
-        final var dir = end.copy().sub(start);
+    public float pointOnRay(Point point) {
+        final var dir = end.sub(start);
 
         var beta = 0.0f;
-        final var betaDir = point.copy().sub(start);
+        final var betaDir = point.sub(start);
 
         if (dir.x != 0.0f) {
             beta = betaDir.x / dir.x;
@@ -58,11 +63,11 @@ public final class Line {
 
     public AABB getAABB() {
         return new AABB(
-                new PVector(
+                new Point(
                         Utils.min(start.x, end.x),
                         Utils.min(start.y, end.y)
                 ),
-                new PVector(
+                new Point(
                         Utils.max(start.x, end.x),
                         Utils.max(start.y, end.y)
                 )
@@ -82,11 +87,11 @@ public final class Line {
         }
     }
 
-    public PVector leftMost() {
+    public Point leftMost() {
         return start.x <= end.x ? start : end;
     }
 
-    public void setLeftMost(PVector v) {
+    public void setLeftMost(Point v) {
         if (start.x <= end.x) {
             start = v;
         } else {
@@ -94,11 +99,11 @@ public final class Line {
         }
     }
 
-    public PVector rightMost() {
+    public Point rightMost() {
         return start.x <= end.x ? end : start;
     }
 
-    public void setRightMost(PVector v) {
+    public void setRightMost(Point v) {
         if (start.x <= end.x) {
             end = v;
         } else {
@@ -108,22 +113,22 @@ public final class Line {
 
     public Line rotate90() {
         //noinspection SuspiciousNameCombination
-        return new Line(new PVector(start.y, start.x), new PVector(end.y, end.x));
+        return new Line(new Point(start.y, start.x), new Point(end.y, end.x));
     }
 
-    public PVector start() {
+    public Point start() {
         return start;
     }
 
-    public PVector end() {
+    public Point end() {
         return end;
     }
 
-    public void setStart(PVector start) {
+    public void setStart(Point start) {
         this.start = start;
     }
 
-    public void setEnd(PVector end) {
+    public void setEnd(Point end) {
         this.end = end;
     }
 
@@ -0,0 +1,58 @@
+package be.ulbvub.compgeom.utils;
+
+/**
+ * A point or vector in the plane, the coordinate type of the whole core.
+ * <p>
+ * Points are immutable: they are keys of hash and tree maps in the edge lists and the sweeps, so their operations
+ * return a new point. To move a point, replace it.
+ */
+public final class Point {
+    public final float x;
+    public final float y;
+
+    public Point(float x, float y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    public Point add(Point other) {
+        return new Point(x + other.x, y + other.y);
+    }
+
+    public Point sub(Point other) {
+        return new Point(x - other.x, y - other.y);
+    }
+
+    public Point mult(float factor) {
+        return new Point(x * factor, y * factor);
+    }
+
+    public float dist(Point other) {
+        final var dx = x - other.x;
+        final var dy = y - other.y;
+        return (float) Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /**
+     * @return A new point at the given fraction of the way from one point to the other
+     */
+    public static Point lerp(Point from, Point to, float amount) {
+        return new Point(from.x + (to.x - from.x) * amount, from.y + (to.y - from.y) * amount);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof Point other && x == other.x && y == other.y;
+    }
+
+    @Override
+    public int hashCode() {
+        // 0.0 and -0.0 are equal, so adding 0.0 makes them hash the same
+        return 31 * Float.floatToIntBits(x + 0.0f) + Float.floatToIntBits(y + 0.0f);
+    }
+
+    @Override
+    public String toString() {
+        return "[ " + x + ", " + y + " ]";
+    }
+}
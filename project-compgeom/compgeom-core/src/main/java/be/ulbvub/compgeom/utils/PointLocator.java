@@ -0,0 +1,373 @@
+package be.ulbvub.compgeom.utils;
+
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+
+/**
+ * Answers "which face contains this point" for a decomposition, in O(log n) per query.
+ * <p>
+ * The plane is cut in vertical slabs at the x coordinate of every vertex, so no vertex lies strictly inside a slab and
+ * the edges that cross a slab never change their order inside it. A query finds its slab with a binary search, then
+ * the highest edge below the point in the search tree of that slab, whose edge knows the face right above it.
+ * <p>
+ * Consecutive slabs only differ by the edges that end or start at the vertex between them, so the trees of the slabs
+ * are the versions of a single persistent tree built by a sweep from left to right (Sarnak and Tarjan). Every
+ * insertion or deletion copies the path to the nodes it changes instead of changing them, the older versions stay
+ * as they were. The tree is a treap, with the priorities hashed from the edges, so each update copies O(log n) nodes
+ * in expectation and building the map takes O(n log n) time and space. It is immutable once built, so it can be
+ * queried from several threads.
+ */
+public final class PointLocator {
+    public static final int OUTSIDE = -1;
+    private static final int NIL = -1;
+
+    // Distinct x coordinates of the vertices, slab i lies between slabX[i] and slabX[i + 1]
+    private final float[] slabX;
+    // Edge e goes from (edges[4e], edges[4e + 1]) to (edges[4e + 2], edges[4e + 3]), left to right
+    private final float[] edges;
+    private final int[] faceAbove;
+    // Root of the tree of slab i, the nodes of all versions are shared, node n holds edge nodeEdge[n]
+    private final int[] roots;
+    private final int[] nodeEdge;
+    private final int[] nodeLeft;
+    private final int[] nodeRight;
+
+    public PointLocator(FrozenDecomposition decomposition) {
+        final var coordinates = decomposition.coordinates();
+        final var faceOffsets = decomposition.faceOffsets();
+
+        slabX = distinctX(coordinates);
+
+        // Every vertex of every face starts at most one edge
+        final var maxEdges = coordinates.limit() / 2;
+        final var edgeBuffer = new float[4 * maxEdges];
+        final var faceBuffer = new int[maxEdges];
+        var edgeCount = 0;
+        for (var face = 0; face < decomposition.getFaceCount(); face++) {
+            final var start = faceOffsets.get(face);
+            final var end = faceOffsets.get(face + 1);
+            final var area = signedArea(coordinates, start, end);
+            // Flat faces, like the ones a triangulation makes on collinear vertices, contain no point
+            if (area == 0) {
+                continue;
+            }
+
+            for (var i = start; i < end; i++) {
+                final var next = i + 1 == end ? start : i + 1;
+                // Adding 0 turns -0.0 into 0.0, so the slabs can be found by binary search
+                final var ax = coordinates.get(2 * i) + 0.0f;
+                final var ay = coordinates.get(2 * i + 1);
+                final var bx = coordinates.get(2 * next) + 0.0f;
+                final var by = coordinates.get(2 * next + 1);
+                // Vertical edges do not cross any slab
+                if (ax == bx) {
+                    continue;
+                }
+
+                // The face lies left of its edges when it is counter-clockwise, which is above when going right
+                final var isAbove = (ax < bx) == (area > 0);
+                final var offset = 4 * edgeCount;
+                if (ax < bx) {
+                    edgeBuffer[offset] = ax;
+                    edgeBuffer[offset + 1] = ay;
+                    edgeBuffer[offset + 2] = bx;
+                    edgeBuffer[offset + 3] = by;
+                } else {
+                    edgeBuffer[offset] = bx;
+                    edgeBuffer[offset + 1] = by;
+                    edgeBuffer[offset + 2] = ax;
+                    edgeBuffer[offset + 3] = ay;
+                }
+                faceBuffer[edgeCount] = isAbove ? face : OUTSIDE;
+                edgeCount++;
+            }
+        }
+        edges = Arrays.copyOf(edgeBuffer, 4 * edgeCount);
+        faceAbove = Arrays.copyOf(faceBuffer, edgeCount);
+
+        final var builder = new Builder(edgeCount);
+        final var slabCount = Math.max(slabX.length - 1, 0);
+        roots = new int[slabCount];
+
+        // Edge e crosses the slabs firstSlab[e] up to lastSlab[e] excluded, bucket the edges by these slabs
+        final var firstSlab = new int[edgeCount];
+        final var lastSlab = new int[edgeCount];
+        final var startOffsets = new int[slabCount + 2];
+        final var endOffsets = new int[slabCount + 2];
+        for (var edge = 0; edge < edgeCount; edge++) {
+            firstSlab[edge] = Arrays.binarySearch(slabX, edges[4 * edge]);
+            lastSlab[edge] = Arrays.binarySearch(slabX, edges[4 * edge + 2]);
+            startOffsets[firstSlab[edge] + 1]++;
+            endOffsets[lastSlab[edge] + 1]++;
+        }
+        for (var slab = 0; slab <= slabCount; slab++) {
+            startOffsets[slab + 1] += startOffsets[slab];
+            endOffsets[slab + 1] += endOffsets[slab];
+        }
+        final var starting = bucket(firstSlab, startOffsets);
+        final var ending = bucket(lastSlab, endOffsets);
+
+        var root = NIL;
+        for (var slab = 0; slab < slabCount; slab++) {
+            // The edges that end at the left side of the slab leave before the ones starting there come in, so the
+            // tree only ever holds edges that cross a common slab
+            for (var i = endOffsets[slab]; i < endOffsets[slab + 1]; i++) {
+                root = builder.delete(root, ending[i]);
+            }
+            for (var i = startOffsets[slab]; i < startOffsets[slab + 1]; i++) {
+                root = builder.insert(root, starting[i]);
+            }
+            roots[slab] = root;
+        }
+
+        nodeEdge = Arrays.copyOf(builder.edge, builder.nodeCount);
+        nodeLeft = Arrays.copyOf(builder.left, builder.nodeCount);
+        nodeRight = Arrays.copyOf(builder.right, builder.nodeCount);
+    }
+
+    /**
+     * @return The id of the face of the decomposition that contains the point, or {@link #OUTSIDE}. A point on an
+     * edge may be reported in either face of that edge
+     */
+    public int locate(float x, float y) {
+        if (slabX.length < 2 || x < slabX[0] || x > slabX[slabX.length - 1]) {
+            return OUTSIDE;
+        }
+
+        var slab = Arrays.binarySearch(slabX, x + 0.0f);
+        if (slab < 0) {
+            slab = -slab - 2;
+        }
+        // The last vertex closes the last slab
+        slab = Math.min(slab, slabX.length - 2);
+
+        // Highest edge that is not above the point
+        var node = roots[slab];
+        var below = -1;
+        while (node != NIL) {
+            if (yAt(edges, nodeEdge[node], x) <= y) {
+                below = nodeEdge[node];
+                node = nodeRight[node];
+            } else {
+                node = nodeLeft[node];
+            }
+        }
+        return below == -1 ? OUTSIDE : faceAbove[below];
+    }
+
+    /**
+     * Locate many points at once
+     *
+     * @param points Packed coordinates of the points, {@code x0, y0, x1, y1, ...}
+     * @return For every point, the id of the face that contains it or {@link #OUTSIDE}
+     */
+    public int[] locateAll(float[] points) {
+        if (points.length % 2 != 0) {
+            throw new IllegalArgumentException("Expected pairs of coordinates, got " + points.length + " values");
+        }
+
+        final var result = new int[points.length / 2];
+        for (var i = 0; i < result.length; i++) {
+            result[i] = locate(points[2 * i], points[2 * i + 1]);
+        }
+        return result;
+    }
+
+    /**
+     * @return The amount of tree nodes of all the slabs together
+     */
+    int getNodeCount() {
+        return nodeEdge.length;
+    }
+
+    private static double yAt(float[] edges, int edge, double x) {
+        final double x1 = edges[4 * edge];
+        final double y1 = edges[4 * edge + 1];
+        final double x2 = edges[4 * edge + 2];
+        final double y2 = edges[4 * edge + 3];
+        return y1 + (y2 - y1) * (x - x1) / (x2 - x1);
+    }
+
+    /**
+     * Counting sort of the edges on the given slab, the offsets are the prefix sums of the amount of edges per slab
+     */
+    private static int[] bucket(int[] slabOfEdge, int[] offsets) {
+        final var result = new int[slabOfEdge.length];
+        final var fill = Arrays.copyOf(offsets, offsets.length);
+        for (var edge = 0; edge < slabOfEdge.length; edge++) {
+            result[fill[slabOfEdge[edge]]++] = edge;
+        }
+        return result;
+    }
+
+    private static float[] distinctX(FloatBuffer coordinates) {
+        final var xs = new float[coordinates.limit() / 2];
+        for (var i = 0; i < xs.length; i++) {
+            xs[i] = coordinates.get(2 * i) + 0.0f;
+        }
+        Arrays.sort(xs);
+
+        var count = 0;
+        for (var i = 0; i < xs.length; i++) {
+            if (count == 0 || xs[i] != xs[count - 1]) {
+                xs[count++] = xs[i];
+            }
+        }
+        return Arrays.copyOf(xs, count);
+    }
+
+    private static double signedArea(FloatBuffer coordinates, int start, int end) {
+        double twiceArea = 0;
+        for (var i = start; i < end; i++) {
+            final var next = i + 1 == end ? start : i + 1;
+            twiceArea += (double) coordinates.get(2 * i) * coordinates.get(2 * next + 1) - (double) coordinates.get(2 * next) * coordinates.get(2 * i + 1);
+        }
+        return twiceArea / 2;
+    }
+
+    /**
+     * Persistent treap on the edges crossing a slab, ordered from bottom to top. Nodes are never changed once an
+     * update returned, every update copies the nodes on its path and returns the root of the new version.
+     */
+    private final class Builder {
+        private int[] edge;
+        private int[] left;
+        private int[] right;
+        private int nodeCount;
+
+        private Builder(int edgeCount) {
+            // Every edge is inserted and deleted once, each of these copies a path, grow when the paths are long
+            final var capacity = Math.max(16, 8 * edgeCount);
+            edge = new int[capacity];
+            left = new int[capacity];
+            right = new int[capacity];
+        }
+
+        int insert(int node, int inserted) {
+            if (node == NIL || isHigherPriority(inserted, edge[node])) {
+                final var lower = split(node, inserted, true);
+                final var higher = split(node, inserted, false);
+                return newNode(inserted, lower, higher);
+            }
+            if (compare(inserted, edge[node]) < 0) {
+                return newNode(edge[node], insert(left[node], inserted), right[node]);
+            } else {
+                return newNode(edge[node], left[node], insert(right[node], inserted));
+            }
+        }
+
+        int delete(int node, int deleted) {
+            if (node == NIL) {
+                throw new IllegalStateException("Edge " + deleted + " is not in the tree of its slab");
+            }
+            if (edge[node] == deleted) {
+                return merge(left[node], right[node]);
+            }
+            if (compare(deleted, edge[node]) < 0) {
+                return newNode(edge[node], delete(left[node], deleted), right[node]);
+            } else {
+                return newNode(edge[node], left[node], delete(right[node], deleted));
+            }
+        }
+
+        /**
+         * @return A copy of the part of the tree below the edge, or above it when lower is false
+         */
+        private int split(int node, int pivot, boolean lower) {
+            if (node == NIL) {
+                return NIL;
+            }
+            if ((compare(edge[node], pivot) < 0) == lower) {
+                // The node and its subtree on the kept side stay, only the other side is split further
+                return lower
+                        ? newNode(edge[node], left[node], split(right[node], pivot, true))
+                        : newNode(edge[node], split(left[node], pivot, false), right[node]);
+            }
+            return split(lower ? left[node] : right[node], pivot, lower);
+        }
+
+        /**
+         * @param lower Tree with all its edges below the ones of higher
+         */
+        private int merge(int lower, int higher) {
+            if (lower == NIL) {
+                return higher;
+            }
+            if (higher == NIL) {
+                return lower;
+            }
+            if (isHigherPriority(edge[lower], edge[higher])) {
+                return newNode(edge[lower], left[lower], merge(right[lower], higher));
+            } else {
+                return newNode(edge[higher], merge(lower, left[higher]), right[higher]);
+            }
+        }
+
+        /**
+         * Order of two edges that cross a common slab, from bottom to top. It is decided with orientation tests on the
+         * end points rather than by comparing heights, so it is the same in every slab. An edge shared by two faces is
+         * in the tree twice and the copy that knows the face above goes last
+         */
+        private int compare(int edge1, int edge2) {
+            if (edge1 == edge2) {
+                return 0;
+            }
+            // The edge that starts last starts in the x range of the other edge
+            var order = edges[4 * edge1] >= edges[4 * edge2] ? side(edge2, edge1) : -side(edge1, edge2);
+            if (order != 0) {
+                return order;
+            }
+            order = Integer.compare(faceAbove[edge1], faceAbove[edge2]);
+            return order != 0 ? order : Integer.compare(edge1, edge2);
+        }
+
+        /**
+         * @return 1 if the edge that starts inside the range of the reference edge lies above it, -1 if it lies below
+         * and 0 if both are on the same line
+         */
+        private int side(int reference, int edge) {
+            final var start = orientation(reference, edges[4 * edge], edges[4 * edge + 1]);
+            // An edge that starts on the reference edge goes on one side of it
+            return start != 0 ? start : orientation(reference, edges[4 * edge + 2], edges[4 * edge + 3]);
+        }
+
+        private int orientation(int reference, float x, float y) {
+            final double x1 = edges[4 * reference];
+            final double y1 = edges[4 * reference + 1];
+            final double x2 = edges[4 * reference + 2];
+            final double y2 = edges[4 * reference + 3];
+            // In double, the products of the float differences keep their sign unless the point is almost on the line
+            return (int) Math.signum((x2 - x1) * (y - y1) - (y2 - y1) * (x - x1));
+        }
+
+        private int newNode(int nodeEdge, int nodeLeft, int nodeRight) {
+            if (nodeCount == edge.length) {
+                final var capacity = 2 * edge.length;
+                edge = Arrays.copyOf(edge, capacity);
+                left = Arrays.copyOf(left, capacity);
+                right = Arrays.copyOf(right, capacity);
+            }
+            edge[nodeCount] = nodeEdge;
+            left[nodeCount] = nodeLeft;
+            right[nodeCount] = nodeRight;
+            return nodeCount++;
+        }
+
+        private static boolean isHigherPriority(int edge1, int edge2) {
+            final var priority1 = priority(edge1);
+            final var priority2 = priority(edge2);
+            return priority1 != priority2 ? priority1 > priority2 : edge1 < edge2;
+        }
+
+        /**
+         * Fixed pseudo random priority, so the same decomposition always builds the same trees
+         */
+        private static int priority(int edge) {
+            var hash = edge * 0x9E3779B9;
+            hash ^= hash >>> 16;
+            hash *= 0x85EBCA6B;
+            hash ^= hash >>> 13;
+            return hash;
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package be.ulbvub.compgeom.utils;
 
 import be.ulbvub.compgeom.Polygon;
-import processing.core.PVector;
 
 import javax.swing.*;
 import javax.swing.filechooser.FileNameExtensionFilter;
@@ -82,7 +81,7 @@ public class PolygonReader {
     }
 
     private static File lastRead;
-    private final ArrayList<PVector> polygon;
+    private final ArrayList<Point> polygon;
 
     public PolygonReader() {
         polygon = new ArrayList<>();
@@ -147,7 +146,7 @@ public class PolygonReader {
             var point = line.split(";");
 
             try {
-                polygon.add(new PVector(Float.parseFloat(point[0]), Float.parseFloat(point[1])));
+                polygon.add(new Point(Float.parseFloat(point[0]), Float.parseFloat(point[1])));
             } catch (IndexOutOfBoundsException ex) {
                 throw new RuntimeException("Invalid file format detected", ex);
             }
@@ -1,7 +1,6 @@
 package be.ulbvub.compgeom.utils;
 
 import be.ulbvub.compgeom.Polygon;
-import processing.core.PVector;
 
 import javax.swing.*;
 import javax.swing.filechooser.FileNameExtensionFilter;
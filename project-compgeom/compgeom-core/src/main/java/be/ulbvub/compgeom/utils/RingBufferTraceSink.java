@@ -0,0 +1,62 @@
+package be.ulbvub.compgeom.utils;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Trace sink that only keeps the last {@code capacity} events, so tracing a large input does not grow without bound.
+ */
+public class RingBufferTraceSink implements TraceSink {
+    private final String[] entries;
+    /**
+     * Total amount of events ever recorded, the next event is written at {@code recorded % capacity}
+     */
+    private long recorded;
+
+    public RingBufferTraceSink(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be positive, got " + capacity);
+        }
+        this.entries = new String[capacity];
+    }
+
+    @Override
+    public synchronized void record(String message) {
+        entries[(int) (recorded % entries.length)] = message;
+        recorded++;
+    }
+
+    /**
+     * @return the retained events, oldest first
+     */
+    public synchronized List<String> snapshot() {
+        final var retained = (int) Math.min(recorded, entries.length);
+        final var result = new ArrayList<String>(retained);
+        for (long i = recorded - retained; i < recorded; i++) {
+            result.add(entries[(int) (i % entries.length)]);
+        }
+        return result;
+    }
+
+    /**
+     * @return the amount of events that were overwritten because the buffer was full
+     */
+    public synchronized long dropped() {
+        return Math.max(0, recorded - entries.length);
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(entries, null);
+        recorded = 0;
+    }
+
+    public void dump(PrintStream out) {
+        final var dropped = dropped();
+        if (dropped > 0) {
+            out.println("... " + dropped + " earlier events dropped");
+        }
+        snapshot().forEach(out::println);
+    }
+}
@@ -1,8 +1,5 @@
 package be.ulbvub.compgeom.utils;
 
-import processing.core.PMatrix2D;
-import processing.core.PVector;
-
 import java.util.Comparator;
 import java.util.TreeSet;
 
@@ -30,7 +27,9 @@ public class SweepLine extends TreeSet<Line> {
                 inverted = 1;
             }
 
-            switch (TurnDirection.orientation(bLine.rightMost(), bLine.leftMost(), aLine.rightMost())) {
+            // Where both are on the sweep line, bLine starts within the span of aLine, so the side of aLine its start
+            // lies on orders them. Its other end may lie beyond aLine, where the extension of aLine says nothing.
+            switch (TurnDirection.orientation(aLine.leftMost(), aLine.rightMost(), bLine.leftMost())) {
                 case RIGHT -> {
                     return 1 * inverted;
                 }
@@ -38,7 +37,7 @@ public class SweepLine extends TreeSet<Line> {
                     return -1 * inverted;
                 }
                 case STRAIGHT -> {
-                    switch (TurnDirection.orientation(bLine.rightMost(), bLine.leftMost(), aLine.leftMost())) {
+                    switch (TurnDirection.orientation(aLine.leftMost(), aLine.rightMost(), bLine.rightMost())) {
                         case RIGHT -> {
                             return 1 * inverted;
                         }
@@ -77,11 +76,11 @@ public class SweepLine extends TreeSet<Line> {
     }
 
     public static class GenericComparator implements Comparator<Line> {
-        private final PMatrix2D matrix;
+        private final Point direction;
         private final XComparator xComparator;
 
-        public GenericComparator(PVector direction) {
-            matrix = Utils.getDirectionMatrix(direction);
+        public GenericComparator(Point direction) {
+            this.direction = direction;
             xComparator = new XComparator();
         }
 
@@ -89,11 +88,11 @@ public class SweepLine extends TreeSet<Line> {
         public int compare(Line a, Line b) {
             // Transform along direction
             var aOut = new Line(
-                    matrix.mult(a.start().copy(), new PVector(0, 0)),
-                    matrix.mult(a.end().copy(), new PVector(0, 0)));
+                    Utils.alongDirection(direction, a.start()),
+                    Utils.alongDirection(direction, a.end()));
             var bOut = new Line(
-                    matrix.mult(b.start().copy(), new PVector(0, 0)),
-                    matrix.mult(b.end().copy(), new PVector(0, 0)));
+                    Utils.alongDirection(direction, b.start()),
+                    Utils.alongDirection(direction, b.end()));
             return xComparator.compare(aOut, bOut);
         }
     }
@@ -107,11 +106,11 @@ public class SweepLine extends TreeSet<Line> {
         super(new XComparator());
     }
 
-    public static SweepLine fromDirection(PVector direction) {
-        if (direction.equals(new PVector(1, 0))) {
+    public static SweepLine fromDirection(Point direction) {
+        if (direction.equals(new Point(1, 0))) {
             // Optimized version for along x-axis
             return new SweepLine(new XComparator());
-        } else if (direction.equals(new PVector(0, 1))) {
+        } else if (direction.equals(new Point(0, 1))) {
             // Optimized version along y-axis
             return new SweepLine(new YComparator());
         } else {
@@ -0,0 +1,46 @@
+package be.ulbvub.compgeom.utils;
+
+import java.io.PrintStream;
+import java.util.Objects;
+
+/**
+ * Entry point for the debug events of the decomposition algorithms.
+ * <p>
+ * Tracing is switched on with {@code -Dcompgeom.trace=true}. Call sites are expected to guard on {@link #ENABLED}:
+ * <pre>{@code if (Trace.ENABLED) Trace.log("Reflex handled: " + vertex);}</pre>
+ * As {@link #ENABLED} is a constant, the JIT removes the guarded block entirely when tracing is off, so the message
+ * is never even built. By default, events end up in a {@link RingBufferTraceSink} that retains the last
+ * {@code compgeom.trace.capacity} (4096 by default) events and can be printed with {@link #dump(PrintStream)}.
+ */
+public final class Trace {
+    public static final boolean ENABLED = Boolean.getBoolean("compgeom.trace");
+    private static final int DEFAULT_CAPACITY = 4096;
+
+    private static volatile TraceSink sink = new RingBufferTraceSink(Integer.getInteger("compgeom.trace.capacity", DEFAULT_CAPACITY));
+
+    private Trace() {
+    }
+
+    public static void log(String message) {
+        if (ENABLED) {
+            sink.record(message);
+        }
+    }
+
+    public static TraceSink getSink() {
+        return sink;
+    }
+
+    public static void setSink(TraceSink sink) {
+        Trace.sink = Objects.requireNonNull(sink);
+    }
+
+    /**
+     * Print the retained events if the current sink keeps them, does nothing otherwise
+     */
+    public static void dump(PrintStream out) {
+        if (sink instanceof RingBufferTraceSink ringBuffer) {
+            ringBuffer.dump(out);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package be.ulbvub.compgeom.utils;
+
+/**
+ * Destination for the debug events emitted by the decomposition algorithms through {@link Trace}.
+ */
+@FunctionalInterface
+public interface TraceSink {
+
+    void record(String message);
+}
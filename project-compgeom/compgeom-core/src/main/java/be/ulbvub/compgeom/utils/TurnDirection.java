@@ -0,0 +1,81 @@
+package be.ulbvub.compgeom.utils;
+
+public enum TurnDirection {
+    STRAIGHT,
+    LEFT,
+    RIGHT;
+
+    public static TurnDirection orientation(DCHalfEdge a, DCHalfEdge b, DCHalfEdge c) {
+        return TurnDirection.orientation(a.getOrigin(), b.getOrigin(), c.getOrigin());
+    }
+
+    public static TurnDirection orientation(DCVertex a, DCVertex b, DCVertex c) {
+        return TurnDirection.orientation(a.getPoint(), b.getPoint(), c.getPoint());
+    }
+
+    public static TurnDirection orientation(Point a, Point b, Point c) {
+        // Be careful as this formula assumes a right-handed axis-system
+        return of(orientationRaw(a, b, c));
+    }
+
+    public static TurnDirection orientation(float ax, float ay, float bx, float by, float cx, float cy) {
+        return of(orientationRaw(ax, ay, bx, by, cx, cy));
+    }
+
+    /**
+     * @param x Coordinates of the vertices along the x-axis, indexed by vertex id
+     * @param y Coordinates of the vertices along the y-axis, indexed by vertex id
+     */
+    public static TurnDirection orientation(float[] x, float[] y, int a, int b, int c) {
+        return of(orientationRaw(x, y, a, b, c));
+    }
+
+    private static TurnDirection of(float determinant) {
+        if (determinant > 0) {
+            return RIGHT;
+        } else if (determinant == 0) {
+            return STRAIGHT;
+        } else {
+            return LEFT;
+        }
+    }
+
+    public static float orientationRaw(DCVertex a, DCVertex b, DCVertex c) {
+        return orientationRaw(a.getPoint(), b.getPoint(), c.getPoint());
+    }
+
+    public static float orientationRaw(DCHalfEdge a, DCHalfEdge b, DCHalfEdge c) {
+        return orientationRaw(a.getOrigin().getPoint(), b.getOrigin().getPoint(), c.getOrigin().getPoint());
+    }
+
+    /**
+     * Works on the coordinates directly rather than on vector differences, so the predicate never allocates, even
+     * before the JIT compiles it or when escape analysis gives up on a caller
+     */
+    public static float orientationRaw(Point a, Point b, Point c) {
+        return orientationRaw(a.x, a.y, b.x, b.y, c.x, c.y);
+    }
+
+    /**
+     * For lists that keep their coordinates in arrays indexed by vertex id, like
+     * {@link IndexedDoublyConnectedEdgeList}, so the test reads the arrays without going through any vertex object
+     */
+    public static float orientationRaw(float[] x, float[] y, int a, int b, int c) {
+        return orientationRaw(x[a], y[a], x[b], y[b], x[c], y[c]);
+    }
+
+    /**
+     * The predicate all the other overloads come down to, for callers that store their coordinates in arrays. The
+     * result is the same to the bit as with the {@link Point} overload.
+     */
+    public static float orientationRaw(float ax, float ay, float bx, float by, float cx, float cy) {
+        if (DecompositionStats.COUNTING) DecompositionStats.count(DecompositionStats.Counter.OrientationTests);
+
+        final var kx = bx - ax;
+        final var ky = by - ay;
+        final var lx = cx - bx;
+        final var ly = cy - by;
+
+        return kx * ly - ky * lx;
+    }
+}
@@ -1,8 +1,5 @@
 package be.ulbvub.compgeom.utils;
 
-import processing.core.PMatrix2D;
-import processing.core.PVector;
-
 public class Utils {
     public static float min(float... values) {
         var result = Float.MAX_VALUE;
@@ -24,7 +21,10 @@ public class Utils {
         return result;
     }
 
-    public static PMatrix2D getDirectionMatrix(PVector direction) {
-        return new PMatrix2D(direction.x, direction.y, 0, direction.y, direction.x, 0);
+    /**
+     * @return The point transformed by the matrix of the direction, whose x orders the points along that direction
+     */
+    public static Point alongDirection(Point direction, Point point) {
+        return new Point(direction.x * point.x + direction.y * point.y, direction.y * point.x + direction.x * point.y);
     }
 }
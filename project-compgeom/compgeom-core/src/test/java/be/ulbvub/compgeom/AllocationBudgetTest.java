@@ -0,0 +1,142 @@
+package be.ulbvub.compgeom;
+
+import be.ulbvub.compgeom.decomposition.Decompositions;
+import be.ulbvub.compgeom.generator.PolygonFamilies;
+import be.ulbvub.compgeom.utils.EdgeListArena;
+import be.ulbvub.compgeom.utils.Point;
+import be.ulbvub.compgeom.utils.TurnDirection;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures how many bytes every decomposition allocates per vertex of its input, using the allocation counter
+ * of the current thread, and checks it against a budget per engine.
+ * <p>
+ * The budgets are set just above what the engines allocate today, so an extra allocation in a hot path
+ * (a comparator, an orientation test, ...) makes this test fail. Lower the budget when an engine gets cheaper.
+ * <p>
+ * These tests run in {@code ./gradlew allocationTest}, which is part of {@code check}. Assertions are on there like in
+ * the other test tasks, so the budgets include what they allocate. The validator and the operation counters are off,
+ * so the budgets leave those out.
+ */
+@Tag("allocation")
+class AllocationBudgetTest {
+    private static final int SIZE = 1000;
+    private static final int CHAZELLE_SIZE = 16;
+    private static final int WARMUP_RUNS = 20;
+    private static final int RUNS = 10;
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    @BeforeAll
+    static void setUp() {
+        final var bean = ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Allocation counters are not available on this JVM");
+        threads = (com.sun.management.ThreadMXBean) bean;
+        Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported(), "Allocation counters are not supported on this JVM");
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    /**
+     * Bytes that may be allocated per vertex of the input polygon, measured on a saw of {@link #SIZE} vertices
+     * ({@link #CHAZELLE_SIZE} for Chazelle)
+     */
+    private static long budget(Decompositions engine) {
+        return switch (engine) {
+            // The DCEL index of half edges by vertex pair accounts for about 300 bytes per vertex
+            case Triangulation -> 1_500;
+            case Greedy -> 1_500;
+            case Slab -> 2_500;
+            // The triangulation, then the sets of removed and relabelled half edges
+            case HertelMehlhorn -> 2_500;
+            // Varies between 14k and 26k from run to run, depending on what the JIT manages to scalar replace
+            case Kd -> 40_000;
+            // Builds every pattern between every pair of notches, so this grows quickly with the input
+            case Chazelle -> 1_000_000;
+        };
+    }
+
+    @ParameterizedTest
+    @EnumSource(Decompositions.class)
+    void testAllocationsWithinBudget(Decompositions engine) {
+        final var size = engine == Decompositions.Chazelle ? CHAZELLE_SIZE : SIZE;
+        final var polygon = PolygonFamilies.Saw.generator(42, 0).generate(size);
+
+        // Let the JIT settle first, escape analysis removes some allocations once the code is compiled
+        for (var run = 0; run < WARMUP_RUNS; run++) {
+            engine.config(polygon).decompose();
+        }
+
+        final var perVertex = bytesAllocated(engine, polygon, null) / size;
+        assertTrue(perVertex <= budget(engine),
+                engine + " allocates " + perVertex + " bytes per vertex, which exceeds its budget of " + budget(engine));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Decompositions.class, names = {"Triangulation", "Greedy", "Slab", "HertelMehlhorn", "Kd"})
+    void testArenaAllocatesLess(Decompositions engine) {
+        final var polygon = PolygonFamilies.Saw.generator(42, 0).generate(SIZE);
+        final var arena = new EdgeListArena();
+        for (var run = 0; run < WARMUP_RUNS; run++) {
+            engine.config(polygon).decompose();
+            arena.run(() -> engine.config(polygon).decompose());
+        }
+
+        final var plain = bytesAllocated(engine, polygon, null);
+        final var reused = bytesAllocated(engine, polygon, arena);
+        // The arena saves the vertices, half edges and faces, and the containers of the list
+        assertTrue(plain - reused >= 200L * SIZE,
+                engine + " allocates " + reused / SIZE + " bytes per vertex with an arena and " + plain / SIZE + " without");
+    }
+
+    @Test
+    void testOrientationDoesNotAllocate() {
+        final var a = new Point(0, 0);
+        final var b = new Point(3, 1);
+        final var c = new Point(1, 2);
+
+        // Only loads the classes, the predicate is not warmed up on purpose as it should not rely on escape analysis
+        final var expected = 10_000 * TurnDirection.orientationRaw(a, b, c);
+        final var start = threads.getCurrentThreadAllocatedBytes();
+        var sum = 0f;
+        for (var i = 0; i < 10_000; i++) {
+            sum += TurnDirection.orientationRaw(a, b, c);
+        }
+        final var allocated = threads.getCurrentThreadAllocatedBytes() - start;
+
+        assertEquals(expected, sum);
+        assertTrue(allocated < 1_000, "10000 orientation tests allocate " + allocated + " bytes");
+    }
+
+    /**
+     * Fewest bytes allocated by the current thread over several decompositions of the polygon
+     *
+     * @param arena Arena the decompositions run in, null to run them without
+     */
+    private static long bytesAllocated(Decompositions engine, Polygon polygon, EdgeListArena arena) {
+        var fewest = Long.MAX_VALUE;
+        for (var run = 0; run < RUNS; run++) {
+            final var config = engine.config(polygon);
+            final var start = threads.getCurrentThreadAllocatedBytes();
+            if (arena == null) {
+                config.decompose();
+            } else {
+                arena.run(config::decompose);
+            }
+            final var allocated = threads.getCurrentThreadAllocatedBytes() - start;
+
+            fewest = Math.min(fewest, allocated);
+        }
+
+        return fewest;
+    }
+}
@@ -0,0 +1,119 @@
+package be.ulbvub.compgeom;
+
+import be.ulbvub.compgeom.generator.PolygonFamilies;
+import be.ulbvub.compgeom.decomposition.Decompositions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs every decomposition on doubling polygon sizes, fits the growth exponent of the running time and checks it
+ * against the bound declared in its {@link be.ulbvub.compgeom.decomposition.DecompositionConfig#complexity()}.
+ * <p>
+ * As these tests depend on timing, they only run with {@code ./gradlew complexityTest}.
+ */
+@Tag("complexity")
+class ComplexityTest {
+    private static final int[] SIZES = {1000, 2000, 4000, 8000};
+    /**
+     * Spread over a factor 3, so every extra factor n in the growth triples the time of the largest polygon
+     */
+    private static final int[] CHAZELLE_SIZES = {64, 96, 128, 192};
+    /**
+     * The saw has a reflex vertex for every tooth, the random stars scatter theirs in every direction
+     */
+    private static final PolygonFamilies[] FAMILIES = {PolygonFamilies.Saw, PolygonFamilies.Star};
+    private static final float STAR_REFLEX_RATIO = 0.3f;
+    /**
+     * Margin on the fitted exponent to absorb measurement noise, while still catching an extra factor n
+     */
+    private static final double TOLERANCE = 0.5;
+    private static final int MIN_RUNS = 5;
+    /**
+     * A single decomposition of the largest polygon already takes more than a second
+     */
+    private static final int CHAZELLE_MIN_RUNS = 2;
+    private static final long MIN_NANOS = 500_000_000L;
+    /**
+     * The JIT keeps recompiling for dozens of runs on the larger polygons, a single run is far from enough
+     */
+    private static final long WARMUP_NANOS = 1_000_000_000L;
+
+    @ParameterizedTest
+    @EnumSource(Decompositions.class)
+    void testGrowthWithinBound(Decompositions engine) {
+        for (var family : FAMILIES) {
+            assertGrowthWithinBound(engine, family);
+        }
+    }
+
+    private static void assertGrowthWithinBound(Decompositions engine, PolygonFamilies family) {
+        final var sizes = engine == Decompositions.Chazelle ? CHAZELLE_SIZES : SIZES;
+        final var minRuns = engine == Decompositions.Chazelle ? CHAZELLE_MIN_RUNS : MIN_RUNS;
+        final var polygons = new Polygon[sizes.length];
+        for (var i = 0; i < sizes.length; i++) {
+            polygons[i] = family.generator(42, STAR_REFLEX_RATIO).generate(sizes[i]);
+        }
+        final var bound = engine.config(polygons[0]).complexity();
+
+        // Warm up the JIT on every size before measuring
+        for (var polygon : polygons) {
+            final var start = System.nanoTime();
+            do {
+                engine.config(polygon).decompose();
+            } while (System.nanoTime() - start < WARMUP_NANOS);
+        }
+
+        final var logN = new double[sizes.length];
+        final var logTime = new double[sizes.length];
+        for (var i = 0; i < sizes.length; i++) {
+            final var time = (double) fastestRun(engine, polygons[i], minRuns);
+            // Divide out the logarithmic factor so only the polynomial exponent is left to fit
+            logN[i] = Math.log(sizes[i]);
+            logTime[i] = Math.log(bound.isLogarithmic() ? time / logN[i] : time);
+        }
+
+        final var exponent = slope(logN, logTime);
+        assertTrue(exponent <= bound.exponent() + TOLERANCE, engine + " grows as n^" + String.format("%.2f", exponent)
+                + " on the " + family + " family, which exceeds its declared bound " + bound);
+    }
+
+    private static long fastestRun(Decompositions engine, Polygon polygon, int minRuns) {
+        var fastest = Long.MAX_VALUE;
+        var total = 0L;
+        for (var run = 0; run < minRuns || total < MIN_NANOS; run++) {
+            final var config = engine.config(polygon);
+            final var start = System.nanoTime();
+            config.decompose();
+            final var elapsed = System.nanoTime() - start;
+
+            fastest = Math.min(fastest, elapsed);
+            total += elapsed;
+        }
+
+        return fastest;
+    }
+
+    /**
+     * Least squares slope of y in function of x
+     */
+    private static double slope(double[] x, double[] y) {
+        var meanX = 0.0;
+        var meanY = 0.0;
+        for (var i = 0; i < x.length; i++) {
+            meanX += x[i] / x.length;
+            meanY += y[i] / y.length;
+        }
+
+        var covariance = 0.0;
+        var variance = 0.0;
+        for (var i = 0; i < x.length; i++) {
+            covariance += (x[i] - meanX) * (y[i] - meanY);
+            variance += (x[i] - meanX) * (x[i] - meanX);
+        }
+
+        return covariance / variance;
+    }
+}
@@ -2,7 +2,6 @@ package be.ulbvub.compgeom;
 
 import be.ulbvub.compgeom.utils.*;
 import org.junit.jupiter.api.BeforeEach;
-import processing.core.PVector;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -20,30 +19,33 @@ public abstract class DecompositionTest {
     void setUp() {
         square = new Polygon(new ArrayList<>() {
             {
-                add(new PVector(0, 0));
-                add(new PVector(1, 0));
-                add(new PVector(1, 1));
-                add(new PVector(0, 1));
+                add(new Point(0, 0));
+                add(new Point(1, 0));
+                add(new Point(1, 1));
+                add(new Point(0, 1));
             }
         });
         triangle = new Polygon(new ArrayList<>() {
             {
-                add(new PVector(0, 0));
-                add(new PVector(0.5f, 1));
-                add(new PVector(1, 0));
+                add(new Point(0, 0));
+                add(new Point(0.5f, 1));
+                add(new Point(1, 0));
             }
         });
         rotatedSquare = new Polygon(new ArrayList<>() {
             {
-                add(new PVector(1, 0.5f));
-                add(new PVector(0.5f, 0));
-                add(new PVector(0, 0.5f));
-                add(new PVector(0.5f, 1));
+                add(new Point(1, 0.5f));
+                add(new Point(0.5f, 0));
+                add(new Point(0, 0.5f));
+                add(new Point(0.5f, 1));
             }
         });
     }
 
     public void assertValidDecomposition(Polygon source, DoublyConnectedEdgeList dcel) {
+        // Links, face walks and crossings
+        EdgeListValidator.validate(dcel);
+
         // Check if DCEL is convex for every face
         for (var face : dcel.getFaces()) {
             assertConvex(face);
@@ -0,0 +1,292 @@
+package be.ulbvub.compgeom;
+
+import be.ulbvub.compgeom.utils.Point;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.text.DecimalFormat;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimplePolygonTest {
+
+	//A flag-shaped polygon
+	private SimplePolygon flagPolygon;
+
+	private SimplePolygon bigNonConvexShape;
+
+	private SimplePolygon nonConvexRectangle;
+
+	@BeforeEach
+	void setUp() {
+		//The (1, 1) point is a reflex point
+		this.flagPolygon = new SimplePolygon(new LinkedList<>(Arrays.asList(
+				new Point(0, 0),
+				//reflex point
+				new Point(1, 1),
+				new Point(0, 2),
+				new Point(2, 2),
+				new Point(2, 0)
+		)));
+		this.bigNonConvexShape = new SimplePolygon(new ArrayList<>(Arrays.asList(
+				new Point(6, 0),
+				//Reflex point
+				new Point(6, 2),
+				new Point(4, 1),
+				//Reflex point
+				new Point(4, 5),
+				new Point(2, 3),
+				new Point(0, 6),
+				//Reflex point
+				new Point(4, 7),
+				//Reflex point
+				new Point(4, 8),
+				new Point(0, 8),
+				//Reflex point
+				new Point(3, 11),
+				new Point(2, 14),
+				//Reflex point
+				new Point(6, 12),
+				new Point(9, 15),
+				//Reflex point
+				new Point(11, 10),
+				new Point(14, 12),
+				new Point(12, 5),
+				//Reflex point
+				new Point(9, 7),
+				new Point(10, 1)
+		)));
+		this.nonConvexRectangle = new SimplePolygon(new ArrayList<>(Arrays.asList(
+				new Point(0, 0),
+				new Point(0, 7),
+				new Point(9, 7),
+				//Notch
+				new Point(10, 6),
+				new Point(11, 7),
+				new Point(15, 7),
+				//Notch
+				new Point(16, 6),
+				new Point(16, 7),
+				new Point(22, 7),
+				//Notch
+				new Point(22, 6),
+				new Point(23, 7),
+				new Point(25, 7),
+				new Point(25, 0),
+				new Point(20, 0),
+				//Notch
+				new Point(19, 1),
+				new Point(18, 0),
+				new Point(11, 0),
+				//Notch
+				new Point(10, 1),
+				new Point(9, 0),
+				new Point(3, 0),
+				//Notch
+				new Point(3, 1),
+				new Point(2, 0)
+		)));
+	}
+
+	@Test
+	void given_a_polygon_then_split_returns_valid_polygons() {
+		final var rightPolygonA = nonConvexRectangle.clone();
+		final var leftPolygonA = rightPolygonA.split(new Point(10, 6), new Point(10, 1));
+
+		final var rightPolygonB = nonConvexRectangle.clone();
+		final var leftPolygonB = rightPolygonB.split(new Point(9, 7), new Point(3, 1));
+
+		assertEquals(new ArrayList<>(List.of(
+				new Point(10, 6),
+				new Point(11, 7),
+				new Point(15, 7),
+				//Notch
+				new Point(16, 6),
+				new Point(16, 7),
+				new Point(22, 7),
+				//Notch
+				new Point(22, 6),
+				new Point(23, 7),
+				new Point(25, 7),
+				new Point(25, 0),
+				new Point(20, 0),
+				//Notch
+				new Point(19, 1),
+				new Point(18, 0),
+				new Point(11, 0),
+				//Notch
+				new Point(10, 1))
+				), leftPolygonA.points()
+		);
+		assertEquals(new ArrayList<>(List.of(
+				new Point(0, 0),
+				new Point(0, 7),
+				new Point(9, 7),
+				//Notch
+				new Point(10, 6),
+				new Point(10, 1),
+				new Point(9, 0),
+				new Point(3, 0),
+				//Notch
+				new Point(3, 1),
+				new Point(2, 0))
+				), rightPolygonA.points()
+		);
+
+		assertEquals(new ArrayList<>(List.of(
+						new Point(9, 7),
+						new Point(10, 6),
+						new Point(11, 7),
+						new Point(15, 7),
+						//Notch
+						new Point(16, 6),
+						new Point(16, 7),
+						new Point(22, 7),
+						//Notch
+						new Point(22, 6),
+						new Point(23, 7),
+						new Point(25, 7),
+						new Point(25, 0),
+						new Point(20, 0),
+						//Notch
+						new Point(19, 1),
+						new Point(18, 0),
+						new Point(11, 0),
+						//Notch
+						new Point(10, 1),
+						new Point(9, 0),
+						new Point(3, 0),
+						new Point(3, 1))
+				), leftPolygonB.points()
+		);
+		assertEquals(new ArrayList<>(List.of(
+						new Point(0, 0),
+						new Point(0, 7),
+						new Point(9, 7),
+						new Point(3, 1),
+						new Point(2, 0))
+				), rightPolygonB.points()
+		);
+	}
+
+	@Test
+	void given_polygon_then_get_notch_range_returns_the_actual_notch_range() {
+		final List<Point> expectedRange = new ArrayList<>(List.of(
+				new Point(2, 2),
+				new Point(2, 0)
+		));
+		final List<Point> expectedRangeNonConvexRectangle1 = new ArrayList<>(List.of(
+				new Point(9, 7)
+		));
+		final List<Point> expectedRangeNonConvexRectangle2 = new ArrayList<>(List.of(
+				new Point(25, 7)
+		));
+		final List<Point> flagPolygonNotchRange = flagPolygon.getNotchRange(new Point(1, 1), 1);
+		System.out.println("----");
+		final List<Point> nonConvexRectangleNotchRange1 = nonConvexRectangle.getNotchRange(new Point(3, 1), 6);
+
+		//final List<Point> nonConvexRectangleNotchRange2 = nonConvexRectangle.getNotchRange(new Point(19, 1), 6);
+
+		assertEquals(expectedRange, flagPolygonNotchRange);
+		assertEquals(expectedRangeNonConvexRectangle1, nonConvexRectangleNotchRange1);
+		//assertEquals(expectedRangeNonConvexRectangle2, nonConvexRectangleNotchRange2);
+	}
+
+	@Test
+	void given_3_points_then_oriented_angle_returns_valid_result() {
+		//8 digits decimal precision
+		final var format = new DecimalFormat("#.########");
+
+		final double angle1 = SimplePolygon.orientedAngle(new Point(0, 1),
+				new Point(0, 0),
+				new Point(1, 0));
+		final double angle2 = SimplePolygon.orientedAngle(new Point((float) Math.cos(Math.PI/4), (float) Math.sin(Math.PI / 4)),
+				new Point(0, 0),
+				new Point(1, 0));
+		final double angle3 = SimplePolygon.orientedAngle(new Point((float) Math.cos(Math.PI/6), (float) Math.sin(Math.PI / 6)),
+				new Point(0, 0),
+				new Point(1, 0));
+
+		assertEquals(format.format(Math.PI/2), format.format(angle1));
+		assertEquals(format.format(Math.PI/4), format.format(angle2));
+		assertEquals(format.format(Math.PI/6), format.format(angle3));
+	}
+
+	@Test
+	void given_2_points_then_within_polygon_returns_correct_value() {
+		assertTrue(flagPolygon.exists(new Point(0, 0), new Point(2, 0)));
+		assertTrue(flagPolygon.exists(new Point(1, 1), new Point(0, 2)));
+		assertTrue(nonConvexRectangle.isInside(new Point(3, 1), new Point(0, 0)));
+
+		assertFalse(flagPolygon.exists(new Point(0, 0), new Point(0, 2)));
+	}
+
+	@Test
+	void given_2_points_of_P_then_isInside_returns_correct_value() {
+		//Check inside is true
+		assertTrue(flagPolygon.isInside(new Point(1, 1), new Point(2, 2)));
+		assertTrue(flagPolygon.isInside(new Point(2, 2), new Point(1, 1)));
+		//Check outside is false
+		assertFalse(flagPolygon.isInside(new Point(0, 0), new Point(0, 2)));
+		assertFalse(flagPolygon.isInside(new Point(0, 2), new Point(0, 0)));
+		//Check for a b where the segment a b is in P
+		assertTrue(flagPolygon.isInside(new Point(1, 1), new Point(0, 0)));
+		assertTrue(flagPolygon.isInside(new Point(0, 0), new Point(1, 1)));
+
+		//Check for a more complex polygon
+		assertFalse(bigNonConvexShape.isInside(new Point(4, 5), new Point(0, 8)));
+		assertFalse(bigNonConvexShape.isInside(new Point(0, 8), new Point(4, 5)));
+		assertFalse(bigNonConvexShape.isInside(new Point(4, 5), new Point(3, 11)));
+		assertFalse(bigNonConvexShape.isInside(new Point(3, 11), new Point(4, 5)));
+
+		assertTrue(bigNonConvexShape.isInside(new Point(9, 7), new Point(6, 12)));
+		assertTrue(bigNonConvexShape.isInside(new Point(6, 12), new Point(9, 7)));
+	}
+
+	@Test
+	void given_2_segments_then_do_intersect_returns_correct_value() {
+		final Point[] segmentA = new Point[] {new Point(0, 10), new Point(5, 0)};
+		final Point[] segmentB = new Point[] {new Point(2.5f, 5), new Point(7.5f, 5)};
+
+		final Point[] segmentC = new Point[] {new Point(0, 0), new Point(1, 1)};
+		final Point[] segmentD = new Point[] {new Point(1.5f, 1.5f), new Point(10, 1.5f)};
+
+		assertTrue(SimplePolygon.doIntersect(segmentA, segmentB));
+		assertFalse(SimplePolygon.doIntersect(segmentC, segmentD));
+	}
+
+	@Test
+	void given_2_intersecting_segments_then_get_intersection_returns_correct_coordinates() {
+		final Point[] segmentA = new Point[] {new Point(0, 0), new Point(3, 3)};
+		final Point[] segmentB = new Point[] {new Point(0, 3), new Point(3, 0)};
+
+		assertEquals(Optional.of(new Point(1.5f, 1.5f)), SimplePolygon.getIntersection(segmentA, segmentB));
+	}
+
+	@Test
+	void given_1_point_of_P_and_another_point_not_in_P_then_isInside_returns_correct_value() {
+		//Check inside is true
+		assertTrue(flagPolygon.isInside(new Point(0, 0), new Point(1, 0.5f)));
+		assertTrue(flagPolygon.isInside(new Point(0, 0), new Point(1.5f, 1)));
+		assertTrue(flagPolygon.isInside(new Point(1, 1), new Point(1, 2)));
+
+		assertFalse(flagPolygon.isInside(new Point(0, 0), new Point(-1, 1)));
+		assertFalse(flagPolygon.isInside(new Point(0, 0), new Point(2, 5f)));
+		assertFalse(flagPolygon.isInside(new Point(0, 0), new Point(1, 1.5f)));
+	}
+
+	@Test
+	void given_a_point_isInside_returns_true_if_given_point_is_inside_P() {
+		assertTrue(flagPolygon.isInside(new Point(0, 0)));
+		assertTrue(flagPolygon.isInside(new Point(0.5f, 0.5f)));
+		assertTrue(flagPolygon.isInside(new Point(1.5f, 1)));
+		assertTrue(flagPolygon.isInside(new Point(1.5f, 1.5f)));
+		assertTrue(flagPolygon.isInside(new Point(1, 0)));
+
+		assertFalse(flagPolygon.isInside(new Point(-1, 1)));
+		assertFalse(flagPolygon.isInside(new Point(3, 1)));
+		assertFalse(flagPolygon.isInside(new Point(-1, 0)));
+	}
+
+}
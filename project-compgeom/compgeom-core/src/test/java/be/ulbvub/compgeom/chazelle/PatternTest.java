@@ -0,0 +1,59 @@
+package be.ulbvub.compgeom.chazelle;
+
+import be.ulbvub.compgeom.SimplePolygon;
+import be.ulbvub.compgeom.utils.Point;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class PatternTest {
+
+	private SimplePolygon nonConvexRectangle;
+
+	@BeforeEach
+	void setup() {
+		this.nonConvexRectangle = new SimplePolygon(new ArrayList<>(Arrays.asList(
+				new Point(0, 0),
+				new Point(0, 7),
+				new Point(9, 7),
+				//Notch
+				new Point(10, 6),
+				new Point(11, 7),
+				new Point(15, 7),
+				//Notch
+				new Point(16, 6),
+				new Point(16, 7),
+				new Point(22, 7),
+				//Notch
+				new Point(22, 6),
+				new Point(23, 7),
+				new Point(25, 7),
+				new Point(25, 0),
+				new Point(20, 0),
+				//Notch
+				new Point(19, 1),
+				new Point(18, 0),
+				new Point(11, 0),
+				//Notch
+				new Point(10, 1),
+				new Point(9, 0),
+				new Point(5, 0),
+				//Notch
+				new Point(5, 1),
+				new Point(4, 0)
+		)));
+	}
+
+	@Test
+	void given_polygon_and_xk_patterns_then_can_split_returns_correct_value() {
+		final var x3Pattern = new Pattern.X3Pattern(new Point(16, 6), new Point(22, 6), new Point(19, 1));
+		final var x2Pattern = new Pattern.X2Pattern(new Point(10, 6), new Point(10, 1));
+
+		Assertions.assertTrue(x3Pattern.canSplit(nonConvexRectangle));
+		Assertions.assertTrue(x2Pattern.canSplit(nonConvexRectangle));
+	}
+
+}
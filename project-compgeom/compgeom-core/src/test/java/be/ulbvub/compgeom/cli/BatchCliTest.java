@@ -0,0 +1,63 @@
+package be.ulbvub.compgeom.cli;
+
+import be.ulbvub.compgeom.generator.PolygonGenerator;
+import be.ulbvub.compgeom.utils.PolygonWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchCliTest {
+
+    @Test
+    void testDecomposeDirectory(@TempDir Path directory) throws IOException {
+        final var input = Files.createDirectory(directory.resolve("input"));
+        final var output = directory.resolve("output");
+        new PolygonWriter(new PolygonGenerator.SawGenerator().generate(20)).writeFile(input.resolve("saw.poly").toFile());
+        new PolygonWriter(new PolygonGenerator.IndentedGenerator().generate(18)).writeFile(input.resolve("indented.poly").toFile());
+
+        final var out = new ByteArrayOutputStream();
+        final var code = BatchCli.run(new String[]{"--headless", "--engine", "triangulation", "--output", output.toString(), input.toString()},
+                new PrintStream(out), System.err);
+
+        assertEquals(0, code);
+        // A triangulation of n vertices has n - 2 triangles, separated by empty lines
+        final var saw = Files.readAllLines(output.resolve("saw.triangulation.poly"));
+        assertEquals(18 * 3 + 17, saw.size());
+        assertTrue(Files.exists(output.resolve("indented.triangulation.poly")));
+
+        final var summary = Files.readAllLines(output.resolve("summary.csv"));
+        assertEquals(3, summary.size());
+        assertTrue(summary.get(2).contains(";Triangulation;20;"));
+        assertEquals(String.join(System.lineSeparator(), summary) + System.lineSeparator(), out.toString());
+    }
+
+    @Test
+    void testMinkowski(@TempDir Path directory) throws IOException {
+        final var polygon = directory.resolve("saw.poly");
+        final var shape = directory.resolve("square.poly");
+        new PolygonWriter(new PolygonGenerator.SawGenerator().generate(10)).writeFile(polygon.toFile());
+        Files.write(shape, List.of("0;0", "10;0", "10;10", "0;10"));
+
+        final var code = BatchCli.run(new String[]{"--headless", "--engine", "Kd", "--minkowski", shape.toString(), "--output", directory.toString(), polygon.toString()},
+                new PrintStream(new ByteArrayOutputStream()), System.err);
+
+        assertEquals(0, code);
+        assertTrue(Files.exists(directory.resolve("saw.kd.minkowski.poly")));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        final var err = new ByteArrayOutputStream();
+        assertEquals(2, BatchCli.run(new String[]{"--headless", "--engine", "Unknown", "x.poly"}, System.out, new PrintStream(err)));
+        assertTrue(err.toString().startsWith("Unknown engine: Unknown"));
+        assertEquals(2, BatchCli.run(new String[]{"--headless", "--engine", "Kd"}, System.out, new PrintStream(err)));
+    }
+}
@@ -0,0 +1,105 @@
+package be.ulbvub.compgeom.generator;
+
+import be.ulbvub.compgeom.Polygon;
+import be.ulbvub.compgeom.SimplePolygon;
+import be.ulbvub.compgeom.chazelle.NotchFinder;
+import be.ulbvub.compgeom.utils.Point;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolygonGeneratorTest {
+
+    private static final int[] SIZES = {6, 10, 50, 200, 1000};
+
+    /**
+     * O(n^2) check that no two non-adjacent edges touch or cross and that no two vertices coincide
+     */
+    public static void assertSimple(Polygon polygon) {
+        final var points = polygon.points();
+        final var n = points.size();
+        for (var i = 0; i < n; i++) {
+            for (var j = i + 1; j < n; j++) {
+                assertNotEquals(points.get(i), points.get(j), "Vertices " + i + " and " + j + " coincide");
+
+                final var adjacent = j == i + 1 || (i == 0 && j == n - 1);
+                if (adjacent) continue;
+
+                final var edge1 = new Point[]{points.get(i), points.get((i + 1) % n)};
+                final var edge2 = new Point[]{points.get(j), points.get((j + 1) % n)};
+                assertFalse(SimplePolygon.doIntersect(edge1, edge2), "Edges " + i + " and " + j + " intersect");
+            }
+        }
+    }
+
+    private static int reflexCount(Polygon polygon) {
+        // The notch finder expects clockwise order, so this also checks the orientation of the polygon
+        return new NotchFinder(new SimplePolygon(polygon.points())).findNotches().getNotches().size();
+    }
+
+    @Test
+    void allFamiliesAreSimple() {
+        for (var family : PolygonFamilies.values()) {
+            final var generator = family.generator(42, 0.3f);
+            for (var size : SIZES) {
+                final var polygon = generator.generate(size);
+                assertTrue(polygon.points().size() <= size, family + " generated too many vertices for size " + size);
+                assertTrue(polygon.points().size() >= 3, family + " generated a degenerate polygon for size " + size);
+                assertSimple(polygon);
+                assertTrue(reflexCount(polygon) < polygon.points().size() - 2, family + " is not in clockwise order");
+            }
+        }
+    }
+
+    @Test
+    void twoOptRejectsTouchingEdges() {
+        final var bowtie = new ArrayList<>(List.of(new Point(0, 0), new Point(1, 1), new Point(1, 0), new Point(0, 1)));
+        assertTrue(PolygonGenerator.TwoOptGenerator.untangle(bowtie));
+        assertSimple(new Polygon(bowtie));
+
+        // The 2-opt move does not shorten the tour on collinear overlapping edges, so the sample is rejected instead
+        final var collinear = new ArrayList<>(List.of(new Point(0, 0), new Point(3, 0), new Point(1, 0), new Point(2, 0), new Point(1, 5)));
+        assertFalse(PolygonGenerator.TwoOptGenerator.untangle(collinear));
+    }
+
+    @Test
+    void sameSeedSamePolygon() {
+        for (var family : PolygonFamilies.values()) {
+            assertEquals(family.generator(7, 0.2f).generate(100), family.generator(7, 0.2f).generate(100));
+        }
+        assertNotEquals(new PolygonGenerator.StarGenerator(1, 0.2f).generate(100), new PolygonGenerator.StarGenerator(2, 0.2f).generate(100));
+    }
+
+    @Test
+    void starReflexRatio() {
+        for (var ratio : new float[]{0f, 0.1f, 0.25f, 0.5f}) {
+            final var polygon = new PolygonGenerator.StarGenerator(3, ratio).generate(400);
+            assertEquals(400, polygon.points().size());
+            assertEquals(Math.round(ratio * 400), reflexCount(polygon));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new PolygonGenerator.StarGenerator(3, 0.75f));
+    }
+
+    @Test
+    void prefabFamiliesScale() {
+        assertEquals(1000, new PolygonGenerator.SawGenerator().generate(1000).points().size());
+        assertEquals(498, reflexCount(new PolygonGenerator.SawGenerator().generate(1000)));
+
+        final var indented = new PolygonGenerator.IndentedGenerator().generate(402);
+        assertEquals(402, indented.points().size());
+        assertEquals(200, reflexCount(indented));
+
+        final var curl = new PolygonGenerator.CurlGenerator(3).generate(1000);
+        assertEquals(1000, curl.points().size());
+        assertEquals(498, reflexCount(curl));
+
+        final var orthogonal = new PolygonGenerator.OrthogonalGenerator(5).generate(1000);
+        assertEquals(1000, orthogonal.points().size());
+        assertEquals(498, reflexCount(orthogonal));
+
+        assertThrows(IllegalArgumentException.class, () -> new PolygonGenerator.SawGenerator().generate(3));
+    }
+}
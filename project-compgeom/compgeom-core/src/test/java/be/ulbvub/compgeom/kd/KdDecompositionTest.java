@@ -1,11 +1,14 @@
 package be.ulbvub.compgeom.kd;
 
 import be.ulbvub.compgeom.DecompositionTest;
+import be.ulbvub.compgeom.generator.PolygonFamilies;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.HashSet;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class KdDecompositionTest extends DecompositionTest {
 
@@ -146,4 +149,27 @@ class KdDecompositionTest extends DecompositionTest {
         assertEquals(12, result.getFaces().size());
         assertEquals(80, result.getEdges().size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void decomposeLongSaw() {
+        // Coordinates far from the origin, where interpolating the cuts rounds them off their ray
+        final var polygon = PolygonFamilies.Saw.generator(42, 0).generate(1000);
+
+        final var decomposition = new KdDecomposition(polygon);
+        decomposition.run();
+        final var result = decomposition.getDecomposition();
+
+        assertValidDecomposition(polygon, result);
+        // Every inserted vertex ends a cut from a reflex vertex, so it shares one of its coordinates
+        final var xs = new HashSet<Float>();
+        final var ys = new HashSet<Float>();
+        for (var point : polygon.points()) {
+            xs.add(point.x);
+            ys.add(point.y);
+        }
+        for (var vertex : result.getVertices()) {
+            final var point = vertex.getPoint();
+            assertTrue(xs.contains(point.x) || ys.contains(point.y), point + " is not on a cut");
+        }
+    }
+}
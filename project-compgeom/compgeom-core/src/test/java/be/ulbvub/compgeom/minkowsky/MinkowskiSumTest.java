@@ -1,12 +1,12 @@
 package be.ulbvub.compgeom.minkowsky;
 
 import be.ulbvub.compgeom.Polygon;
-import be.ulbvub.compgeom.ui.DecompositionConfig;
-import be.ulbvub.compgeom.ui.MinkowskiConfig;
+import be.ulbvub.compgeom.decomposition.DecompositionConfig;
+import be.ulbvub.compgeom.minkowski.MinkowskiConfig;
 import be.ulbvub.compgeom.utils.DoublyConnectedEdgeList;
+import be.ulbvub.compgeom.utils.Point;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import processing.core.PVector;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -26,34 +26,34 @@ public class MinkowskiSumTest {
     void setUp() {
         square = new Polygon(new ArrayList<>() {
             {
-                add(new PVector(0, 0));
-                add(new PVector(1, 0));
-                add(new PVector(1, 1));
-                add(new PVector(0, 1));
+                add(new Point(0, 0));
+                add(new Point(1, 0));
+                add(new Point(1, 1));
+                add(new Point(0, 1));
             }
         });
         rotatedSquare = new Polygon(new ArrayList<>() {
             {
-                add(new PVector(1, 0.5f));
-                add(new PVector(0.5f, 0));
-                add(new PVector(0, 0.5f));
-                add(new PVector(0.5f, 1));
+                add(new Point(1, 0.5f));
+                add(new Point(0.5f, 0));
+                add(new Point(0, 0.5f));
+                add(new Point(0.5f, 1));
             }
         });
 
         rectangle = new DoublyConnectedEdgeList(new ArrayList<>() {
             {
-                add(new PVector(30, 0));
-                add(new PVector(30, 20));
-                add(new PVector(50, 20));
-                add(new PVector(50, 0));
+                add(new Point(30, 0));
+                add(new Point(30, 20));
+                add(new Point(50, 20));
+                add(new Point(50, 0));
             }
         });
         triangle = new DoublyConnectedEdgeList(new ArrayList<>() {
             {
-                add(new PVector(0, 20));
-                add(new PVector(10, 30));
-                add(new PVector(20, 20));
+                add(new Point(0, 20));
+                add(new Point(10, 30));
+                add(new Point(20, 20));
             }
         });
     }
@@ -76,7 +76,7 @@ public class MinkowskiSumTest {
         triConfig.calculate(); // For now, only check if we finish
         final var greedyConfig = new MinkowskiConfig(polygon, square, new DecompositionConfig.GreedyConfig(null));
         greedyConfig.calculate(); // For now, only check if we finish
-        final var slabConfig = new MinkowskiConfig(polygon, square, new DecompositionConfig.SlabConfig(new PVector(0, 1), null));
+        final var slabConfig = new MinkowskiConfig(polygon, square, new DecompositionConfig.SlabConfig(new Point(0, 1), null));
         slabConfig.calculate(); // For now, only check if we finish
         final var kdConfig = new MinkowskiConfig(polygon, square, new DecompositionConfig.KdConfig(null));
         kdConfig.calculate(); // For now, only check if we finish
@@ -90,7 +90,7 @@ public class MinkowskiSumTest {
         triConfig.calculate(); // For now, only check if we finish
         final var greedyConfig = new MinkowskiConfig(polygon, square, new DecompositionConfig.GreedyConfig(null));
         greedyConfig.calculate(); // For now, only check if we finish
-        final var slabConfig = new MinkowskiConfig(polygon, square, new DecompositionConfig.SlabConfig(new PVector(0, 1), null));
+        final var slabConfig = new MinkowskiConfig(polygon, square, new DecompositionConfig.SlabConfig(new Point(0, 1), null));
         slabConfig.calculate(); // For now, only check if we finish
         final var kdConfig = new MinkowskiConfig(polygon, square, new DecompositionConfig.KdConfig(null));
         kdConfig.calculate(); // For now, only check if we finish
@@ -104,7 +104,7 @@ public class MinkowskiSumTest {
         triConfig.calculate(); // For now, only check if we finish
         final var greedyConfig = new MinkowskiConfig(polygon, square, new DecompositionConfig.GreedyConfig(null));
         greedyConfig.calculate(); // For now, only check if we finish
-        final var slabConfig = new MinkowskiConfig(polygon, square, new DecompositionConfig.SlabConfig(new PVector(0, 1), null));
+        final var slabConfig = new MinkowskiConfig(polygon, square, new DecompositionConfig.SlabConfig(new Point(0, 1), null));
         slabConfig.calculate(); // For now, only check if we finish
         final var kdConfig = new MinkowskiConfig(polygon, square, new DecompositionConfig.KdConfig(null));
         kdConfig.calculate(); // For now, only check if we finish
@@ -118,7 +118,7 @@ public class MinkowskiSumTest {
         triConfig.calculate(); // For now, only check if we finish
         final var greedyConfig = new MinkowskiConfig(polygon, square, new DecompositionConfig.GreedyConfig(null));
         greedyConfig.calculate(); // For now, only check if we finish
-        final var slabConfig = new MinkowskiConfig(polygon, square, new DecompositionConfig.SlabConfig(new PVector(0, 1), null));
+        final var slabConfig = new MinkowskiConfig(polygon, square, new DecompositionConfig.SlabConfig(new Point(0, 1), null));
         slabConfig.calculate(); // For now, only check if we finish
         final var kdConfig = new MinkowskiConfig(polygon, square, new DecompositionConfig.KdConfig(null));
         kdConfig.calculate(); // For now, only check if we finish
@@ -132,7 +132,7 @@ public class MinkowskiSumTest {
         triConfig.calculate(); // For now, only check if we finish
         final var greedyConfig = new MinkowskiConfig(polygon, square, new DecompositionConfig.GreedyConfig(null));
         greedyConfig.calculate(); // For now, only check if we finish
-        final var slabConfig = new MinkowskiConfig(polygon, square, new DecompositionConfig.SlabConfig(new PVector(0, 1), null));
+        final var slabConfig = new MinkowskiConfig(polygon, square, new DecompositionConfig.SlabConfig(new Point(0, 1), null));
         slabConfig.calculate(); // For now, only check if we finish
         final var kdConfig = new MinkowskiConfig(polygon, square, new DecompositionConfig.KdConfig(null));
         kdConfig.calculate(); // For now, only check if we finish
@@ -146,7 +146,7 @@ public class MinkowskiSumTest {
         triConfig.calculate(); // For now, only check if we finish
         final var greedyConfig = new MinkowskiConfig(polygon, square, new DecompositionConfig.GreedyConfig(null));
         greedyConfig.calculate(); // For now, only check if we finish
-        final var slabConfig = new MinkowskiConfig(polygon, square, new DecompositionConfig.SlabConfig(new PVector(0, 1), null));
+        final var slabConfig = new MinkowskiConfig(polygon, square, new DecompositionConfig.SlabConfig(new Point(0, 1), null));
         slabConfig.calculate(); // For now, only check if we finish
         final var kdConfig = new MinkowskiConfig(polygon, square, new DecompositionConfig.KdConfig(null));
         kdConfig.calculate(); // For now, only check if we finish
@@ -160,7 +160,7 @@ public class MinkowskiSumTest {
         triConfig.calculate(); // For now, only check if we finish
         final var greedyConfig = new MinkowskiConfig(polygon, square, new DecompositionConfig.GreedyConfig(null));
         greedyConfig.calculate(); // For now, only check if we finish
-        final var slabConfig = new MinkowskiConfig(polygon, square, new DecompositionConfig.SlabConfig(new PVector(0, 1), null));
+        final var slabConfig = new MinkowskiConfig(polygon, square, new DecompositionConfig.SlabConfig(new Point(0, 1), null));
         slabConfig.calculate(); // For now, only check if we finish
         final var kdConfig = new MinkowskiConfig(polygon, square, new DecompositionConfig.KdConfig(null));
         kdConfig.calculate(); // For now, only check if we finish
@@ -1,9 +1,12 @@
 package be.ulbvub.compgeom.slab;
 
 import be.ulbvub.compgeom.DecompositionTest;
+import be.ulbvub.compgeom.generator.PolygonFamilies;
 import be.ulbvub.compgeom.utils.Event;
+import be.ulbvub.compgeom.utils.Point;
 import org.junit.jupiter.api.Test;
-import processing.core.PVector;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import java.io.IOException;
 import java.util.Objects;
@@ -14,74 +17,74 @@ class SlabDecompositionTest extends DecompositionTest {
 
     @Test
     void buildEventQueueSquare() {
-        final var decomposition = new SlabDecomposition(new PVector(0, 1), square);
+        final var decomposition = new SlabDecomposition(new Point(0, 1), square);
         decomposition.buildEventQueue();
         final var queue = decomposition.getQueue();
 
-        assertEventEquals(new PVector(0, 1), EventTypes.Start, Objects.requireNonNull(queue.poll()));
-        assertEventEquals(new PVector(0, 0), EventTypes.Start, Objects.requireNonNull(queue.poll()));
-        assertEventEquals(new PVector(1, 0), EventTypes.End, Objects.requireNonNull(queue.poll()));
-        assertEventEquals(new PVector(1, 1), EventTypes.End, Objects.requireNonNull(queue.poll()));
+        assertEventEquals(new Point(0, 1), EventTypes.Start, Objects.requireNonNull(queue.poll()));
+        assertEventEquals(new Point(0, 0), EventTypes.Start, Objects.requireNonNull(queue.poll()));
+        assertEventEquals(new Point(1, 0), EventTypes.End, Objects.requireNonNull(queue.poll()));
+        assertEventEquals(new Point(1, 1), EventTypes.End, Objects.requireNonNull(queue.poll()));
     }
 
     @Test
     void buildEventQueueTriangle() {
-        final var decomposition = new SlabDecomposition(new PVector(0, 1), triangle);
+        final var decomposition = new SlabDecomposition(new Point(0, 1), triangle);
         decomposition.buildEventQueue();
         final var queue = decomposition.getQueue();
 
-        assertEventEquals(new PVector(0, 0), EventTypes.Start, Objects.requireNonNull(queue.poll()));
-        assertEventEquals(new PVector(0.5f, 1.0f), EventTypes.NormalPoint, Objects.requireNonNull(queue.poll()));
-        assertEventEquals(new PVector(1, 0), EventTypes.End, Objects.requireNonNull(queue.poll()));
+        assertEventEquals(new Point(0, 0), EventTypes.Start, Objects.requireNonNull(queue.poll()));
+        assertEventEquals(new Point(0.5f, 1.0f), EventTypes.NormalPoint, Objects.requireNonNull(queue.poll()));
+        assertEventEquals(new Point(1, 0), EventTypes.End, Objects.requireNonNull(queue.poll()));
     }
 
     @Test
     void buildEventQueueRotatedSquare() {
-        final var decomposition = new SlabDecomposition(new PVector(0, 1), rotatedSquare);
+        final var decomposition = new SlabDecomposition(new Point(0, 1), rotatedSquare);
         decomposition.buildEventQueue();
         final var queue = decomposition.getQueue();
 
-        assertEventEquals(new PVector(0, .5f), EventTypes.Start, Objects.requireNonNull(queue.poll()));
-        assertEventEquals(new PVector(.5f, 1), EventTypes.NormalPoint, Objects.requireNonNull(queue.poll()));
-        assertEventEquals(new PVector(.5f, 0), EventTypes.NormalPoint, Objects.requireNonNull(queue.poll()));
-        assertEventEquals(new PVector(1, .5f), EventTypes.End, Objects.requireNonNull(queue.poll()));
+        assertEventEquals(new Point(0, .5f), EventTypes.Start, Objects.requireNonNull(queue.poll()));
+        assertEventEquals(new Point(.5f, 1), EventTypes.NormalPoint, Objects.requireNonNull(queue.poll()));
+        assertEventEquals(new Point(.5f, 0), EventTypes.NormalPoint, Objects.requireNonNull(queue.poll()));
+        assertEventEquals(new Point(1, .5f), EventTypes.End, Objects.requireNonNull(queue.poll()));
     }
 
     @Test
     void buildEventQueueIdents() throws IOException {
         final var polygon = readPolygon("indented.poly");
 
-        final var decomposition = new SlabDecomposition(new PVector(0, 1), polygon);
+        final var decomposition = new SlabDecomposition(new Point(0, 1), polygon);
         decomposition.buildEventQueue();
         final var queue = decomposition.getQueue();
 
-        assertEventEquals(new PVector(265, 138), EventTypes.Start, Objects.requireNonNull(queue.poll()));
-        assertEventEquals(new PVector(295, 391), EventTypes.NormalPoint, Objects.requireNonNull(queue.poll()));
-        assertEventEquals(new PVector(370, 200), EventTypes.ReflexPoint, Objects.requireNonNull(queue.poll()));
-        assertEventEquals(new PVector(400, 285), EventTypes.ReflexPoint, Objects.requireNonNull(queue.poll()));
-        assertEventEquals(new PVector(497, 122), EventTypes.NormalPoint, Objects.requireNonNull(queue.poll()));
-        assertEventEquals(new PVector(506, 402), EventTypes.End, Objects.requireNonNull(queue.poll()));
+        assertEventEquals(new Point(265, 138), EventTypes.Start, Objects.requireNonNull(queue.poll()));
+        assertEventEquals(new Point(295, 391), EventTypes.NormalPoint, Objects.requireNonNull(queue.poll()));
+        assertEventEquals(new Point(370, 200), EventTypes.ReflexPoint, Objects.requireNonNull(queue.poll()));
+        assertEventEquals(new Point(400, 285), EventTypes.ReflexPoint, Objects.requireNonNull(queue.poll()));
+        assertEventEquals(new Point(497, 122), EventTypes.NormalPoint, Objects.requireNonNull(queue.poll()));
+        assertEventEquals(new Point(506, 402), EventTypes.End, Objects.requireNonNull(queue.poll()));
     }
 
     @Test
     void buildEventQueueIdentsHorizontal() throws IOException {
         final var polygon = readPolygon("indented-horizontal.poly");
 
-        final var decomposition = new SlabDecomposition(new PVector(0, 1), polygon);
+        final var decomposition = new SlabDecomposition(new Point(0, 1), polygon);
         decomposition.buildEventQueue();
         final var queue = decomposition.getQueue();
 
-        assertEventEquals(new PVector(269, 240), EventTypes.Start, Objects.requireNonNull(queue.poll()));
-        assertEventEquals(new PVector(271, 448), EventTypes.Start, Objects.requireNonNull(queue.poll()));
-        assertEventEquals(new PVector(343, 336), EventTypes.Join, Objects.requireNonNull(queue.poll()));
-        assertEventEquals(new PVector(413, 328), EventTypes.Split, Objects.requireNonNull(queue.poll()));
-        assertEventEquals(new PVector(516, 450), EventTypes.End, Objects.requireNonNull(queue.poll()));
-        assertEventEquals(new PVector(530, 246), EventTypes.End, Objects.requireNonNull(queue.poll()));
+        assertEventEquals(new Point(269, 240), EventTypes.Start, Objects.requireNonNull(queue.poll()));
+        assertEventEquals(new Point(271, 448), EventTypes.Start, Objects.requireNonNull(queue.poll()));
+        assertEventEquals(new Point(343, 336), EventTypes.Join, Objects.requireNonNull(queue.poll()));
+        assertEventEquals(new Point(413, 328), EventTypes.Split, Objects.requireNonNull(queue.poll()));
+        assertEventEquals(new Point(516, 450), EventTypes.End, Objects.requireNonNull(queue.poll()));
+        assertEventEquals(new Point(530, 246), EventTypes.End, Objects.requireNonNull(queue.poll()));
     }
 
     @Test
     void decomposeIdemPotent() {
-        final var decomposeSquare = new SlabDecomposition(new PVector(0, 1), square);
+        final var decomposeSquare = new SlabDecomposition(new Point(0, 1), square);
         decomposeSquare.buildEventQueue();
         decomposeSquare.run();
         final var squareResult = decomposeSquare.getDecomposition();
@@ -92,7 +95,7 @@ class SlabDecompositionTest extends DecompositionTest {
         assertEquals(8, squareResult.getEdges().size());
         assertValidDecomposition(square, squareResult);
 
-        final var decomposeTriangle = new SlabDecomposition(new PVector(0, 1), triangle);
+        final var decomposeTriangle = new SlabDecomposition(new Point(0, 1), triangle);
         decomposeTriangle.buildEventQueue();
         decomposeTriangle.run();
         final var triangleResult = decomposeTriangle.getDecomposition();
@@ -103,7 +106,7 @@ class SlabDecompositionTest extends DecompositionTest {
         assertEquals(6, triangleResult.getEdges().size());
         assertValidDecomposition(triangle, triangleResult);
 
-        final var decomposeSquareRotated = new SlabDecomposition(new PVector(0, 1), square);
+        final var decomposeSquareRotated = new SlabDecomposition(new Point(0, 1), square);
         decomposeSquareRotated.buildEventQueue();
         decomposeSquareRotated.run();
         final var rotatedSquareResult = decomposeSquareRotated.getDecomposition();
@@ -119,7 +122,7 @@ class SlabDecompositionTest extends DecompositionTest {
     void decomposeIdents() throws IOException {
         final var polygon = readPolygon("indented.poly");
 
-        final var decomposition = new SlabDecomposition(new PVector(0, 1), polygon);
+        final var decomposition = new SlabDecomposition(new Point(0, 1), polygon);
         decomposition.buildEventQueue();
         decomposition.run();
         final var result = decomposition.getDecomposition();
@@ -135,7 +138,7 @@ class SlabDecompositionTest extends DecompositionTest {
     void decomposeIdentsHorizontal() throws IOException {
         final var polygon = readPolygon("indented-horizontal.poly");
 
-        final var decomposition = new SlabDecomposition(new PVector(0, 1), polygon);
+        final var decomposition = new SlabDecomposition(new Point(0, 1), polygon);
         decomposition.buildEventQueue();
         decomposition.run();
         final var result = decomposition.getDecomposition();
@@ -151,7 +154,7 @@ class SlabDecompositionTest extends DecompositionTest {
     void decomposeIdentsSkewed() throws IOException {
         final var polygon = readPolygon("indented-skewed.poly");
 
-        final var decomposition = new SlabDecomposition(new PVector(0, 1), polygon);
+        final var decomposition = new SlabDecomposition(new Point(0, 1), polygon);
         decomposition.buildEventQueue();
         decomposition.run();
         final var result = decomposition.getDecomposition();
@@ -167,7 +170,7 @@ class SlabDecompositionTest extends DecompositionTest {
     void decomposeIndentedInternal() throws IOException {
         final var polygon = readPolygon("internal-split-join.poly");
 
-        final var decomposition = new SlabDecomposition(new PVector(0, 1), polygon);
+        final var decomposition = new SlabDecomposition(new Point(0, 1), polygon);
         decomposition.buildEventQueue();
         decomposition.run();
         final var result = decomposition.getDecomposition();
@@ -183,7 +186,7 @@ class SlabDecompositionTest extends DecompositionTest {
     void decomposeCurl() throws IOException {
         final var polygon = readPolygon("curl.poly");
 
-        final var decomposition = new SlabDecomposition(new PVector(0, 1), polygon);
+        final var decomposition = new SlabDecomposition(new Point(0, 1), polygon);
         decomposition.buildEventQueue();
         decomposition.run();
         final var result = decomposition.getDecomposition();
@@ -199,7 +202,7 @@ class SlabDecompositionTest extends DecompositionTest {
     void decomposeCurlInv() throws IOException {
         final var polygon = readPolygon("curl-inverted.poly");
 
-        final var decomposition = new SlabDecomposition(new PVector(0, 1), polygon);
+        final var decomposition = new SlabDecomposition(new Point(0, 1), polygon);
         decomposition.buildEventQueue();
         decomposition.run();
         final var result = decomposition.getDecomposition();
@@ -215,7 +218,7 @@ class SlabDecompositionTest extends DecompositionTest {
     void decomposeSaw() throws IOException {
         final var polygon = readPolygon("zaag.poly");
 
-        final var decomposition = new SlabDecomposition(new PVector(0, 1), polygon);
+        final var decomposition = new SlabDecomposition(new Point(0, 1), polygon);
         decomposition.buildEventQueue();
         decomposition.run();
         final var result = decomposition.getDecomposition();
@@ -227,7 +230,22 @@ class SlabDecompositionTest extends DecompositionTest {
         assertEquals(76, result.getEdges().size());
     }
 
-    void assertEventEquals(PVector expectedPoint, EventTypes expectedReason, Event<EventTypes> observed) {
+    @ParameterizedTest
+    @EnumSource(value = PolygonFamilies.class, names = {"Star", "TwoOpt", "Orthogonal", "Curl"})
+    void decomposeGenerated(PolygonFamilies family) {
+        // Cuts rising past other edges, edges along the cuts and several vertices at the same sweep position
+        for (var seed = 0; seed < 5; seed++) {
+            final var polygon = family.generator(seed, 0.3f).generate(200);
+
+            final var decomposition = new SlabDecomposition(new Point(0, 1), polygon);
+            decomposition.buildEventQueue();
+            decomposition.run();
+
+            assertValidDecomposition(polygon, decomposition.getDecomposition());
+        }
+    }
+
+    void assertEventEquals(Point expectedPoint, EventTypes expectedReason, Event<EventTypes> observed) {
         assertEquals(expectedPoint, observed.getPoint());
         assertEquals(expectedReason, observed.getReason());
     }
@@ -0,0 +1,59 @@
+package be.ulbvub.compgeom.triangles;
+
+import be.ulbvub.compgeom.DecompositionTest;
+import be.ulbvub.compgeom.Polygon;
+import be.ulbvub.compgeom.generator.PolygonFamilies;
+import be.ulbvub.compgeom.utils.CalculationResult;
+import be.ulbvub.compgeom.utils.Point;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IndexedTriangleDecompositionTest extends DecompositionTest {
+
+    /**
+     * The faces as sets of points, the two edge lists number their faces in a different order
+     */
+    private static Set<Set<Point>> faces(CalculationResult result) {
+        final var faces = new HashSet<Set<Point>>();
+        for (var face : result.getFacePolygons()) {
+            faces.add(new HashSet<>(face.points()));
+        }
+        return faces;
+    }
+
+    private static void assertSameDecomposition(Polygon polygon, boolean greedy) {
+        final var expected = TriangleDecomposition.decompose(polygon, greedy);
+        final var actual = IndexedTriangleDecomposition.decompose(polygon, greedy);
+
+        assertEquals(expected.getFaceCount(), actual.getFaceCount());
+        assertEquals(expected.getHalfEdgeCount(), actual.getHalfEdgeCount());
+        assertEquals(expected.hasReflex(), actual.hasReflex());
+        assertEquals(faces(expected), faces(actual));
+    }
+
+    @Test
+    void decomposeIndentedLikeObjectList() throws IOException {
+        for (var name : new String[]{"indented.poly", "indented-horizontal.poly"}) {
+            final var polygon = readPolygon(name);
+            assertSameDecomposition(polygon, false);
+            assertSameDecomposition(polygon, true);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(PolygonFamilies.class)
+    void decomposeGeneratedLikeObjectList(PolygonFamilies family) {
+        for (var seed = 0; seed < 5; seed++) {
+            final var polygon = family.generator(seed, 0.3f).generate(200);
+            assertSameDecomposition(polygon, false);
+            assertSameDecomposition(polygon, true);
+        }
+    }
+}
@@ -199,4 +199,31 @@ class TriangleDecompositionTest extends DecompositionTest {
         assertEquals(16, result.getFaces().size());
         assertEquals(66, result.getEdges().size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void decomposeIdentsHertelMehlhorn() throws IOException {
+        final var polygon = readPolygon("indented.poly");
+        final var result = TriangleDecomposition.decompose(polygon, false);
+
+        // Of the 3 diagonals of the triangulation, only the one between the two notches is needed
+        assertEquals(2, result.removeInessentialDiagonals());
+        assertValidDecomposition(polygon, result);
+        assertEquals(polygon.points().size(), result.getVertices().size());
+        assertEquals(2, result.getFaces().size());
+        assertEquals(14, result.getEdges().size());
+    }
+
+    @Test
+    void decomposeSawHertelMehlhorn() throws IOException {
+        final var polygon = readPolygon("zaag.poly");
+        final var result = TriangleDecomposition.decompose(polygon, false);
+
+        assertEquals(5, result.removeInessentialDiagonals());
+        assertValidDecomposition(polygon, result);
+        assertEquals(18, result.getVertices().size());
+        assertEquals(11, result.getFaces().size());
+        assertEquals(56, result.getEdges().size());
+        // Removing more diagonals would only make reflex corners
+        assertEquals(0, result.removeInessentialDiagonals());
+    }
+}
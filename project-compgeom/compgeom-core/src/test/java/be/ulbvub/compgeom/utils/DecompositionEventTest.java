@@ -0,0 +1,54 @@
+package be.ulbvub.compgeom.utils;
+
+import be.ulbvub.compgeom.generator.PolygonGenerator;
+import be.ulbvub.compgeom.decomposition.DecompositionConfig;
+import be.ulbvub.compgeom.decomposition.Decompositions;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DecompositionEventTest {
+
+    @Test
+    void testEventsAreRecorded(@TempDir Path directory) throws IOException {
+        final var polygon = new PolygonGenerator.SawGenerator().generate(20);
+        final var file = directory.resolve("decomposition.jfr");
+
+        final CalculationResult result;
+        try (var recording = new Recording()) {
+            recording.enable(DecompositionEvent.class);
+            recording.enable(DecompositionPhaseEvent.class);
+            recording.start();
+            result = new DecompositionConfig.TriangulationConfig(polygon).decompose();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        final var runs = events.stream().filter(e -> e.getEventType().getName().equals("be.ulbvub.compgeom.Decomposition")).toList();
+        assertEquals(1, runs.size());
+
+        final var run = runs.get(0);
+        assertEquals(Decompositions.Triangulation.toString(), run.getString("engine"));
+        assertEquals(20, run.getInt("polygonSize"));
+        assertEquals(polygon.countReflexVertices(), run.getInt("reflexCount"));
+        assertEquals(result.getFaceCount(), run.getInt("faceCount"));
+
+        // One event per phase, even though the triangulation reports a phase for every monotone face
+        final var phases = events.stream()
+                .filter(e -> e.getEventType().getName().equals("be.ulbvub.compgeom.DecompositionPhase"))
+                .toList();
+        assertEquals(List.of("monotone split", "face triangulation"), phases.stream().map(e -> e.getString("phase")).toList());
+        for (var phase : phases) {
+            assertEquals(result.getStats().getPhaseNanos().get(phase.getString("phase")), phase.getLong("elapsed"));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package be.ulbvub.compgeom.utils;
+
+import be.ulbvub.compgeom.decomposition.DecompositionConfig;
+import be.ulbvub.compgeom.decomposition.Decompositions;
+import be.ulbvub.compgeom.decomposition.PolygonGroup;
+import be.ulbvub.compgeom.generator.PolygonFamilies;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DecompositionFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testMappedFacesMatchTheEdgeList() throws IOException {
+        final var polygon = PolygonFamilies.Star.generator(42, 0.3f).generate(100);
+        final var dcel = (DoublyConnectedEdgeList) Decompositions.HertelMehlhorn.config(polygon).decompose();
+        final var file = directory.resolve("star.dcel");
+        DecompositionFile.write(dcel, file);
+
+        final var mapped = DecompositionFile.map(file);
+        final var frozen = dcel.freeze();
+        assertEquals(frozen.getFaceCount(), mapped.getFaceCount());
+        assertEquals(frozen.getVertexCount(), mapped.getVertexCount());
+        assertEquals(frozen.getHalfEdgeCount(), mapped.getHalfEdgeCount());
+        assertEquals(frozen.getFacePolygons(), mapped.getFacePolygons());
+        assertSame(DecompositionStats.EMPTY, mapped.getStats());
+
+        // The mapped snapshot is as usable as one made in memory
+        final var packed = new float[2 * mapped.getFaceSize(0)];
+        mapped.copyFace(0, packed);
+        assertEquals(mapped.getX(0, 1), packed[2]);
+        assertEquals(frozen.faces().mapToDouble(FrozenDecomposition.Face::area).sum(),
+                mapped.faces().parallel().mapToDouble(FrozenDecomposition.Face::area).sum(), 1e-6);
+    }
+
+    @Test
+    void testEdgeListCanBeModifiedAfterReading() throws IOException {
+        final var polygon = PolygonFamilies.Saw.generator(42, 0).generate(40);
+        final var dcel = new DecompositionConfig.TriangulationConfig(polygon).decompose();
+        final var file = directory.resolve("saw.dcel");
+        DecompositionFile.write(dcel, file);
+
+        final var read = DecompositionFile.readEdgeList(file);
+        assertEquals(dcel.getFacePolygons(), read.getFacePolygons());
+        assertEquals(dcel.getHalfEdgeCount(), read.getHalfEdgeCount());
+        assertEquals(dcel.hasReflex(), read.hasReflex());
+        for (var i = 0; i < dcel.getVertexCount(); i++) {
+            assertEquals(dcel.getVertices().get(i).getPoint(), read.getVertices().get(i).getPoint());
+            assertEquals(dcel.getVertices().get(i).isReflex(), read.getVertices().get(i).isReflex());
+        }
+        for (var i = 0; i < dcel.getFaceCount(); i++) {
+            assertArrayEquals(dcel.getNeighbours(i), read.getNeighbours(i));
+        }
+
+        // The index of half edges is rebuilt as well, which the diagonal removal relies on
+        assertEquals(dcel.removeInessentialDiagonals(), read.removeInessentialDiagonals());
+        assertEquals(dcel.getFacePolygons(), read.getFacePolygons());
+    }
+
+    @Test
+    void testPolygonGroupIsStoredAsFaces() throws IOException {
+        final var polygon = PolygonFamilies.Saw.generator(42, 0).generate(16);
+        final var group = (PolygonGroup) Decompositions.Chazelle.config(polygon).decompose();
+        final var file = directory.resolve("saw.faces");
+        DecompositionFile.write(group, file);
+
+        final var mapped = DecompositionFile.map(file);
+        assertEquals(group.getFacePolygons(), mapped.getFacePolygons());
+        assertEquals(group.getVertexCount(), mapped.getVertexCount());
+        assertEquals(group.getHalfEdgeCount(), mapped.getHalfEdgeCount());
+        assertThrows(IOException.class, () -> DecompositionFile.readEdgeList(file));
+    }
+
+    @Test
+    void testRejectsInvalidFiles() throws IOException {
+        final var polygon = PolygonFamilies.Saw.generator(42, 0).generate(10);
+        final var file = directory.resolve("saw.dcel");
+        DecompositionFile.write(new DecompositionConfig.TriangulationConfig(polygon).decompose(), file);
+        final var bytes = Files.readAllBytes(file);
+
+        final var truncated = directory.resolve("truncated.dcel");
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 4));
+        assertThrows(IOException.class, () -> DecompositionFile.map(truncated));
+
+        final var newer = directory.resolve("newer.dcel");
+        bytes[4] = (byte) (DecompositionFile.VERSION + 1);
+        Files.write(newer, bytes);
+        assertThrows(IOException.class, () -> DecompositionFile.map(newer));
+
+        // The face offsets follow the header of 7 ints and 4 ints per vertex, per half edge and 1 per face
+        final var offsets = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        final var position = 28 + 16 * offsets.getInt(12) + 16 * offsets.getInt(16) + 4 * offsets.getInt(20);
+        offsets.putInt(position + 4, offsets.getInt(position + 8) + 1);
+        final var decreasing = directory.resolve("decreasing.dcel");
+        Files.write(decreasing, offsets.array());
+        assertThrows(IOException.class, () -> DecompositionFile.map(decreasing));
+
+        final var text = directory.resolve("saw.poly");
+        Files.writeString(text, "0;0\n1;0\n1;1\n");
+        assertThrows(IOException.class, () -> DecompositionFile.map(text));
+    }
+}
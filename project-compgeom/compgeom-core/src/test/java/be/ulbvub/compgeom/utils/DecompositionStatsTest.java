@@ -0,0 +1,49 @@
+package be.ulbvub.compgeom.utils;
+
+import be.ulbvub.compgeom.generator.PolygonGenerator;
+import be.ulbvub.compgeom.triangles.TriangleDecomposition;
+import be.ulbvub.compgeom.decomposition.DecompositionConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DecompositionStatsTest {
+
+    @Test
+    void testTriangulationStats() {
+        final var polygon = new PolygonGenerator.SawGenerator().generate(20);
+        final var result = new DecompositionConfig.TriangulationConfig(polygon).decompose();
+        final var stats = result.getStats();
+
+        assertEquals(List.of("monotone split", "face triangulation"), List.copyOf(stats.getPhaseNanos().keySet()));
+        assertTrue(stats.getTotalNanos() > 0);
+        assertTrue(stats.getCount(DecompositionStats.Counter.OrientationTests) > 0);
+        // A triangulation of n vertices always has n - 2 triangles, so n - 3 diagonals
+        assertEquals(result.getFaceCount() - 1, stats.getCount(DecompositionStats.Counter.AddEdge));
+        assertEquals(0, stats.getCount(DecompositionStats.Counter.AddVertex));
+        // Every diagonal is inserted with the face it splits as a hint
+        assertEquals(0, stats.getCount(DecompositionStats.Counter.CommonFaceSearches));
+    }
+
+    @Test
+    void testKdStats() {
+        final var polygon = new PolygonGenerator.SawGenerator().generate(20);
+        final var stats = new DecompositionConfig.KdConfig(polygon).decompose().getStats();
+
+        assertTrue(stats.getPhaseNanos().containsKey("reflex sort"));
+        assertTrue(stats.getPhaseNanos().containsKey("insertEdge"));
+        assertTrue(stats.getCount(DecompositionStats.Counter.FaceWalks) > 0);
+        assertEquals(0, stats.getCount(DecompositionStats.Counter.CommonFaceSearches));
+    }
+
+    @Test
+    void testNotMeasured() {
+        final var polygon = new PolygonGenerator.SawGenerator().generate(20);
+        final var result = TriangleDecomposition.decompose(polygon, false);
+
+        assertSame(DecompositionStats.EMPTY, result.getStats());
+        assertEquals(0, result.getStats().getCount(DecompositionStats.Counter.OrientationTests));
+    }
+}
@@ -0,0 +1,373 @@
+package be.ulbvub.compgeom.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoublyConnectedEdgeListTest {
+    DoublyConnectedEdgeList square;
+    DoublyConnectedEdgeList triangle;
+    DoublyConnectedEdgeList rotatedSquare;
+
+    @BeforeEach
+    void setUp() {
+        square = new DoublyConnectedEdgeList(new ArrayList<>() {
+            {
+                add(new Point(0, 0));
+                add(new Point(1, 0));
+                add(new Point(1, 1));
+                add(new Point(0, 1));
+            }
+        });
+        triangle = new DoublyConnectedEdgeList(new ArrayList<>() {
+            {
+                add(new Point(0, 0));
+                add(new Point(0.5f, 1));
+                add(new Point(1, 0));
+            }
+        });
+        rotatedSquare = new DoublyConnectedEdgeList(new ArrayList<>() {
+            {
+                add(new Point(1, 0.5f));
+                add(new Point(0.5f, 0));
+                add(new Point(0, 0.5f));
+                add(new Point(0.5f, 1));
+            }
+        });
+    }
+
+    @Test
+    void testNumberOfFacesVerticesEdges() {
+        assertEquals(1, square.getFaces().size());
+        assertEquals(4, square.getVertices().size());
+        assertEquals(4 * 2, square.getEdges().size());
+
+        assertEquals(1, triangle.getFaces().size());
+        assertEquals(3, triangle.getVertices().size());
+        assertEquals(3 * 2, triangle.getEdges().size());
+
+        assertEquals(1, rotatedSquare.getFaces().size());
+        assertEquals(4, rotatedSquare.getVertices().size());
+        assertEquals(4 * 2, rotatedSquare.getEdges().size());
+    }
+
+    @Test
+    void ccwEdgeIterator() {
+        final var squareIter = square.getFaces().get(0).ccwIteratorEdge();
+        assertEdge(new Point(0, 0), squareIter.next());
+        assertTrue(squareIter.hasNext());
+        assertEdge(new Point(0, 1), squareIter.next());
+        assertTrue(squareIter.hasNext());
+        assertEdge(new Point(1, 1), squareIter.next());
+        assertTrue(squareIter.hasNext());
+        assertEdge(new Point(1, 0), squareIter.next());
+        assertFalse(squareIter.hasNext());
+
+        final var triangleIter = triangle.getFaces().get(0).ccwIteratorEdge();
+        assertEdge(new Point(0, 0), triangleIter.next());
+        assertTrue(triangleIter.hasNext());
+        assertEdge(new Point(0.5f, 1), triangleIter.next());
+        assertTrue(triangleIter.hasNext());
+        assertEdge(new Point(1, 0), triangleIter.next());
+        assertFalse(triangleIter.hasNext());
+
+        final var rotatedSquareIter = rotatedSquare.getFaces().get(0).ccwIteratorEdge();
+        assertEdge(new Point(0, 0.5f), rotatedSquareIter.next());
+        assertTrue(rotatedSquareIter.hasNext());
+        assertEdge(new Point(0.5f, 1), rotatedSquareIter.next());
+        assertTrue(rotatedSquareIter.hasNext());
+        assertEdge(new Point(1, 0.5f), rotatedSquareIter.next());
+        assertTrue(rotatedSquareIter.hasNext());
+        assertEdge(new Point(0.5f, 0), rotatedSquareIter.next());
+        assertFalse(rotatedSquareIter.hasNext());
+    }
+
+    @Test
+    void testPrevFollowsEdits() {
+        final var vertices = square.getVertices();
+        square.addVertex(vertices.get(0).getEdgeTo(vertices.get(1)), new Point(0.5f, 0));
+        square.addEdge(vertices.get(4), vertices.get(2));
+
+        for (var edge : square.getEdges()) {
+            assertSame(edge, edge.getNext().getPrev());
+            assertSame(edge, DoublyConnectedEdgeList.getPrevEdgeOfFace(edge.getNext().getOrigin(), edge.getFace()));
+        }
+
+        for (var face : square.getFaces()) {
+            final var forward = new ArrayList<DCHalfEdge>();
+            face.iterateForwardEdges().forEachRemaining(forward::add);
+            final var backward = new ArrayList<DCHalfEdge>();
+            face.iterateBackwardEdges().forEachRemaining(backward::add);
+
+            // Both start at the reference edge, then go around in opposite directions
+            assertEquals(forward.size(), backward.size());
+            for (var i = 1; i < forward.size(); i++) {
+                assertSame(forward.get(i), backward.get(forward.size() - i));
+            }
+        }
+    }
+
+    @Test
+    void testReflexVertices() {
+        final var arrow = new DoublyConnectedEdgeList(new ArrayList<>() {
+            {
+                add(new Point(0, 0));
+                add(new Point(2, 1));
+                add(new Point(4, 0));
+                add(new Point(2, 4));
+            }
+        });
+        assertFalse(square.hasReflex());
+        assertTrue(arrow.hasReflex());
+
+        DCVertex notch = null;
+        DCVertex tip = null;
+        for (var vertex : arrow.getVertices()) {
+            assertEquals(vertex.getPoint().equals(new Point(2, 1)), vertex.isReflex());
+            if (vertex.isReflex()) notch = vertex;
+            if (vertex.getPoint().equals(new Point(2, 4))) tip = vertex;
+        }
+
+        // The diagonal from the notch to the tip leaves two convex faces
+        assertTrue(arrow.addEdge(notch, tip));
+        assertFalse(notch.isReflex());
+        assertFalse(arrow.hasReflex());
+    }
+
+    @Test
+    void testEdgeIndex() {
+        final var vertices = square.getVertices();
+        final var bottom = vertices.get(0).getEdgeTo(vertices.get(1));
+        final var bottomLeft = bottom.getOrigin().getPoint();
+        final var bottomRight = bottom.getTwin().getOrigin().getPoint();
+
+        assertSame(bottom, square.getEdgeByLine(new Line(bottomLeft, bottomRight)));
+        assertSame(bottom.getTwin(), square.getEdgeByLine(new Line(bottomRight, bottomLeft)));
+
+        // Splitting the edge replaces it in the index by its two halves
+        final var middle = Point.lerp(bottomLeft, bottomRight, 0.5f);
+        final var steiner = square.addVertex(bottom, middle);
+        assertNull(square.getEdgeByLine(new Line(bottomLeft, bottomRight)));
+        assertSame(steiner, square.getVertexAt(new Point(middle.x, middle.y)));
+        assertSame(bottom, square.getEdge(bottom.getOrigin(), steiner));
+        assertSame(steiner, square.getEdgeByLine(new Line(middle, bottomRight)).getOrigin());
+
+        // New diagonals can be found from both sides
+        final var opposite = vertices.get(2);
+        square.addEdge(steiner, opposite);
+        assertSame(opposite, square.getEdge(steiner, opposite).getTwin().getOrigin());
+        assertSame(steiner, square.getEdge(opposite, steiner).getTwin().getOrigin());
+
+        for (var edge : square.getEdges()) {
+            assertSame(edge, square.getEdge(edge.getOrigin(), edge.getTwin().getOrigin()));
+            assertSame(edge, square.getEdgeByLine(edge.toLine()));
+        }
+    }
+
+    @Test
+    void testAddEdgesMatchesAddEdge() {
+        final var points = new ArrayList<Point>();
+        for (var i = 0; i < 8; i++) {
+            final var angle = 2 * Math.PI * i / 8;
+            points.add(new Point((float) Math.cos(angle) * 10, (float) Math.sin(angle) * 10));
+        }
+        final var expected = new DoublyConnectedEdgeList(points);
+        final var actual = new DoublyConnectedEdgeList(points);
+
+        // Fan triangulation, out of order so that the new face is sometimes on one side of the diagonal and sometimes on the other
+        final var diagonals = new ArrayList<DoublyConnectedEdgeList.Diagonal>();
+        for (var k : new int[]{4, 2, 6, 3, 5}) {
+            expected.addEdge(0, k);
+            diagonals.add(new DoublyConnectedEdgeList.Diagonal(actual.getVertices().get(k), actual.getVertices().get(0)));
+        }
+        assertTrue(actual.addEdges(diagonals));
+
+        assertEquals(expected.getFaceCount(), actual.getFaceCount());
+        assertEquals(expected.getHalfEdgeCount(), actual.getHalfEdgeCount());
+        assertEquals(facePoints(expected), facePoints(actual));
+        for (var face : actual.getFaces()) {
+            assertEquals(3, actual.getVerticesOfFace(face).size());
+            assertSame(face, face.getRefEdge().getFace());
+        }
+        for (var edge : actual.getEdges()) {
+            assertSame(edge, edge.getNext().getPrev());
+            assertSame(edge.getFace(), edge.getNext().getFace());
+            assertSame(edge, actual.getEdge(edge.getOrigin(), edge.getTwin().getOrigin()));
+        }
+    }
+
+    @Test
+    void testAddEdgesSplitsSeveralFaces() {
+        final var points = new ArrayList<Point>();
+        for (var i = 0; i < 10; i++) {
+            final var angle = 2 * Math.PI * i / 10;
+            points.add(new Point((float) Math.cos(angle) * 10, (float) Math.sin(angle) * 10));
+        }
+        final var actual = new DoublyConnectedEdgeList(points);
+        actual.addEdge(0, 5);
+        final var vertices = actual.getVertices();
+
+        // Fans from both ends of the existing diagonal, into both of its faces, in one batch
+        final var diagonals = new ArrayList<DoublyConnectedEdgeList.Diagonal>();
+        for (var k : new int[]{3, 2, 4}) {
+            diagonals.add(new DoublyConnectedEdgeList.Diagonal(vertices.get(k), vertices.get(0)));
+        }
+        for (var k : new int[]{8, 7, 9}) {
+            diagonals.add(new DoublyConnectedEdgeList.Diagonal(vertices.get(5), vertices.get(k)));
+        }
+        assertTrue(actual.addEdges(diagonals));
+
+        assertEquals(8, actual.getFaceCount());
+        for (var face : actual.getFaces()) {
+            assertEquals(3, actual.getVerticesOfFace(face).size());
+        }
+        EdgeListValidator.validate(actual);
+        assertDualGraph(actual);
+
+        final var notOnFace = List.of(new DoublyConnectedEdgeList.Diagonal(vertices.get(1), vertices.get(4), actual.getFaces().get(0)));
+        assertThrows(IllegalArgumentException.class, () -> actual.addEdges(notOnFace));
+    }
+
+    @Test
+    void testAddEdgeWithFaceHint() {
+        final var points = new ArrayList<Point>();
+        for (var i = 0; i < 8; i++) {
+            final var angle = 2 * Math.PI * i / 8;
+            points.add(new Point((float) Math.cos(angle) * 10, (float) Math.sin(angle) * 10));
+        }
+        final var expected = new DoublyConnectedEdgeList(points);
+        final var actual = new DoublyConnectedEdgeList(points);
+        final var octagon = actual.getFaces().get(0);
+
+        // The octagon is only right for the diagonals on the side that keeps its label, the others must still work
+        for (var k : new int[]{4, 2, 6, 3, 5}) {
+            expected.addEdge(0, k);
+            actual.addEdge(actual.getVertices().get(0), actual.getVertices().get(k), octagon);
+        }
+        assertEquals(facePoints(expected), facePoints(actual));
+        assertFalse(actual.hasReflex());
+        EdgeListValidator.validate(actual);
+
+        final var vertex1 = square.getVertices().get(0);
+        final var vertex2 = square.getVertices().get(2);
+        assertThrows(NullPointerException.class, () -> square.addEdge(vertex1, vertex2, null));
+    }
+
+    @Test
+    void testAddEdgesResolvesReflexVertices() {
+        final var arrow = new DoublyConnectedEdgeList(new ArrayList<>() {
+            {
+                add(new Point(0, 0));
+                add(new Point(2, 1));
+                add(new Point(4, 0));
+                add(new Point(2, 4));
+            }
+        });
+        final var notch = arrow.getVertexAt(new Point(2, 1));
+        final var tip = arrow.getVertexAt(new Point(2, 4));
+
+        assertTrue(arrow.addEdges(List.of(new DoublyConnectedEdgeList.Diagonal(notch, tip))));
+        assertFalse(notch.isReflex());
+        assertEquals(2, arrow.getFaceCount());
+    }
+
+    @Test
+    void testRemoveInessentialDiagonals() {
+        final var points = new ArrayList<Point>();
+        for (var i = 0; i < 8; i++) {
+            final var angle = 2 * Math.PI * i / 8;
+            points.add(new Point((float) Math.cos(angle) * 10, (float) Math.sin(angle) * 10));
+        }
+        final var octagon = new DoublyConnectedEdgeList(points);
+        for (var k = 2; k < 7; k++) {
+            octagon.addEdge(0, k);
+        }
+
+        // The octagon is convex, so none of the fan diagonals is needed
+        assertEquals(5, octagon.removeInessentialDiagonals());
+        assertEquals(1, octagon.getFaceCount());
+        assertEquals(16, octagon.getHalfEdgeCount());
+        assertEquals(8, octagon.getVerticesOfFace(octagon.getFaces().get(0)).size());
+        for (var edge : octagon.getEdges()) {
+            assertSame(edge, edge.getNext().getPrev());
+            assertSame(edge, octagon.getEdge(edge.getOrigin(), edge.getTwin().getOrigin()));
+        }
+        for (var vertex : octagon.getVertices()) {
+            assertTrue(octagon.getEdges().contains(vertex.getLeavingEdge()));
+        }
+        assertNull(octagon.getEdge(octagon.getVertices().get(0), octagon.getVertices().get(4)));
+    }
+
+    @Test
+    void testDualGraph() {
+        final var points = new ArrayList<Point>();
+        for (var i = 0; i < 8; i++) {
+            final var angle = 2 * Math.PI * i / 8;
+            points.add(new Point((float) Math.cos(angle) * 10, (float) Math.sin(angle) * 10));
+        }
+        final var octagon = new DoublyConnectedEdgeList(points);
+        assertArrayEquals(new int[0], octagon.getNeighbours(0));
+
+        // Quadrilateral 0-1-2-3, then a fan from 0 in the rest, given out of order
+        octagon.addEdge(0, 3);
+        assertDualGraph(octagon);
+        final var vertices = octagon.getVertices();
+        octagon.addEdges(List.of(
+                new DoublyConnectedEdgeList.Diagonal(vertices.get(0), vertices.get(5)),
+                new DoublyConnectedEdgeList.Diagonal(vertices.get(0), vertices.get(4)),
+                new DoublyConnectedEdgeList.Diagonal(vertices.get(0), vertices.get(6))));
+        assertDualGraph(octagon);
+        assertEquals(5, octagon.getFaceCount());
+
+        // Splitting the shared edge 0-3 makes the two faces share two edges
+        final var shared = octagon.getEdge(vertices.get(0), vertices.get(3));
+        final var face = shared.getFace();
+        final var other = shared.getTwin().getFace();
+        octagon.addVertex(shared, Point.lerp(vertices.get(0).getPoint(), vertices.get(3).getPoint(), 0.5f));
+        assertDualGraph(octagon);
+        assertEquals(2, octagon.getSharedEdgeCount(face, other));
+
+        octagon.removeInessentialDiagonals();
+        assertDualGraph(octagon);
+        assertEquals(1, octagon.getFaceCount());
+    }
+
+    /**
+     * Compare the dual graph the list keeps up to date with the one found by looking at every half edge
+     */
+    private static void assertDualGraph(DoublyConnectedEdgeList dcel) {
+        for (var i = 0; i < dcel.getFaceCount(); i++) {
+            assertEquals(i, dcel.getFaces().get(i).getId());
+        }
+        for (var face : dcel.getFaces()) {
+            final var expected = new TreeMap<Integer, Integer>();
+            for (var edge : dcel.getEdges()) {
+                if (edge.getFace() == face && edge.getTwin().getFace() != null)
+                    expected.merge(edge.getTwin().getFace().getId(), 1, Integer::sum);
+            }
+
+            assertArrayEquals(expected.keySet().stream().mapToInt(Integer::intValue).toArray(), dcel.getNeighbours(face));
+            for (var neighbour : expected.entrySet()) {
+                assertEquals(neighbour.getValue(), dcel.getSharedEdgeCount(face, dcel.getFaces().get(neighbour.getKey())));
+            }
+        }
+    }
+
+    private static HashSet<HashSet<Point>> facePoints(DoublyConnectedEdgeList dcel) {
+        final var faces = new HashSet<HashSet<Point>>();
+        for (var polygon : dcel.getFacePolygons()) {
+            faces.add(new HashSet<>(polygon.points()));
+        }
+        return faces;
+    }
+
+    void assertEdge(Point expectedOrigin, DCHalfEdge actual) {
+        assertEquals(expectedOrigin, actual.getOrigin().getPoint());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+package be.ulbvub.compgeom.utils;
+
+import be.ulbvub.compgeom.decomposition.Decompositions;
+import be.ulbvub.compgeom.generator.PolygonFamilies;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EdgeListArenaTest {
+
+    @ParameterizedTest
+    @EnumSource(value = Decompositions.class, names = {"Triangulation", "Greedy", "Slab", "HertelMehlhorn", "Kd"})
+    void testMatchesPlainDecomposition(Decompositions engine) {
+        final var polygon = PolygonFamilies.Saw.generator(42, 0).generate(60);
+        final var expected = engine.config(polygon).decompose().getFacePolygons();
+
+        final var arena = new EdgeListArena();
+        assertEquals(expected, arena.run(() -> engine.config(polygon).decompose()).getFacePolygons());
+        final var capacity = arena.capacity();
+
+        // The second run reuses everything the first one allocated
+        assertEquals(expected, arena.run(() -> engine.config(polygon).decompose()).getFacePolygons());
+        assertEquals(capacity, arena.capacity());
+    }
+
+    @Test
+    void testGrowsOnlyForLargerPolygons() {
+        final var arena = new EdgeListArena();
+        final var large = PolygonFamilies.Saw.generator(42, 0).generate(100);
+        final var small = PolygonFamilies.Saw.generator(42, 0).generate(20);
+
+        final var first = arena.run(() -> (DoublyConnectedEdgeList) Decompositions.Triangulation.config(large).decompose());
+        final var firstVertex = first.getVertices().get(0);
+        final var capacity = arena.capacity();
+
+        final var second = arena.run(() -> (DoublyConnectedEdgeList) Decompositions.Triangulation.config(small).decompose());
+        assertSame(firstVertex, second.getVertices().get(0));
+        assertSame(first.getVertices(), second.getVertices());
+        assertEquals(capacity, arena.capacity());
+        assertEquals(Decompositions.Triangulation.config(small).decompose().getFacePolygons(), second.getFacePolygons());
+    }
+
+    @Test
+    void testEarlierListsCannotBeEdited() {
+        final var arena = new EdgeListArena();
+        final var polygon = PolygonFamilies.Saw.generator(42, 0).generate(20);
+
+        final var first = arena.run(() -> new DoublyConnectedEdgeList(polygon));
+        // Still the latest run, so the list can be edited after it
+        first.addEdge(first.getVertices().get(0), first.getVertices().get(2));
+        first.freeze();
+
+        final var second = arena.run(() -> (DoublyConnectedEdgeList) Decompositions.Kd.config(polygon).decompose());
+        final var expected = second.getFacePolygons();
+        assertThrows(IllegalStateException.class, () -> first.addEdge(first.getVertices().get(2), first.getVertices().get(4)));
+        assertThrows(IllegalStateException.class, first::removeInessentialDiagonals);
+        assertThrows(IllegalStateException.class, first::freeze);
+        assertEquals(expected, second.getFacePolygons());
+    }
+
+    @Test
+    void testOnlyUsedInsideRuns() {
+        final var arena = new EdgeListArena();
+        final var polygon = PolygonFamilies.Saw.generator(42, 0).generate(20);
+
+        arena.run(() -> Decompositions.Triangulation.config(polygon).decompose());
+        final var capacity = arena.capacity();
+        assertTrue(capacity > 0);
+        Decompositions.Triangulation.config(polygon).decompose();
+        assertEquals(capacity, arena.capacity());
+
+        assertThrows(IllegalStateException.class, () -> arena.run(() -> arena.run(() -> null)));
+        // A failed run does not leave the arena bound to the thread
+        assertNull(EdgeListArena.current());
+    }
+}
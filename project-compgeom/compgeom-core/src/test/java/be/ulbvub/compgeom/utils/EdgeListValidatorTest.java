@@ -0,0 +1,72 @@
+package be.ulbvub.compgeom.utils;
+
+import be.ulbvub.compgeom.decomposition.Decompositions;
+import be.ulbvub.compgeom.generator.PolygonFamilies;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EdgeListValidatorTest {
+
+    private static DoublyConnectedEdgeList square() {
+        return new DoublyConnectedEdgeList(new ArrayList<>() {
+            {
+                add(new Point(0, 0));
+                add(new Point(1, 0));
+                add(new Point(1, 1));
+                add(new Point(0, 1));
+            }
+        });
+    }
+
+    @Test
+    void testEnabledInTests() {
+        assertTrue(EdgeListValidator.ENABLED);
+        assertTrue(EdgeListValidator.sample());
+    }
+
+    @Test
+    void testAcceptsDecompositions() {
+        final var square = square();
+        square.addEdge(square.getVertices().get(0), square.getVertices().get(2));
+        EdgeListValidator.validate(square);
+
+        // The saw used to make the kd decomposition connect a reflex vertex twice to the same neighbour
+        final var saw = PolygonFamilies.Saw.generator(42, 0).generate(40);
+        EdgeListValidator.validate((DoublyConnectedEdgeList) Decompositions.Kd.config(saw).decompose());
+    }
+
+    @Test
+    void testRejectsBrokenLinks() {
+        final var twins = square();
+        final var edge = twins.getEdges().get(0);
+        edge.setTwin(twins.getEdges().get(2));
+        assertThrows(IllegalStateException.class, () -> EdgeListValidator.validate(twins));
+
+        final var faces = square();
+        faces.getEdges().get(0).setFace(null);
+        assertThrows(IllegalStateException.class, () -> EdgeListValidator.validate(faces));
+
+        final var walks = square();
+        // Skips a half edge, so two edges now lead to the same next one
+        walks.getEdges().get(0).setNext(walks.getEdges().get(4));
+        assertThrows(IllegalStateException.class, () -> EdgeListValidator.validate(walks));
+    }
+
+    @Test
+    void testRejectsCrossingEdges() {
+        // A bow tie, its links are consistent but two of its edges cross
+        final var bowTie = new DoublyConnectedEdgeList(new ArrayList<>() {
+            {
+                add(new Point(0, 0));
+                add(new Point(1, 1));
+                add(new Point(1, 0));
+                add(new Point(0, 1));
+            }
+        });
+        final var exception = assertThrows(IllegalStateException.class, () -> EdgeListValidator.validate(bowTie));
+        assertTrue(exception.getMessage().contains("crosses"), exception.getMessage());
+    }
+}
@@ -1,7 +1,6 @@
 package be.ulbvub.compgeom.utils;
 
 import org.junit.jupiter.api.Test;
-import processing.core.PVector;
 
 import java.util.ArrayList;
 
@@ -9,7 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class EventQueueTest {
 
-    private static ArrayList<Event<Object>> createEventsAlong(PVector direction) {
+    private static ArrayList<Event<Object>> createEventsAlong(Point direction) {
         final var events = new ArrayList<Event<Object>>();
 
         for (float i = 0; i < 10; i++) {
@@ -18,7 +17,7 @@ class EventQueueTest {
 
                 @Override
                 public DCVertex getVertex() {
-                    return new DCVertex(direction.copy().mult(finalI));
+                    return new DCVertex(direction.mult(finalI));
                 }
 
                 @Override
@@ -40,7 +39,7 @@ class EventQueueTest {
 
     @Test
     void testXComparator() {
-        var direction = new PVector(1, 0);
+        var direction = new Point(1, 0);
         var queue = EventQueue.fromDirection(direction);
         var order = createEventsAlong(direction);
         queue.addAll(order);
@@ -49,7 +48,7 @@ class EventQueueTest {
 
     @Test
     void testYComparator() {
-        var direction = new PVector(0, 1);
+        var direction = new Point(0, 1);
         var queue = EventQueue.fromDirection(direction);
         var order = createEventsAlong(direction);
         queue.addAll(order);
@@ -58,7 +57,7 @@ class EventQueueTest {
 
     @Test
     void testGeneralComparator() {
-        var direction = new PVector(1, 1);
+        var direction = new Point(1, 1);
         var queue = EventQueue.fromDirection(direction);
         var order = createEventsAlong(direction);
         queue.addAll(order);
@@ -67,7 +66,7 @@ class EventQueueTest {
 
     @Test
     void testGeneralComparator2() {
-        var direction = new PVector(-1, 1);
+        var direction = new Point(-1, 1);
         var queue = EventQueue.fromDirection(direction);
         var order = createEventsAlong(direction);
         queue.addAll(order);
@@ -0,0 +1,112 @@
+package be.ulbvub.compgeom.utils;
+
+import be.ulbvub.compgeom.decomposition.DecompositionConfig;
+import be.ulbvub.compgeom.generator.PolygonGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrozenDecompositionTest {
+
+    @Test
+    void testFacesMatchTheEdgeList() {
+        final var polygon = new PolygonGenerator.SawGenerator().generate(20);
+        final var dcel = new DecompositionConfig.TriangulationConfig(polygon).decompose();
+        final var frozen = dcel.freeze();
+
+        assertEquals(dcel.getFaceCount(), frozen.getFaceCount());
+        assertEquals(dcel.getVertexCount(), frozen.getVertexCount());
+        assertEquals(dcel.getHalfEdgeCount(), frozen.getHalfEdgeCount());
+        assertSame(dcel.getStats(), frozen.getStats());
+        assertEquals(dcel.getFacePolygons(), frozen.getFacePolygons());
+
+        for (var face = 0; face < frozen.getFaceCount(); face++) {
+            final var vertices = dcel.getVerticesOfFace(dcel.getFaces().get(face));
+            assertEquals(vertices.size(), frozen.getFaceSize(face));
+
+            final var packed = new float[2 * frozen.getFaceSize(face)];
+            frozen.copyFace(face, packed);
+            for (var i = 0; i < vertices.size(); i++) {
+                assertEquals(vertices.get(i).getPoint().x, frozen.getX(face, i));
+                assertEquals(vertices.get(i).getPoint().y, frozen.getY(face, i));
+                assertEquals(frozen.getX(face, i), packed[2 * i]);
+                assertEquals(frozen.getY(face, i), packed[2 * i + 1]);
+            }
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> frozen.getX(0, frozen.getFaceSize(0)));
+    }
+
+    @Test
+    void testSnapshotIsNotModified() {
+        final var square = new DoublyConnectedEdgeList(new ArrayList<>() {
+            {
+                add(new Point(0, 0));
+                add(new Point(1, 0));
+                add(new Point(1, 1));
+                add(new Point(0, 1));
+            }
+        });
+        final var frozen = square.freeze();
+
+        square.addEdge(0, 2);
+        assertEquals(2, square.getFaceCount());
+        assertEquals(1, frozen.getFaceCount());
+        assertEquals(4, frozen.getFaceSize(0));
+    }
+
+    @Test
+    void testStatsCanBeAttached() {
+        final var polygon = new PolygonGenerator.SawGenerator().generate(20);
+        final var dcel = new DecompositionConfig.TriangulationConfig(polygon).decompose();
+        final var measured = DecompositionStats.measure("snapshot", polygon, dcel::freeze);
+
+        assertNotSame(dcel.getStats(), measured.getStats());
+        assertEquals("snapshot", measured.getStats().getEngine());
+        assertEquals(dcel.getFacePolygons(), measured.getFacePolygons());
+    }
+
+    @Test
+    void testParallelFaceStreams() {
+        final var polygon = new PolygonGenerator.SawGenerator().generate(200);
+        final var frozen = new DecompositionConfig.TriangulationConfig(polygon).decompose().freeze();
+
+        assertArrayEquals(IntStream.range(0, frozen.getFaceCount()).toArray(), frozen.faceIds().parallel().toArray());
+        assertEquals(frozen.getFaceCount(), frozen.faces().parallel().count());
+        assertEquals(3L * frozen.getFaceCount(), frozen.faces().parallel().mapToInt(FrozenDecomposition.Face::size).sum());
+        assertTrue(frozen.faces().parallel().allMatch(FrozenDecomposition.Face::isConvex));
+
+        // The triangles cover the polygon
+        final var expectedArea = frozen.faces().mapToDouble(FrozenDecomposition.Face::area).sum();
+        assertEquals(expectedArea, frozen.faces().parallel().mapToDouble(FrozenDecomposition.Face::area).sum(), 1e-6 * expectedArea);
+    }
+
+    @Test
+    void testSplitsBalanceVertices() {
+        // One big face followed by many triangles
+        final var points = new ArrayList<Point>();
+        for (var i = 0; i < 40; i++) {
+            final var angle = 2 * Math.PI * i / 40;
+            points.add(new Point((float) Math.cos(angle) * 10, (float) Math.sin(angle) * 10));
+        }
+        final var dcel = new DoublyConnectedEdgeList(points);
+        for (var k = 2; k < 20; k++) {
+            dcel.addEdge(0, k);
+        }
+        final var frozen = dcel.freeze();
+
+        final var suffix = frozen.faceIds().spliterator();
+        final var prefix = suffix.trySplit();
+        assertNotNull(prefix);
+        assertEquals(frozen.getFaceCount(), prefix.getExactSizeIfKnown() + suffix.getExactSizeIfKnown());
+
+        final var prefixVertices = new int[1];
+        prefix.forEachRemaining((int face) -> prefixVertices[0] += frozen.getFaceSize(face));
+        final var suffixVertices = new int[1];
+        suffix.forEachRemaining((int face) -> suffixVertices[0] += frozen.getFaceSize(face));
+        // Splitting in the middle of the faces would put the big face with half of the triangles
+        assertTrue(Math.abs(prefixVertices[0] - suffixVertices[0]) <= 24, prefixVertices[0] + " and " + suffixVertices[0] + " vertices");
+    }
+}
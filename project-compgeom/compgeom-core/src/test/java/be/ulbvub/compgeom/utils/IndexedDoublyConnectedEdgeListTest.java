@@ -0,0 +1,167 @@
+package be.ulbvub.compgeom.utils;
+
+import be.ulbvub.compgeom.Polygon;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexedDoublyConnectedEdgeListTest {
+
+    private static ArrayList<Point> regularPolygon(int n) {
+        final var points = new ArrayList<Point>();
+        for (var i = 0; i < n; i++) {
+            final var angle = 2 * Math.PI * i / n;
+            points.add(new Point((float) Math.cos(angle) * 10, (float) Math.sin(angle) * 10));
+        }
+        return points;
+    }
+
+    /**
+     * Arrow shaped polygon with a single reflex vertex at (2, 1)
+     */
+    private static ArrayList<Point> arrow() {
+        return new ArrayList<>() {
+            {
+                add(new Point(0, 0));
+                add(new Point(2, 1));
+                add(new Point(4, 0));
+                add(new Point(2, 4));
+            }
+        };
+    }
+
+    private static void assertSameFaces(DoublyConnectedEdgeList expected, IndexedDoublyConnectedEdgeList actual) {
+        assertEquals(expected.getFaceCount(), actual.getFaceCount());
+        assertEquals(expected.getVertexCount(), actual.getVertexCount());
+        assertEquals(expected.getHalfEdgeCount(), actual.getHalfEdgeCount());
+        assertEquals(expected.hasReflex(), actual.hasReflex());
+        assertEquals(expected.getFacePolygons(), actual.getFacePolygons());
+        for (var edge = 0; edge < actual.getHalfEdgeCount(); edge++) {
+            assertEquals(edge, actual.prev(actual.next(edge)));
+        }
+    }
+
+    @Test
+    void testSquare() {
+        final var square = new IndexedDoublyConnectedEdgeList(new ArrayList<>() {
+            {
+                add(new Point(0, 0));
+                add(new Point(1, 0));
+                add(new Point(1, 1));
+                add(new Point(0, 1));
+            }
+        });
+
+        assertEquals(1, square.getFaceCount());
+        assertEquals(4, square.getVertexCount());
+        assertEquals(4 * 2, square.getHalfEdgeCount());
+        assertFalse(square.hasReflex());
+
+        for (var edge = 0; edge < square.getHalfEdgeCount(); edge++) {
+            final var twin = IndexedDoublyConnectedEdgeList.twin(edge);
+            assertEquals(square.origin(edge), square.destination(twin));
+            assertEquals(edge, square.prev(square.next(edge)));
+        }
+        assertSameFaces(new DoublyConnectedEdgeList(square.getFacePolygons().get(0)), square);
+    }
+
+    @Test
+    void testFanTriangulationMatchesObjectList() {
+        final var points = regularPolygon(8);
+        final var expected = new DoublyConnectedEdgeList(points);
+        final var actual = new IndexedDoublyConnectedEdgeList(points);
+
+        for (var k = 2; k < 7; k++) {
+            expected.addEdge(0, k);
+            actual.addEdge(0, k);
+            assertSameFaces(expected, actual);
+        }
+        assertEquals(6, actual.getFaceCount());
+        for (var face = 0; face < actual.getFaceCount(); face++) {
+            assertEquals(3, actual.getVerticesOfFace(face).length);
+        }
+    }
+
+    @Test
+    void testAddVertexMatchesObjectList() {
+        final var points = regularPolygon(6);
+        final var expected = new DoublyConnectedEdgeList(points);
+        final var actual = new IndexedDoublyConnectedEdgeList(points);
+
+        // Split two opposite edges in their middle and connect the new vertices
+        for (var i : new int[]{0, 3}) {
+            final var middle = Point.lerp(points.get(i), points.get(i + 1), 0.5f);
+            final var expectedEdge = expected.getVertices().get(i).getEdgeTo(expected.getVertices().get(i + 1));
+            expected.addVertex(expectedEdge, middle);
+            final var vertex = actual.addVertex(actual.getEdgeTo(i, i + 1), middle);
+
+            assertEquals(middle, actual.getPoint(vertex));
+            assertEquals(i + 1, actual.destination(actual.leavingEdge(vertex)));
+            assertSameFaces(expected, actual);
+        }
+
+        expected.addEdge(6, 7);
+        actual.addEdge(6, 7);
+        assertSameFaces(expected, actual);
+        assertEquals(2, actual.getFaceCount());
+        assertEquals(5, actual.getVerticesOfFace(0).length);
+        assertEquals(5, actual.getVerticesOfFace(1).length);
+    }
+
+    @Test
+    void testAddEdgeBetweenVerticesAddedFromOutside() {
+        final var points = regularPolygon(6);
+        final var expected = new DoublyConnectedEdgeList(points);
+        final var actual = new IndexedDoublyConnectedEdgeList(points);
+
+        // Split the outer half edges, the new vertices leave along the outer face
+        for (var i : new int[]{0, 3}) {
+            final var middle = Point.lerp(points.get(i), points.get(i + 1), 0.5f);
+            final var expectedEdge = expected.getVertices().get(i).getEdgeTo(expected.getVertices().get(i + 1));
+            expected.addVertex(expectedEdge.getTwin(), middle);
+            final var vertex = actual.addVertex(IndexedDoublyConnectedEdgeList.twin(actual.getEdgeTo(i, i + 1)), middle);
+            assertEquals(IndexedDoublyConnectedEdgeList.NO_FACE, actual.face(actual.leavingEdge(vertex)));
+        }
+
+        // Both vertices share the outer face, the inner face is still the one to split
+        expected.addEdge(6, 7);
+        actual.addEdge(6, 7);
+        assertSameFaces(expected, actual);
+        assertEquals(2, actual.getFaceCount());
+    }
+
+    @Test
+    void testReflexVertices() {
+        final var expected = new DoublyConnectedEdgeList(arrow());
+        final var actual = new IndexedDoublyConnectedEdgeList(arrow());
+        assertTrue(actual.hasReflex());
+        assertSameFaces(expected, actual);
+
+        // The diagonal from the reflex vertex to the tip resolves it
+        final var reflex = actual.getFacePolygons().get(0).points().indexOf(new Point(2, 1));
+        final var tip = actual.getFacePolygons().get(0).points().indexOf(new Point(2, 4));
+        assertTrue(actual.isReflex(reflex));
+
+        assertTrue(actual.addEdge(reflex, tip));
+        expected.addEdge(reflex, tip);
+        assertFalse(actual.isReflex(reflex));
+        assertSameFaces(expected, actual);
+    }
+
+    @Test
+    void testGrowsPastInitialCapacity() {
+        final var points = regularPolygon(3);
+        final var actual = new IndexedDoublyConnectedEdgeList(new Polygon(points));
+
+        // Keep splitting the first edge, this needs more vertices and half edges than the triangle started with
+        for (var i = 0; i < 20; i++) {
+            actual.addVertex(0, Point.lerp(actual.getPoint(actual.origin(0)), actual.getPoint(actual.destination(0)), 0.5f));
+        }
+
+        assertEquals(23, actual.getVertexCount());
+        assertEquals(46, actual.getHalfEdgeCount());
+        assertEquals(23, actual.getVerticesOfFace(0).length);
+    }
+}
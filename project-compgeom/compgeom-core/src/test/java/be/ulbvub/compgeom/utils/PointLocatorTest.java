@@ -0,0 +1,90 @@
+package be.ulbvub.compgeom.utils;
+
+import be.ulbvub.compgeom.decomposition.Decompositions;
+import be.ulbvub.compgeom.generator.PolygonFamilies;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointLocatorTest {
+
+    /**
+     * Even-odd rule, for the points that are not on an edge
+     */
+    private static boolean contains(FrozenDecomposition.Face face, float x, float y) {
+        var inside = false;
+        for (int i = 0, j = face.size() - 1; i < face.size(); j = i++) {
+            if ((face.y(i) > y) != (face.y(j) > y)
+                    && x < (face.x(j) - face.x(i)) * (y - face.y(i)) / (face.y(j) - face.y(i)) + face.x(i)) {
+                inside = !inside;
+            }
+        }
+        return inside;
+    }
+
+    // The slab decomposition is left out, as it can output a face that crosses itself on this polygon
+    @ParameterizedTest
+    @EnumSource(value = Decompositions.class, names = {"Triangulation", "HertelMehlhorn"})
+    void testMatchesLinearScan(Decompositions engine) {
+        final var polygon = PolygonFamilies.Star.generator(42, 0.3f).generate(100);
+        final var frozen = ((DoublyConnectedEdgeList) engine.config(polygon).decompose()).freeze();
+        final var locator = new PointLocator(frozen);
+
+        var minX = Float.MAX_VALUE;
+        var minY = Float.MAX_VALUE;
+        var maxX = -Float.MAX_VALUE;
+        var maxY = -Float.MAX_VALUE;
+        for (var point : polygon.points()) {
+            minX = Math.min(minX, point.x);
+            minY = Math.min(minY, point.y);
+            maxX = Math.max(maxX, point.x);
+            maxY = Math.max(maxY, point.y);
+        }
+
+        // Sample a margin around the polygon too, to get points outside of it
+        final var random = new Random(42);
+        final var points = new float[2 * 2000];
+        for (var i = 0; i < points.length; i += 2) {
+            points[i] = minX - 10 + random.nextFloat() * (maxX - minX + 20);
+            points[i + 1] = minY - 10 + random.nextFloat() * (maxY - minY + 20);
+        }
+
+        final var located = locator.locateAll(points);
+        var inside = 0;
+        for (var i = 0; i < located.length; i++) {
+            final var x = points[2 * i];
+            final var y = points[2 * i + 1];
+            final var expected = frozen.faces().filter(face -> contains(face, x, y)).mapToInt(FrozenDecomposition.Face::id).findFirst().orElse(PointLocator.OUTSIDE);
+            assertEquals(expected, located[i], "Point (" + x + ", " + y + ")");
+            assertEquals(expected, locator.locate(x, y));
+            if (expected != PointLocator.OUTSIDE) {
+                inside++;
+            }
+        }
+        assertTrue(inside > 0);
+        assertTrue(inside < located.length);
+    }
+
+    @Test
+    void testSpaceIsLinearithmic() {
+        // Long edges across many slabs, a map with a sorted list per slab needs a quadratic amount of entries here
+        final var polygon = PolygonFamilies.Star.generator(42, 0.3f).generate(4000);
+        final var frozen = ((DoublyConnectedEdgeList) Decompositions.Triangulation.config(polygon).decompose()).freeze();
+        final var locator = new PointLocator(frozen);
+
+        final var edges = frozen.coordinates().limit() / 2;
+        final var log = 32 - Integer.numberOfLeadingZeros(edges);
+        assertTrue(locator.getNodeCount() <= 2 * edges * log, locator.getNodeCount() + " nodes for " + edges + " edges");
+    }
+
+    @Test
+    void testRejectsOddCoordinates() {
+        final var polygon = PolygonFamilies.Star.generator(42, 0.3f).generate(10);
+        final var locator = new PointLocator(((DoublyConnectedEdgeList) Decompositions.Triangulation.config(polygon).decompose()).freeze());
+        assertThrows(IllegalArgumentException.class, () -> locator.locateAll(new float[3]));
+    }
+}
@@ -0,0 +1,32 @@
+package be.ulbvub.compgeom.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+class PointTest {
+
+    @Test
+    void operationsReturnANewPoint() {
+        final var point = new Point(1, 2);
+
+        final var result = point.add(new Point(2, 2)).sub(new Point(1, 0)).mult(2);
+        assertEquals(new Point(4, 8), result);
+        assertNotSame(point, result);
+        assertEquals(new Point(1, 2), point);
+        assertEquals(5, new Point(0, 0).dist(new Point(3, 4)));
+        assertEquals(new Point(1, 3), Point.lerp(new Point(0, 2), new Point(2, 4), 0.5f));
+    }
+
+    @Test
+    void signedZeroIsTheSamePosition() {
+        final var index = new HashMap<Point, String>();
+        index.put(new Point(0.0f, 1), "vertex");
+
+        assertEquals(new Point(0.0f, 1), new Point(-0.0f, 1));
+        assertEquals("vertex", index.get(new Point(-0.0f, 1)));
+    }
+}
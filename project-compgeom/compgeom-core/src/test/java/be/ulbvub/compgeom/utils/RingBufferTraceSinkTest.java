@@ -0,0 +1,39 @@
+package be.ulbvub.compgeom.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingBufferTraceSinkTest {
+
+    @Test
+    void testKeepsEventsInOrder() {
+        final var sink = new RingBufferTraceSink(4);
+        sink.record("a");
+        sink.record("b");
+
+        assertEquals(List.of("a", "b"), sink.snapshot());
+        assertEquals(0, sink.dropped());
+    }
+
+    @Test
+    void testOverwritesOldestEvents() {
+        final var sink = new RingBufferTraceSink(3);
+        for (var i = 0; i < 7; i++) {
+            sink.record("event " + i);
+        }
+
+        assertEquals(List.of("event 4", "event 5", "event 6"), sink.snapshot());
+        assertEquals(4, sink.dropped());
+
+        sink.clear();
+        assertTrue(sink.snapshot().isEmpty());
+    }
+
+    @Test
+    void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new RingBufferTraceSink(0));
+    }
+}
@@ -1,21 +1,21 @@
 package be.ulbvub.compgeom.utils;
 
 import org.junit.jupiter.api.Test;
-import processing.core.PVector;
 
 import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 class SweepLineTest {
 
-    private static ArrayList<Line> createLinesAlong(PVector direction) {
+    private static ArrayList<Line> createLinesAlong(Point direction) {
         final var lines = new ArrayList<Line>();
 
         for (float i = 0; i < 10; i++) {
             var line = new Line(
-                    direction.copy().mult(i * 2),
-                    direction.copy().mult(i * 2).add(direction)
+                    direction.mult(i * 2),
+                    direction.mult(i * 2).add(direction)
             );
             lines.add(line);
         }
@@ -39,7 +39,7 @@ class SweepLineTest {
 
     @Test
     void testXComparatorStraight() {
-        var direction = new PVector(1, 0);
+        var direction = new Point(1, 0);
         var sweepline = SweepLine.fromDirection(direction);
         var order = createLinesAlong(direction);
         sweepline.addAll(order);
@@ -48,11 +48,11 @@ class SweepLineTest {
 
     @Test
     void testXComparatorAbove() {
-        var direction = new PVector(1, 0);
+        var direction = new Point(1, 0);
         var sweepline = SweepLine.fromDirection(direction);
         var order = createLinesAlong(direction);
         for (var item : order) {
-            item.end().add(new PVector(1, 1));
+            item.end().add(new Point(1, 1));
         }
         sweepline.addAll(order);
         checkInCorrectOrder(order, sweepline);
@@ -60,11 +60,11 @@ class SweepLineTest {
 
     @Test
     void testXComparatorBelow() {
-        var direction = new PVector(1, 0);
+        var direction = new Point(1, 0);
         var sweepline = SweepLine.fromDirection(direction);
         var order = createLinesAlong(direction);
         for (var item : order) {
-            item.end().add(new PVector(1, -1));
+            item.end().add(new Point(1, -1));
         }
         sweepline.addAll(order);
         checkInCorrectOrderReverse(order, sweepline);
@@ -72,13 +72,13 @@ class SweepLineTest {
 
     @Test
     void testXComparatorIndentHorizontal() {
-        var sweepline = SweepLine.fromDirection(new PVector(1, 0));
-        var higher = new Line(new PVector(343.0f, 448.58777f), new PVector(516.0f, 450.0f));
-        var lower = new Line(new PVector(343.0f, 241.70114f), new PVector(530.0f, 246.0f));
+        var sweepline = SweepLine.fromDirection(new Point(1, 0));
+        var higher = new Line(new Point(343.0f, 448.58777f), new Point(516.0f, 450.0f));
+        var lower = new Line(new Point(343.0f, 241.70114f), new Point(530.0f, 246.0f));
         sweepline.add(higher);
         sweepline.add(lower);
 
-        var reflexPoint = new Line(new PVector(413.0f, 328.0f), new PVector(414.0f, 328.0f));
+        var reflexPoint = new Line(new Point(413.0f, 328.0f), new Point(414.0f, 328.0f));
         var comparator = new SweepLine.XComparator();
 
         assertEquals(-1, comparator.compare(reflexPoint, higher));
@@ -90,9 +90,24 @@ class SweepLineTest {
         assertEquals(lower, sweepline.lower(reflexPoint));
     }
 
+    @Test
+    void testXComparatorRisingPastReflex() {
+        // Both edges pass below the reflex point, the first one rises above its height only further to the right
+        var sweepline = SweepLine.fromDirection(new Point(1, 0));
+        var rising = new Line(new Point(283.27087f, 227.65985f), new Point(358.91086f, 297.03537f));
+        var falling = new Line(new Point(283.27087f, 227.65985f), new Point(299.66785f, 3.8515806f));
+        sweepline.add(rising);
+        sweepline.add(falling);
+
+        var reflexPoint = new Line(new Point(292.2796f, 255.41505f), new Point(293.2796f, 255.41505f));
+
+        assertEquals(rising, sweepline.lower(reflexPoint));
+        assertNull(sweepline.higher(reflexPoint));
+    }
+
     @Test
     void testYComparator() {
-        var direction = new PVector(0, 1);
+        var direction = new Point(0, 1);
         var sweepline = SweepLine.fromDirection(direction);
         var order = createLinesAlong(direction);
         sweepline.addAll(order);
@@ -101,7 +116,7 @@ class SweepLineTest {
 
     @Test
     void testGeneralComparator() {
-        var direction = new PVector(1, 1);
+        var direction = new Point(1, 1);
         var sweepline = SweepLine.fromDirection(direction);
         var order = createLinesAlong(direction);
         sweepline.addAll(order);
@@ -110,7 +125,7 @@ class SweepLineTest {
 
     @Test
     void testGeneralComparator2() {
-        var direction = new PVector(-1, 1);
+        var direction = new Point(-1, 1);
         var sweepline = SweepLine.fromDirection(direction);
         var order = createLinesAlong(direction);
         sweepline.addAll(order);
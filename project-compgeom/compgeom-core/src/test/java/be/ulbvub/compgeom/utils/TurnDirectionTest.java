@@ -0,0 +1,30 @@
+package be.ulbvub.compgeom.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TurnDirectionTest {
+
+    @Test
+    void orientation() {
+        var p1 = new Point(0, 0);
+        var p2 = new Point(1, 0);
+        var p3 = new Point(1, 1);
+        var p4 = new Point(1, -1);
+
+        assertEquals(TurnDirection.RIGHT, TurnDirection.orientation(p1, p2, p3));
+        assertEquals(TurnDirection.LEFT, TurnDirection.orientation(p1, p2, p4));
+    }
+
+    @Test
+    void orientationById() {
+        final float[] x = {0, 1, 1, 1};
+        final float[] y = {0, 0, 1, -1};
+
+        assertEquals(TurnDirection.RIGHT, TurnDirection.orientation(x, y, 0, 1, 2));
+        assertEquals(TurnDirection.LEFT, TurnDirection.orientation(x, y, 0, 1, 3));
+        assertEquals(TurnDirection.STRAIGHT, TurnDirection.orientation(x, y, 0, 1, 1));
+        assertEquals(TurnDirection.orientationRaw(x[3], y[3], x[2], y[2], x[0], y[0]), TurnDirection.orientationRaw(x, y, 3, 2, 0));
+    }
+}
@@ -1,11 +1,18 @@
 package be.ulbvub.compgeom;
 
+import be.ulbvub.compgeom.cli.BatchCli;
 import processing.core.PApplet;
 
 // Press Shift twice to open the Search Everywhere dialog and type `show whitespaces`,
 // then press Enter. You can now see whitespace characters in your code.
 public class Main {
     public static void main(String[] args) {
+        // Batch mode never touches the sketch, so Processing, JOGL and Swing stay uninitialised
+        if (args.length > 0 && args[0].equals(BatchCli.FLAG)) {
+            BatchCli.main(args);
+            return;
+        }
+
         PApplet.main(MainScreen.class, args);
     }
-}
\ No newline at end of file
+}
@@ -85,7 +85,9 @@ public class MainScreen extends PApplet {
                 showDCEL = true;
                 if (config.polygon().points().size() > 3) {
                     dcel = config.decompose();
-                    JOptionPane.showMessageDialog(frame, "Decomposition complete");
+                    final var stats = dcel.getStats();
+                    JOptionPane.showMessageDialog(frame, "Decomposition complete: " + dcel.getFaceCount() + " faces in "
+                            + stats.getTotalNanos() / 1_000 + "us with " + stats.getEngine());
                 } else {
                     JOptionPane.showMessageDialog(
                             frame,
@@ -152,12 +154,12 @@ public class MainScreen extends PApplet {
                     StackBox.with(ctx)
                             .draw((ctx1) -> {
                                 if (dcel != null && showDCEL)
-                                    dcel.draw(ctx);
+                                    Renderers.draw(ctx, dcel);
                                 else
                                     polygonRegion.draw(ctx);
 
                                 if (minkowskiSecondShape != null) {
-                                    minkowskiSecondShape.draw(ctx1);
+                                    Renderers.draw(ctx1, minkowskiSecondShape);
                                 }
                             }).draw((ctx2) -> {
                                 // Draw statistics
@@ -1,7 +1,9 @@
 package be.ulbvub.compgeom.ui;
 
 import be.ulbvub.compgeom.Polygon;
-import processing.core.PVector;
+import be.ulbvub.compgeom.decomposition.DecompositionConfig;
+import be.ulbvub.compgeom.decomposition.Decompositions;
+import be.ulbvub.compgeom.utils.Point;
 
 import javax.swing.*;
 import java.awt.*;
@@ -24,7 +26,7 @@ public class DecompositionConfigFrame extends JFrame {
         contentPane.setLayout(new BoxLayout(contentPane, BoxLayout.PAGE_AXIS));
         contentPane.add(new JLabel("Decomposition configuration"));
 
-        final var algorithmSelector = Decompositions.getCombobox();
+        final var algorithmSelector = getAlgorithmCombobox();
         contentPane.add(algorithmSelector);
         algorithmSelector.addActionListener((evt) -> {
             config.removeAll();
@@ -33,6 +35,7 @@ public class DecompositionConfigFrame extends JFrame {
                 case Greedy -> config.add(new GreedyConfigPane());
                 case Slab -> config.add(new SlabConfigPane());
                 case Kd -> config.add(new KdConfigPane());
+                case HertelMehlhorn -> config.add(new HertelMehlhornConfigPane());
                 case Chazelle -> config.add(new ChazelleConfigPane());
                 default -> {
                 }
@@ -72,6 +75,13 @@ public class DecompositionConfigFrame extends JFrame {
         contentPane.add(paneBtn);
     }
 
+    public static JComboBox<Decompositions> getAlgorithmCombobox() {
+        final var options = Decompositions.values();
+        final var box = new JComboBox<>(options);
+        box.setSelectedIndex(0);
+        return box;
+    }
+
     public void setListener(Consumer<DecompositionConfig> listener) {
         this.listener = listener;
     }
@@ -89,7 +99,7 @@ public class DecompositionConfigFrame extends JFrame {
 
         @Override
         public DecompositionConfig.SlabConfig config(Polygon polygon) {
-            return new DecompositionConfig.SlabConfig(new PVector(0, 1), polygon);
+            return new DecompositionConfig.SlabConfig(new Point(0, 1), polygon);
         }
     }
 
@@ -114,6 +124,13 @@ public class DecompositionConfigFrame extends JFrame {
         }
     }
 
+    public static class HertelMehlhornConfigPane extends ConfigPanel {
+        @Override
+        public DecompositionConfig config(Polygon polygon) {
+            return new DecompositionConfig.HertelMehlhornConfig(polygon);
+        }
+    }
+
     public static class ChazelleConfigPane extends ConfigPanel {
         @Override
         public DecompositionConfig config(Polygon polygon) {
@@ -1,6 +1,5 @@
 package be.ulbvub.compgeom.ui;
 
-import be.ulbvub.compgeom.utils.Region;
 import processing.core.PApplet;
 import processing.core.PVector;
 
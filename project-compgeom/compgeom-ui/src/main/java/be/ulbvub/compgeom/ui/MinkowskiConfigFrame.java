@@ -1,7 +1,10 @@
 package be.ulbvub.compgeom.ui;
 
 import be.ulbvub.compgeom.Polygon;
-import processing.core.PVector;
+import be.ulbvub.compgeom.decomposition.Decompositions;
+import be.ulbvub.compgeom.decomposition.DecompositionConfig;
+import be.ulbvub.compgeom.minkowski.MinkowskiConfig;
+import be.ulbvub.compgeom.utils.Point;
 
 import javax.swing.*;
 import java.awt.*;
@@ -26,7 +29,7 @@ public class MinkowskiConfigFrame extends JFrame {
         contentPane.setLayout(new BoxLayout(contentPane, BoxLayout.PAGE_AXIS));
         contentPane.add(new JLabel("Decomposition configuration"));
 
-        final var algorithmSelector = Decompositions.getCombobox();
+        final var algorithmSelector = DecompositionConfigFrame.getAlgorithmCombobox();
         contentPane.add(algorithmSelector);
         algorithmSelector.addActionListener((evt) -> {
             decomposeConfig.removeAll();
@@ -35,6 +38,7 @@ public class MinkowskiConfigFrame extends JFrame {
                 case Greedy -> decomposeConfig.add(new DecompositionConfigFrame.GreedyConfigPane());
                 case Slab -> decomposeConfig.add(new DecompositionConfigFrame.SlabConfigPane());
                 case Kd -> decomposeConfig.add(new DecompositionConfigFrame.KdConfigPane());
+                case HertelMehlhorn -> decomposeConfig.add(new DecompositionConfigFrame.HertelMehlhornConfigPane());
                 default -> {
                 }
             }
@@ -137,7 +141,7 @@ public class MinkowskiConfigFrame extends JFrame {
 
         @Override
         public Polygon config() {
-            final var points = new ArrayList<PVector>();
+            final var points = new ArrayList<Point>();
             float width;
             float height;
             try {
@@ -153,10 +157,10 @@ public class MinkowskiConfigFrame extends JFrame {
                 height = 50;
             }
 
-            points.add(new PVector(0, 0));
-            points.add(new PVector(width, 0));
-            points.add(new PVector(width, height));
-            points.add(new PVector(0, height));
+            points.add(new Point(0, 0));
+            points.add(new Point(width, 0));
+            points.add(new Point(width, height));
+            points.add(new Point(0, height));
 
             return new Polygon(points);
         }
@@ -181,7 +185,7 @@ public class MinkowskiConfigFrame extends JFrame {
 
         @Override
         public Polygon config() {
-            final var points = new ArrayList<PVector>();
+            final var points = new ArrayList<Point>();
             float radius;
             int steps;
             try {
@@ -198,8 +202,8 @@ public class MinkowskiConfigFrame extends JFrame {
             }
 
             for (var i = 0f; i < Math.TAU; i += (float) (Math.TAU / (float) steps)) {
-                points.add(new PVector((float) (radius * Math.cos(i)), (float) (radius * Math.sin(i)))
-                        .add(new PVector(radius, radius)));
+                points.add(new Point((float) (radius * Math.cos(i)), (float) (radius * Math.sin(i)))
+                        .add(new Point(radius, radius)));
             }
 
             return new Polygon(points);
@@ -225,7 +229,7 @@ public class MinkowskiConfigFrame extends JFrame {
 
         @Override
         public Polygon config() {
-            final var points = new ArrayList<PVector>();
+            final var points = new ArrayList<Point>();
             float width;
             float height;
             try {
@@ -241,9 +245,9 @@ public class MinkowskiConfigFrame extends JFrame {
                 height = 50;
             }
 
-            points.add(new PVector(0, 0));
-            points.add(new PVector(width / 2, height));
-            points.add(new PVector(width, 0));
+            points.add(new Point(0, 0));
+            points.add(new Point(width / 2, height));
+            points.add(new Point(width, 0));
 
             return new Polygon(points);
         }
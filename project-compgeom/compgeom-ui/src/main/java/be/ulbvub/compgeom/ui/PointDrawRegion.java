@@ -1,9 +1,7 @@
 package be.ulbvub.compgeom.ui;
 
 import be.ulbvub.compgeom.Polygon;
-import be.ulbvub.compgeom.ui.DrawContext;
-import be.ulbvub.compgeom.ui.Drawable;
-import processing.core.PVector;
+import be.ulbvub.compgeom.utils.Point;
 
 import java.util.ArrayList;
 import java.util.function.BiConsumer;
@@ -11,25 +9,26 @@ import java.util.function.BiConsumer;
 public class PointDrawRegion implements Drawable {
 
     private Polygon polygon;
-    private BiConsumer<PVector, Polygon> listener;
+    private BiConsumer<Point, Polygon> listener;
 
     public PointDrawRegion() {
         polygon = new Polygon(new ArrayList<>());
     }
 
-    public void setListener(BiConsumer<PVector, Polygon> listener) {
+    public void setListener(BiConsumer<Point, Polygon> listener) {
         this.listener = listener;
     }
 
     @Override
     public void draw(DrawContext context) {
         if (context.mouseClicked() != null) {
-            final var point = context.region().toLocalPoint(context.mouseClicked().position());
+            final var local = context.region().toLocalPoint(context.mouseClicked().position());
+            final var point = new Point(local.x, local.y);
             polygon.points().add(point);
             if (listener != null)
                 listener.accept(point, polygon);
         }
-        polygon.draw(context);
+        Renderers.draw(context, polygon);
     }
 
     public Polygon getPolygon() {
@@ -1,5 +1,6 @@
-package be.ulbvub.compgeom.utils;
+package be.ulbvub.compgeom.ui;
 
+import be.ulbvub.compgeom.utils.Utils;
 import processing.core.PVector;
 
 public record Region(PVector start, PVector size) {
@@ -0,0 +1,153 @@
+package be.ulbvub.compgeom.ui;
+
+import be.ulbvub.compgeom.Polygon;
+import be.ulbvub.compgeom.decomposition.PolygonGroup;
+import be.ulbvub.compgeom.minkowski.MinkowskiSum;
+import be.ulbvub.compgeom.utils.CalculationResult;
+import be.ulbvub.compgeom.utils.DCFace;
+import be.ulbvub.compgeom.utils.DCHalfEdge;
+import be.ulbvub.compgeom.utils.DCVertex;
+import be.ulbvub.compgeom.utils.DoublyConnectedEdgeList;
+import be.ulbvub.compgeom.utils.FrozenDecomposition;
+import processing.core.PConstants;
+
+import java.util.Random;
+
+/**
+ * Draws the geometry of the core module.
+ * The core types do not know anything about rendering, all drawing code lives here.
+ */
+public final class Renderers {
+
+    private Renderers() {
+    }
+
+    public static void draw(final DrawContext context, final Polygon polygon) {
+        // claim all space by default as we do not have a fixed size on the polygon
+        context.claimRegion(context.size());
+
+        context.applyStyle();
+        final var applet = context.applet();
+        final var points = polygon.points();
+
+        for (var point : points) {
+            applet.circle(point.x, point.y, context.style().getPointSize());
+        }
+
+        for (var i = 0; i < points.size(); i++) {
+            var start = points.get(i);
+            var end = points.get((i + 1) % points.size());
+            applet.line(start.x, start.y, end.x, end.y);
+        }
+    }
+
+    public static void draw(final DrawContext context, final CalculationResult result) {
+        if (result instanceof DoublyConnectedEdgeList dcel) {
+            drawEdgeList(context, dcel);
+        } else if (result instanceof PolygonGroup group) {
+            drawPolygonGroup(context, group);
+        } else if (result instanceof FrozenDecomposition frozen) {
+            drawFrozenDecomposition(context, frozen);
+        } else if (result instanceof MinkowskiSum sum) {
+            drawMinkowskiSum(context, sum);
+        } else {
+            throw new IllegalArgumentException("No renderer for " + result.getClass().getName());
+        }
+    }
+
+    private static void drawEdgeList(final DrawContext context, final DoublyConnectedEdgeList dcel) {
+        context.applyStyle();
+        final var applet = context.applet();
+
+        Random rand = new Random();
+        for (DCFace face : dcel.getFaces()) {
+
+            rand.setSeed(face.hashCode());
+            applet.fill(rand.nextInt(50, 200), rand.nextInt(50, 200), rand.nextInt(50, 200));
+            applet.beginShape();
+            for (DCVertex vertex : dcel.getVerticesOfFace(face)) {
+                float x = vertex.getPoint().x;
+                float y = vertex.getPoint().y;
+                applet.vertex(x, y);
+            }
+            applet.endShape(PConstants.CLOSE);
+        }
+
+        for (DCHalfEdge edge : dcel.getEdges()) {
+            var start = edge.getOrigin().getPoint();
+            var end = edge.getDestination().getPoint();
+            applet.line(start.x, start.y, end.x, end.y);
+        }
+        for (DCVertex vertex : dcel.getVertices()) {
+            applet.circle(vertex.getPoint().x, vertex.getPoint().y, context.style().getPointSize());
+        }
+    }
+
+    private static void drawPolygonGroup(final DrawContext context, final PolygonGroup group) {
+        // claim all space by default as we do not have a fixed size on the polygon
+        context.claimRegion(context.size());
+
+        context.applyStyle();
+        final var applet = context.applet();
+
+        Random rand = new Random();
+        for (var polygon : group.polygons()) {
+
+            // Draw faces
+            rand.setSeed(polygon.hashCode());
+            applet.fill(rand.nextInt(50, 200), rand.nextInt(50, 200), rand.nextInt(50, 200));
+            applet.beginShape();
+            for (var point : polygon.points()) {
+                applet.vertex(point.x, point.y);
+            }
+            applet.endShape(PConstants.CLOSE);
+
+            // Draw edges
+            for (var i = 0; i < polygon.points().size(); i++) {
+                var start = polygon.points().get(i);
+                var end = polygon.points().get((i + 1) % polygon.points().size());
+                applet.line(start.x, start.y, end.x, end.y);
+            }
+
+            // Draw vertices
+            for (var point : polygon.points()) {
+                applet.circle(point.x, point.y, context.style().getPointSize());
+            }
+        }
+    }
+
+    private static void drawFrozenDecomposition(final DrawContext context, final FrozenDecomposition frozen) {
+        context.applyStyle();
+        final var applet = context.applet();
+
+        Random rand = new Random();
+        for (var face = 0; face < frozen.getFaceCount(); face++) {
+            rand.setSeed(face);
+            applet.fill(rand.nextInt(50, 200), rand.nextInt(50, 200), rand.nextInt(50, 200));
+            applet.beginShape();
+            for (var i = 0; i < frozen.getFaceSize(face); i++) {
+                applet.vertex(frozen.getX(face, i), frozen.getY(face, i));
+            }
+            applet.endShape(PConstants.CLOSE);
+
+            for (var i = 0; i < frozen.getFaceSize(face); i++) {
+                applet.circle(frozen.getX(face, i), frozen.getY(face, i), context.style().getPointSize());
+            }
+        }
+    }
+
+    private static void drawMinkowskiSum(final DrawContext context, final MinkowskiSum sum) {
+        context.applyStyle();
+        final var applet = context.applet();
+
+        int[] color = {50, 200, 50};
+        for (var polygon : sum.getFacePolygons()) {
+            applet.fill(color[0], color[1], color[2], 100f);
+            applet.beginShape();
+            for (var point : polygon.points()) {
+                applet.vertex(point.x, point.y);
+            }
+            applet.endShape(PConstants.CLOSE);
+        }
+    }
+}
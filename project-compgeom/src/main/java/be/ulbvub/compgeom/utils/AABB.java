@@ -1,6 +0,0 @@
-package be.ulbvub.compgeom.utils;
-
-import processing.core.PVector;
-
-public record AABB(PVector min, PVector max) {
-}